@@ -0,0 +1,134 @@
+package com.rfid.circularlabs_rfid_backend.scan;
+
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
+import com.rfid.circularlabs_rfid_backend.scan.domain.RfidScanHistory;
+import com.rfid.circularlabs_rfid_backend.scan.response.ProductDetailscanResponseDto;
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanHistoryAssembler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScanHistoryAssemblyBenchmark {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [입고 / 회수 스캔 이력 조립 벤치마크]
+    // 입고 / 회수 처리 중 DB 를 거치지 않는 ScanHistoryAssembler 연산을 태그 수별로 측정
+    // (배치 결과로 ProductDetailHistory 생성, 제품별 수량 집계, 저장된 RfidScanHistory 에 ProductDetailHistory 연결)
+    // 태그는 제품 20 종 / 고객사 5 곳에 고르게 나뉘고, 10 개 중 1 개는 1 시간 이내 재스캔(dataState 3)으로 제외됨
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final String SUPPLIER_CODE = "CCA2310";
+    private static final String CLIENT_CODE = "CLIENT0";
+    private static final int PRODUCT_KINDS = 20;
+    private static final int CLIENT_KINDS = 5;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int tagCount;
+
+    private List<ProductDetailscanResponseDto> inResponses;
+    private List<ProductDetailscanResponseDto> returnResponses;
+    private List<ProductDetailHistory> inHistories;
+    private List<ProductDetailHistory> returnHistories;
+    private List<RfidScanHistory> inScanHistories;
+    private List<RfidScanHistory> returnScanHistories;
+
+    @Setup
+    public void setUp() {
+        inResponses = responses(false);
+        returnResponses = responses(true);
+        inHistories = ScanHistoryAssembler.inHistories(inResponses, SUPPLIER_CODE, CLIENT_CODE);
+        returnHistories = ScanHistoryAssembler.returnHistories(returnResponses, SUPPLIER_CODE);
+
+        // 처리 로직과 동일하게 (고객사, 제품) 별로 RfidScanHistory 하나씩 저장된 상태
+        inScanHistories = scanHistories(ScanHistoryAssembler.groupByClient(inHistories));
+        returnScanHistories = scanHistories(ScanHistoryAssembler.groupByClient(returnHistories));
+    }
+
+    @Benchmark
+    public List<ProductDetailHistory> buildInHistories() {
+        return ScanHistoryAssembler.inHistories(inResponses, SUPPLIER_CODE, CLIENT_CODE);
+    }
+
+    @Benchmark
+    public List<ProductDetailHistory> buildReturnHistories() {
+        return ScanHistoryAssembler.returnHistories(returnResponses, SUPPLIER_CODE);
+    }
+
+    @Benchmark
+    public Map<String, Long> countInByProduct() {
+        return ScanHistoryAssembler.countByProduct(inHistories);
+    }
+
+    @Benchmark
+    public void countReturnByClientAndProduct(Blackhole blackhole) {
+        ScanHistoryAssembler.groupByClient(returnHistories)
+                .values()
+                .forEach(eachClientHistories -> blackhole.consume(ScanHistoryAssembler.countByProduct(eachClientHistories)));
+    }
+
+    @Benchmark
+    public List<ProductDetailHistory> linkInHistories() {
+        return ScanHistoryAssembler.linkToScanHistories(inScanHistories, inHistories);
+    }
+
+    @Benchmark
+    public List<ProductDetailHistory> linkReturnHistories() {
+        return ScanHistoryAssembler.linkToScanHistories(returnScanHistories, returnHistories);
+    }
+
+    // 배치 결과 (회수는 기존 제품의 고객사가 제각각)
+    private List<ProductDetailscanResponseDto> responses(boolean returnScan) {
+        List<ProductDetailscanResponseDto> responses = new ArrayList<>(tagCount);
+        String now = LocalDateTime.now().toString();
+
+        for (int i = 0; i < tagCount; i++) {
+            int dataState = i % 10 == 9 ? 3 : i % 2;
+
+            responses.add(ProductDetailscanResponseDto.builder()
+                    .rfidChipCode("RFID" + i)
+                    .productSerialCode("SERIAL" + i)
+                    .productCode("PRODUCT" + i % PRODUCT_KINDS)
+                    .supplierCode(SUPPLIER_CODE)
+                    .clientCode(returnScan ? "CLIENT" + i % CLIENT_KINDS : CLIENT_CODE)
+                    .status(returnScan ? "회수" : "입고")
+                    .cycle(i % 7)
+                    .latestReadingAt(now)
+                    .dataState(dataState)
+                    .build());
+        }
+
+        return responses;
+    }
+
+    private static List<RfidScanHistory> scanHistories(Map<String, List<ProductDetailHistory>> historiesByClient) {
+        List<RfidScanHistory> scanHistories = new ArrayList<>();
+
+        historiesByClient.forEach((clientCode, clientHistories) ->
+                ScanHistoryAssembler.countByProduct(clientHistories).forEach((productCode, count) ->
+                        scanHistories.add(RfidScanHistory.builder()
+                                .rfidChipCode("null")
+                                .productCode(productCode)
+                                .supplierCode(SUPPLIER_CODE)
+                                .clientCode(clientCode)
+                                .statusCount(count.intValue())
+                                .latestReadingAt(LocalDateTime.now())
+                                .build())));
+
+        return scanHistories;
+    }
+}
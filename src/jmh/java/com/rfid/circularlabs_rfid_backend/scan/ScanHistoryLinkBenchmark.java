@@ -0,0 +1,107 @@
+package com.rfid.circularlabs_rfid_backend.scan;
+
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
+import com.rfid.circularlabs_rfid_backend.scan.domain.RfidScanHistory;
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanHistoryAssembler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScanHistoryLinkBenchmark {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [ProductDetailHistory - RfidScanHistory 연결 확장성 벤치마크]
+    // 제품 종류 수가 태그 수에 비례해 늘어나는 경우(키 하나당 태그 tagsPerKey 개)의 연결 시간 비교
+    // hashJoin : ScanHistoryAssembler.linkToScanHistories (키 묶음 한 번 + 키 조회, 태그 수에 선형)
+    // nestedFilter : 이전 구현 (스캔 이력마다 전체 목록 필터 + 엔티티 재생성, 태그 수 x 스캔 이력 수)
+    // 태그 수가 10 배 늘 때 hashJoin 의 op 당 시간 / 할당량(gc.alloc.rate.norm)도 약 10 배만 늘어야 함
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final String SUPPLIER_CODE = "CCA2310";
+    private static final String CLIENT_CODE = "CLIENT0";
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int tagCount;
+
+    @Param({"50"})
+    private int tagsPerKey;
+
+    private List<ProductDetailHistory> histories;
+    private List<RfidScanHistory> scanHistories;
+
+    @Setup
+    public void setUp() {
+        int productKinds = Math.max(1, tagCount / tagsPerKey);
+        LocalDateTime now = LocalDateTime.now();
+
+        histories = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            histories.add(ProductDetailHistory.builder()
+                    .rfidChipCode("RFID" + i)
+                    .productSerialCode("SERIAL" + i)
+                    .productCode("PRODUCT" + i % productKinds)
+                    .supplierCode(SUPPLIER_CODE)
+                    .clientCode(CLIENT_CODE)
+                    .status("입고")
+                    .cycle(i % 7)
+                    .latestReadingAt(now)
+                    .build());
+        }
+
+        scanHistories = new ArrayList<>(productKinds);
+        for (int i = 0; i < productKinds; i++) {
+            scanHistories.add(RfidScanHistory.builder()
+                    .rfidChipCode("null")
+                    .productCode("PRODUCT" + i)
+                    .supplierCode(SUPPLIER_CODE)
+                    .clientCode(CLIENT_CODE)
+                    .status("입고")
+                    .latestReadingAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ProductDetailHistory> hashJoin() {
+        return ScanHistoryAssembler.linkToScanHistories(scanHistories, histories);
+    }
+
+    @Benchmark
+    public List<ProductDetailHistory> nestedFilter() {
+        List<ProductDetailHistory> linkedHistories = new ArrayList<>();
+
+        scanHistories.forEach(eachRfidScanHistory -> linkedHistories.addAll(histories.stream()
+                .filter(eachHistory ->
+                        eachHistory.getProductCode().equals(eachRfidScanHistory.getProductCode()) &&
+                                eachHistory.getClientCode().equals(eachRfidScanHistory.getClientCode()) &&
+                                eachHistory.getSupplierCode().equals(eachRfidScanHistory.getSupplierCode()))
+                .map(eachHistory -> ProductDetailHistory.builder()
+                        .rfidChipCode(eachHistory.getRfidChipCode())
+                        .productSerialCode(eachHistory.getProductSerialCode())
+                        .productCode(eachHistory.getProductCode())
+                        .supplierCode(eachHistory.getSupplierCode())
+                        .clientCode(eachHistory.getClientCode())
+                        .status(eachHistory.getStatus())
+                        .cycle(eachHistory.getCycle())
+                        .latestReadingAt(eachHistory.getLatestReadingAt())
+                        .rfidScanHistory(eachRfidScanHistory)
+                        .build())
+                .collect(Collectors.toList())));
+
+        return linkedHistories;
+    }
+}
@@ -0,0 +1,64 @@
+package com.rfid.circularlabs_rfid_backend.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+public final class EmbeddedMariaDb {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [부하 테스트용 내장 MariaDB]
+    // MySQL 전용 구문(ON DUPLICATE KEY UPDATE / 트리거 / INSERT IGNORE)을 그대로 사용하므로 H2 대신 MySQL 호환 MariaDB 를 내장 실행
+    // JVM 당 한 번만 빈 포트로 띄우고 JVM 종료 시 함께 종료
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final String DATABASE_NAME = "circularlabs";
+
+    private static volatile String jdbcUrl;
+
+    private EmbeddedMariaDb() {
+    }
+
+    // 내장 DB 를 실행하고 애플리케이션이 사용할 JDBC URL 반환 (mysql 드라이버로 접속)
+    public static synchronized String start(int maxConnections) {
+        if (jdbcUrl != null) {
+            return jdbcUrl;
+        }
+
+        try {
+            DBConfigurationBuilder configBuilder = DBConfigurationBuilder.newBuilder();
+            configBuilder.setPort(0);
+            configBuilder.addArg("--character-set-server=utf8mb4");
+            configBuilder.addArg("--max-connections=" + maxConnections);
+            configBuilder.addArg("--innodb-flush-log-at-trx-commit=2");
+            DBConfiguration config = configBuilder.build();
+
+            DB db = DB.newEmbeddedDB(config);
+            db.start();
+            db.createDB(DATABASE_NAME);
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    db.stop();
+                } catch (ManagedProcessException e) {
+                    // 종료 중이므로 무시
+                }
+            }));
+
+            jdbcUrl = "jdbc:mysql://localhost:" + config.getPort() + "/" + DATABASE_NAME
+                    + "?serverTimezone=Asia/Seoul&characterEncoding=UTF-8&rewriteBatchedStatements=true";
+            return jdbcUrl;
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("내장 MariaDB 실행 실패", e);
+        }
+    }
+
+    public static String username() {
+        return "root";
+    }
+
+    public static String password() {
+        return "";
+    }
+}
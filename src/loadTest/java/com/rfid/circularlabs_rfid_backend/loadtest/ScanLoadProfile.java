@@ -0,0 +1,121 @@
+package com.rfid.circularlabs_rfid_backend.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ScanLoadProfile {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [부하 테스트 조건]
+    // gradle 실행 시 -Pload.<이름>=<값> 으로 전달된 시스템 프로퍼티를 읽고, 없으면 기본값 사용
+    // 예) ./gradlew loadTest -Pload.readers=300 -Pload.tags-per-request=500 -Pload.duplicate-ratio=0.3
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final int readers; // 동시에 스캔 데이터를 보내는 리더기(machineId) 수
+    private final int iterations; // 리더기 하나가 반복하는 입고 -> 회수 (-> 폐기) 사이클 수
+    private final int warmupIterations; // 측정에서 제외하는 초기 사이클 수
+    private final int tagsPerRequest; // 요청 하나에 담기는 서로 다른 태그 수
+    private final double duplicateRatio; // 같은 태그가 한 요청에 중복으로 읽혀 추가되는 비율
+    private final double discardRatio; // 회수한 태그 중 폐기 요청으로 보내는 비율
+    private final int suppliers; // 공급사 수 (리더기는 공급사에 고르게 배정)
+    private final int clientsPerSupplier; // 공급사당 고객사 수
+    private final int productsPerSupplier; // 공급사당 제품 종류 수
+    private final int serialPoolPerReader; // 리더기당 순환하는 제품 고유 코드 수 (작을수록 기존 제품 재스캔 비율이 높아짐)
+    private final long seed; // 스캔 데이터 생성 난수 시드
+
+    public ScanLoadProfile() {
+        this.readers = intProperty("load.readers", 50);
+        this.iterations = intProperty("load.iterations", 5);
+        this.warmupIterations = intProperty("load.warmup-iterations", 1);
+        this.tagsPerRequest = intProperty("load.tags-per-request", 200);
+        this.duplicateRatio = doubleProperty("load.duplicate-ratio", 0.2);
+        this.discardRatio = doubleProperty("load.discard-ratio", 0.05);
+        this.suppliers = intProperty("load.suppliers", 5);
+        this.clientsPerSupplier = intProperty("load.clients-per-supplier", 10);
+        this.productsPerSupplier = intProperty("load.products-per-supplier", 20);
+        this.serialPoolPerReader = intProperty("load.serial-pool-per-reader", tagsPerRequest * 4);
+        this.seed = Long.getLong("load.seed", 20240101L);
+    }
+
+    public int getReaders() {
+        return readers;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public int getTagsPerRequest() {
+        return tagsPerRequest;
+    }
+
+    public double getDuplicateRatio() {
+        return duplicateRatio;
+    }
+
+    public double getDiscardRatio() {
+        return discardRatio;
+    }
+
+    public int getSuppliers() {
+        return suppliers;
+    }
+
+    public int getClientsPerSupplier() {
+        return clientsPerSupplier;
+    }
+
+    public int getProductsPerSupplier() {
+        return productsPerSupplier;
+    }
+
+    public int getSerialPoolPerReader() {
+        return serialPoolPerReader;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String supplierCode(int supplierIndex) {
+        return "LT-SUP" + supplierIndex;
+    }
+
+    public String clientCode(int supplierIndex, int clientIndex) {
+        return "LT-CLI" + supplierIndex + "-" + clientIndex;
+    }
+
+    public String productCode(int supplierIndex, int productIndex) {
+        return "LT-PRD" + supplierIndex + "-" + productIndex;
+    }
+
+    // 결과 파일에 함께 기록할 조건
+    public Map<String, Object> toMap() {
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("readers", readers);
+        profile.put("iterations", iterations);
+        profile.put("warmupIterations", warmupIterations);
+        profile.put("tagsPerRequest", tagsPerRequest);
+        profile.put("duplicateRatio", duplicateRatio);
+        profile.put("discardRatio", discardRatio);
+        profile.put("suppliers", suppliers);
+        profile.put("clientsPerSupplier", clientsPerSupplier);
+        profile.put("productsPerSupplier", productsPerSupplier);
+        profile.put("serialPoolPerReader", serialPoolPerReader);
+        profile.put("seed", seed);
+        return profile;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
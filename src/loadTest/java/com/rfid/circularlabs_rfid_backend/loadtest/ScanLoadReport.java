@@ -0,0 +1,123 @@
+package com.rfid.circularlabs_rfid_backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ScanLoadReport {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [부하 테스트 결과 집계]
+    // api(operation) 별 요청 수 / 실패 수 / 태그 수 / 응답 시간 / SQL 실행 수를 모아
+    // 처리량(요청 / 태그 기준), p50 / p99 응답 시간, 요청당 평균 SQL 실행 수를 계산
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final Map<String, OperationResult> results = new ConcurrentHashMap<>();
+
+    // 요청 한 건 기록 (sqlStatements 가 음수이면 SQL 실행 수 헤더가 없었던 요청)
+    public void record(String operation, int tagCount, long latencyNanos, boolean success, long sqlStatements) {
+        results.computeIfAbsent(operation, key -> new OperationResult()).record(tagCount, latencyNanos, success, sqlStatements);
+    }
+
+    public long totalErrors() {
+        return results.values().stream().mapToLong(OperationResult::getErrors).sum();
+    }
+
+    public long totalTags() {
+        return results.values().stream().mapToLong(OperationResult::getTags).sum();
+    }
+
+    // 측정 시간(elapsedNanos) 기준 operation 별 요약
+    public Map<String, Map<String, Object>> summarize(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+
+        results.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> summary.put(entry.getKey(), entry.getValue().summarize(elapsedSeconds)));
+
+        return summary;
+    }
+
+    // 로그 출력용 표
+    public String toTable(long elapsedNanos) {
+        StringBuilder table = new StringBuilder()
+                .append(String.format("%-10s %8s %7s %10s %10s %10s %10s %10s %10s%n",
+                        "operation", "requests", "errors", "req/s", "tags/s", "p50(ms)", "p99(ms)", "max(ms)", "sql/req"));
+
+        summarize(elapsedNanos).forEach((operation, eachSummary) -> table.append(String.format("%-10s %8d %7d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                operation,
+                (Long) eachSummary.get("requests"),
+                (Long) eachSummary.get("errors"),
+                (Double) eachSummary.get("requestsPerSecond"),
+                (Double) eachSummary.get("tagsPerSecond"),
+                (Double) eachSummary.get("p50Millis"),
+                (Double) eachSummary.get("p99Millis"),
+                (Double) eachSummary.get("maxMillis"),
+                (Double) eachSummary.get("sqlStatementsPerRequest"))));
+
+        return table.toString();
+    }
+
+    private static class OperationResult {
+        private final List<Long> latencies = new ArrayList<>();
+        private long requests;
+        private long errors;
+        private long tags;
+        private long sqlStatements;
+        private long sqlMeasuredRequests;
+
+        private synchronized void record(int tagCount, long latencyNanos, boolean success, long statementCount) {
+            requests++;
+            tags += tagCount;
+            latencies.add(latencyNanos);
+
+            if (!success) {
+                errors++;
+            }
+
+            if (statementCount >= 0) {
+                sqlStatements += statementCount;
+                sqlMeasuredRequests++;
+            }
+        }
+
+        private synchronized long getErrors() {
+            return errors;
+        }
+
+        private synchronized long getTags() {
+            return tags;
+        }
+
+        private synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sortedLatencies);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", requests);
+            summary.put("errors", errors);
+            summary.put("tags", tags);
+            summary.put("requestsPerSecond", elapsedSeconds > 0 ? requests / elapsedSeconds : 0.0);
+            summary.put("tagsPerSecond", elapsedSeconds > 0 ? tags / elapsedSeconds : 0.0);
+            summary.put("p50Millis", percentileMillis(sortedLatencies, 0.50));
+            summary.put("p99Millis", percentileMillis(sortedLatencies, 0.99));
+            summary.put("maxMillis", sortedLatencies.length == 0 ? 0.0 : sortedLatencies[sortedLatencies.length - 1] / 1_000_000.0);
+            summary.put("sqlStatementsPerRequest", sqlMeasuredRequests == 0 ? 0.0 : (double) sqlStatements / sqlMeasuredRequests);
+            return summary;
+        }
+
+        // nearest-rank 방식 분위수
+        private static double percentileMillis(long[] sortedLatencies, double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0.0;
+            }
+
+            int rank = (int) Math.ceil(percentile * sortedLatencies.length);
+            return sortedLatencies[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
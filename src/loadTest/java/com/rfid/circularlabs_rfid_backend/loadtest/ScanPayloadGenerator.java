@@ -0,0 +1,124 @@
+package com.rfid.circularlabs_rfid_backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class ScanPayloadGenerator {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [리더기 한 대의 스캔 데이터 생성]
+    // 리더기는 배정된 공급사의 제품 고유 코드 풀(serial-pool-per-reader)에서 카트 하나 분량의 태그를 골라
+    // 입고 -> 회수 -> (일부) 폐기 순으로 전송하며, 풀을 순환하므로 사이클이 반복될수록 기존 제품 재스캔 비율이 높아짐
+    // 한 요청 안의 중복 읽기(duplicate-ratio)는 이미 담긴 태그를 다시 추가하는 방식으로 재현
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // 사전 정리 단계는 필터링 코드에 이 값이 포함된 태그만 자사 태그로 처리함 (ScanTagPrefilter, rfid.scan.prefilter.filtering-codes)
+    private static final String FILTERING_CODE = "CCA2310";
+
+    private final ScanLoadProfile profile;
+    private final String machineId;
+    private final int supplierIndex;
+    private final Random random;
+
+    public ScanPayloadGenerator(ScanLoadProfile profile, int readerIndex) {
+        this.profile = profile;
+        this.machineId = "LT-READER-" + readerIndex;
+        this.supplierIndex = readerIndex % profile.getSuppliers();
+        this.random = new Random(profile.getSeed() + readerIndex);
+    }
+
+    public String getMachineId() {
+        return machineId;
+    }
+
+    public String getSupplierCode() {
+        return profile.supplierCode(supplierIndex);
+    }
+
+    // 카트 하나 분량의 서로 다른 태그
+    public List<Map<String, Object>> nextCart() {
+        int poolSize = Math.max(profile.getTagsPerRequest(), profile.getSerialPoolPerReader());
+        List<Integer> serialNumbers = new ArrayList<>(poolSize);
+
+        for (int i = 0; i < poolSize; i++) {
+            serialNumbers.add(i);
+        }
+
+        Collections.shuffle(serialNumbers, random);
+
+        List<Map<String, Object>> cart = new ArrayList<>(profile.getTagsPerRequest());
+
+        for (Integer eachSerialNumber : serialNumbers.subList(0, profile.getTagsPerRequest())) {
+            // 같은 고유 코드는 항상 같은 제품 분류 코드를 가짐
+            int productIndex = eachSerialNumber % profile.getProductsPerSupplier();
+            String productSerialCode = machineId + "-" + eachSerialNumber;
+
+            Map<String, Object> tag = new LinkedHashMap<>();
+            tag.put("rfidChipCode", "RFID-" + productSerialCode);
+            tag.put("filteringCode", FILTERING_CODE);
+            tag.put("productCode", profile.productCode(supplierIndex, productIndex));
+            tag.put("productSerialCode", productSerialCode);
+            cart.add(tag);
+        }
+
+        return cart;
+    }
+
+    // 중복 읽기가 섞인 전송용 태그 목록
+    public List<Map<String, Object>> withDuplicates(List<Map<String, Object>> tags) {
+        List<Map<String, Object>> payloadTags = new ArrayList<>(tags);
+        int duplicateCount = (int) Math.round(tags.size() * profile.getDuplicateRatio());
+
+        for (int i = 0; i < duplicateCount && !tags.isEmpty(); i++) {
+            payloadTags.add(random.nextInt(payloadTags.size() + 1), tags.get(random.nextInt(tags.size())));
+        }
+
+        return payloadTags;
+    }
+
+    // 회수한 태그 중 폐기할 태그
+    public List<Map<String, Object>> discardTags(List<Map<String, Object>> cart) {
+        List<Map<String, Object>> discardTags = new ArrayList<>();
+
+        for (Map<String, Object> eachTag : cart) {
+            if (random.nextDouble() < profile.getDiscardRatio()) {
+                discardTags.add(eachTag);
+            }
+        }
+
+        return discardTags;
+    }
+
+    public Map<String, Object> inRequest(List<Map<String, Object>> tags) {
+        Map<String, Object> request = baseRequest(tags);
+        request.put("selectClientCode", randomClientCode());
+        return request;
+    }
+
+    public Map<String, Object> returnRequest(List<Map<String, Object>> tags) {
+        return baseRequest(tags);
+    }
+
+    public Map<String, Object> discardRequest(List<Map<String, Object>> tags) {
+        Map<String, Object> request = baseRequest(tags);
+        request.put("selectClientCode", randomClientCode());
+        return request;
+    }
+
+    private Map<String, Object> baseRequest(List<Map<String, Object>> tags) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("machineId", machineId);
+        request.put("tag", "load-test");
+        request.put("supplierCode", getSupplierCode());
+        request.put("productCodes", tags);
+        return request;
+    }
+
+    private String randomClientCode() {
+        return profile.clientCode(supplierIndex, random.nextInt(profile.getClientsPerSupplier()));
+    }
+}
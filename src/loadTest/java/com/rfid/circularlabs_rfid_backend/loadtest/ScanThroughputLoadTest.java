@@ -0,0 +1,217 @@
+package com.rfid.circularlabs_rfid_backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rfid.circularlabs_rfid_backend.share.sqlbudget.SqlBudgetHeaderAdvice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "rfid.sql-budget.debug-header=true",
+                "logging.level.com.rfid.circularlabs_rfid_backend=WARN",
+                "logging.level.com.rfid.circularlabs_rfid_backend.loadtest=INFO"
+        })
+class ScanThroughputLoadTest {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 api 처리량 부하 테스트]
+    // 내장 MariaDB / 내장 Redis 위에 애플리케이션을 띄우고 리더기 N 대가 동시에 /rfid/in -> /rfid/return -> /rfid/discard 를 반복 전송
+    // (교대 시간에 리더기 수백 대가 카트를 한꺼번에 비우는 상황 재현)
+    // operation 별 처리량 / p50 / p99 응답 시간 / 요청당 SQL 실행 수(X-Sql-Statements 헤더)를 로그로 출력하고
+    // load.report-dir 에 실행 시각별 JSON 파일로 남겨 용량 변화를 추적
+    // 실행 : ./gradlew loadTest (조건은 ScanLoadProfile 참고, 최소 처리량 검증 : -Pload.min-tags-per-second=<값>)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final Logger log = LoggerFactory.getLogger(ScanThroughputLoadTest.class);
+
+    private static final ScanLoadProfile PROFILE = new ScanLoadProfile();
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) {
+        int poolSize = Integer.getInteger("load.pool-size", 30);
+
+        registry.add("spring.datasource.url", () -> EmbeddedMariaDb.start(poolSize + 50));
+        registry.add("spring.datasource.username", EmbeddedMariaDb::username);
+        registry.add("spring.datasource.password", EmbeddedMariaDb::password);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> poolSize);
+        registry.add("server.tomcat.threads.max", () -> Math.max(200, PROFILE.getReaders()));
+    }
+
+    // 공급사별 제품 / 공급사 주문 등록 (공급사 주문이 있는 제품만 스캔 가능, 주문 등록 시 재고 원장은 트리거로 생성)
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int supplierIndex = 0; supplierIndex < PROFILE.getSuppliers(); supplierIndex++) {
+            for (int productIndex = 0; productIndex < PROFILE.getProductsPerSupplier(); productIndex++) {
+                String productCode = PROFILE.productCode(supplierIndex, productIndex);
+
+                Integer existing = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM product WHERE product_code = ?", Integer.class, productCode);
+
+                if (existing != null && existing > 0) {
+                    continue;
+                }
+
+                jdbcTemplate.update("INSERT INTO product (product_code, product_name, purchase_price, product_img_name, product_img_url, status, product_qtt, created_at, modified_at) " +
+                                "VALUES (?, ?, 1000, 'load-test.png', 'load-test.png', '사용', 1, ?, ?)",
+                        productCode, "부하 테스트 제품 " + productCode, now, now);
+
+                jdbcTemplate.update("INSERT INTO supplier_order (classification_code, product_code, order_mount, delivery_at, statementnumber, created_at, modified_at) " +
+                                "VALUES (?, ?, ?, ?, 'LOAD-TEST', ?, ?)",
+                        PROFILE.supplierCode(supplierIndex), productCode, PROFILE.getReaders() * PROFILE.getSerialPoolPerReader(), now, now, now);
+            }
+        }
+    }
+
+    @Test
+    void scanApisKeepUpWithConcurrentReaders() throws Exception {
+        ScanLoadReport warmupReport = new ScanLoadReport();
+        ScanLoadReport report = new ScanLoadReport();
+
+        List<ScanPayloadGenerator> generators = new ArrayList<>();
+        for (int readerIndex = 0; readerIndex < PROFILE.getReaders(); readerIndex++) {
+            generators.add(new ScanPayloadGenerator(PROFILE, readerIndex));
+        }
+
+        // 워밍업 : 커넥션 풀 / JIT / 캐시를 채우기 위한 사이클 (결과 제외)
+        runReaders(generators, PROFILE.getWarmupIterations(), warmupReport);
+
+        long start = System.nanoTime();
+        runReaders(generators, PROFILE.getIterations(), report);
+        long elapsedNanos = System.nanoTime() - start;
+
+        log.info("스캔 api 부하 테스트 결과 - 리더기 : {}, 사이클 : {}, 요청당 태그 : {}, 소요 시간 : {} ms{}{}",
+                PROFILE.getReaders(), PROFILE.getIterations(), PROFILE.getTagsPerRequest(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), System.lineSeparator(), report.toTable(elapsedNanos));
+
+        writeReport(report, elapsedNanos);
+
+        assertEquals(0, report.totalErrors(), "실패한 스캔 요청이 있습니다.");
+
+        String minTagsPerSecond = System.getProperty("load.min-tags-per-second");
+        if (minTagsPerSecond != null) {
+            double tagsPerSecond = report.totalTags() / (elapsedNanos / 1_000_000_000.0);
+            assertTrue(tagsPerSecond >= Double.parseDouble(minTagsPerSecond),
+                    "처리량이 기준보다 낮습니다. (" + String.format("%.1f", tagsPerSecond) + " tags/s < " + minTagsPerSecond + ")");
+        }
+    }
+
+    // 리더기마다 스레드 하나로 입고 -> 회수 -> 폐기 사이클을 반복 (모든 리더기가 동시에 시작)
+    private void runReaders(List<ScanPayloadGenerator> generators, int iterations, ScanLoadReport report) throws Exception {
+        if (iterations <= 0) {
+            return;
+        }
+
+        ExecutorService readers = Executors.newFixedThreadPool(generators.size());
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (ScanPayloadGenerator eachGenerator : generators) {
+                futures.add(readers.submit(() -> {
+                    startSignal.await();
+
+                    for (int iteration = 0; iteration < iterations; iteration++) {
+                        List<Map<String, Object>> cart = eachGenerator.nextCart();
+
+                        send(report, "in", "/rfid/in", eachGenerator.inRequest(eachGenerator.withDuplicates(cart)));
+                        send(report, "return", "/rfid/return", eachGenerator.returnRequest(eachGenerator.withDuplicates(cart)));
+
+                        List<Map<String, Object>> discardTags = eachGenerator.discardTags(cart);
+                        if (!discardTags.isEmpty()) {
+                            send(report, "discard", "/rfid/discard", eachGenerator.discardRequest(eachGenerator.withDuplicates(discardTags)));
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            startSignal.countDown();
+
+            for (Future<?> eachFuture : futures) {
+                eachFuture.get();
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void send(ScanLoadReport report, String operation, String path, Map<String, Object> request) {
+        int tagCount = ((List<Object>) request.get("productCodes")).size();
+        long start = System.nanoTime();
+        boolean success;
+        long sqlStatements = -1;
+
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity(path, request, String.class);
+            success = response.getStatusCode().is2xxSuccessful();
+
+            String statementHeader = response.getHeaders().getFirst(SqlBudgetHeaderAdvice.STATEMENTS_HEADER);
+            if (statementHeader != null) {
+                sqlStatements = Long.parseLong(statementHeader);
+            }
+        } catch (RuntimeException e) {
+            log.warn("스캔 요청 실패 - {} : {}", operation, e.getMessage());
+            success = false;
+        }
+
+        report.record(operation, tagCount, System.nanoTime() - start, success, sqlStatements);
+    }
+
+    // 실행 시각별 결과 파일 (조건 + operation 별 요약)
+    private void writeReport(ScanLoadReport report, long elapsedNanos) throws IOException {
+        File reportDir = new File(System.getProperty("load.report-dir", "build/load-test"));
+        if (!reportDir.exists() && !reportDir.mkdirs()) {
+            throw new IOException("결과 디렉토리 생성 실패 : " + reportDir);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("executedAt", LocalDateTime.now().toString());
+        result.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.put("profile", PROFILE.toMap());
+        result.put("operations", report.summarize(elapsedNanos));
+
+        File reportFile = new File(reportDir, "scan-load-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, result);
+
+        log.info("부하 테스트 결과 파일 : {}", reportFile.getAbsolutePath());
+    }
+}
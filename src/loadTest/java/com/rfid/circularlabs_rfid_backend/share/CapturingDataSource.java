@@ -0,0 +1,130 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+public class CapturingDataSource extends DelegatingDataSource {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [실행 계획 검사용 SQL 수집 DataSource]
+    // capture() 를 호출한 스레드에서 실행된 PreparedStatement 의 SQL 과 바인딩된 파라미터를 실행 순서대로 수집
+    // QueryDSL / JPA / JdbcTemplate 가 실제로 만든 SQL 을 그대로 EXPLAIN 하기 위한 용도 (스케줄 작업 등 다른 스레드의 조회는 수집하지 않음)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    public CapturingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    // 현재 스레드에서 action 이 실행한 SQL 목록
+    public static List<CapturedStatement> capture(Runnable action) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capturingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capturingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection capturingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                CapturingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+
+                    if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                        return Proxy.newProxyInstance(
+                                CapturingDataSource.class.getClassLoader(),
+                                new Class<?>[]{PreparedStatement.class},
+                                new PreparedStatementHandler((PreparedStatement) result, (String) args[0]));
+                    }
+
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // 실행된 SQL 한 건
+    public static class CapturedStatement {
+        private final String sql;
+        private final List<Object> parameters;
+
+        private CapturedStatement(String sql, List<Object> parameters) {
+            this.sql = sql;
+            this.parameters = Collections.unmodifiableList(parameters);
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<Object> getParameters() {
+            return parameters;
+        }
+    }
+
+    private static class PreparedStatementHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final String sql;
+        private final TreeMap<Integer, Object> parameters = new TreeMap<>();
+
+        private PreparedStatementHandler(PreparedStatement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+
+            if (methodName.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], methodName.equals("setNull") ? null : args[1]);
+            } else if (methodName.equals("clearParameters")) {
+                parameters.clear();
+            } else if (methodName.startsWith("execute")) {
+                List<CapturedStatement> captured = CAPTURED.get();
+
+                if (captured != null) {
+                    captured.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+                }
+            }
+
+            return CapturingDataSource.invoke(statement, method, args);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import com.rfid.circularlabs_rfid_backend.loadtest.EmbeddedMariaDb;
+import com.rfid.circularlabs_rfid_backend.process.domain.DiscardHistory;
+import com.rfid.circularlabs_rfid_backend.process.repository.DiscardHistoryRepository;
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
+import com.rfid.circularlabs_rfid_backend.product.repository.InventoryLedgerRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailHistoryRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.query.discardhistory.DiscardHistoryQueryData;
+import com.rfid.circularlabs_rfid_backend.query2.productdetail.ProductDetailQueryDataV2;
+import com.rfid.circularlabs_rfid_backend.query2.productdetailhistory.ProductDetailHistoryQueryDataV2;
+import com.rfid.circularlabs_rfid_backend.query2.scandata.ScanDataQueryDataV3;
+import com.rfid.circularlabs_rfid_backend.scan.domain.RfidScanHistory;
+import com.rfid.circularlabs_rfid_backend.scan.repository.RfidScanHistoryRepository;
+import com.rfid.circularlabs_rfid_backend.share.CapturingDataSource.CapturedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.com.rfid.circularlabs_rfid_backend=WARN"
+})
+class HotPathQueryPlanTest {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 처리 hot path 조회 실행 계획 검사]
+    // 스캔 처리 중 태그 / 제품마다 반복 실행되는 조회 메소드를 실제로 호출하여 QueryDSL / JdbcTemplate 가 만든 SQL 과 파라미터를 수집하고
+    // 그대로 EXPLAIN 하여 옵티마이저가 실제로 고른 인덱스(key)가 db/migration 의 인덱스인지 확인
+    // 데이터가 적으면 옵티마이저가 인덱스가 있어도 전체 스캔을 고를 수 있으므로 테이블마다 SEED_ROWS 건을 넣고 통계를 갱신한 뒤 검사
+    // 조회 조건이나 정렬을 바꾸면 hotPathQueries() 와 db/migration 의 인덱스도 함께 수정
+    // 실행 : ./gradlew queryPlanTest (내장 MariaDB, 일반 test / build 에는 포함되지 않음)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final int SEED_ROWS = 2000;
+    private static final int SUPPLIERS = 10;
+    private static final int PRODUCTS = 20;
+    private static final int CLIENTS = 5;
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductDetailRepository productDetailRepository;
+
+    @Autowired
+    private ProductDetailHistoryRepository productDetailHistoryRepository;
+
+    @Autowired
+    private RfidScanHistoryRepository rfidScanHistoryRepository;
+
+    @Autowired
+    private DiscardHistoryRepository discardHistoryRepository;
+
+    @Autowired
+    private ProductDetailQueryDataV2 productDetailQueryDataV2;
+
+    @Autowired
+    private ScanDataQueryDataV3 scanDataQueryDataV3;
+
+    @Autowired
+    private ProductDetailHistoryQueryDataV2 productDetailHistoryQueryDataV2;
+
+    @Autowired
+    private DiscardHistoryQueryData discardHistoryQueryData;
+
+    @Autowired
+    private InventoryLedgerRepository inventoryLedgerRepository;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> EmbeddedMariaDb.start(50));
+        registry.add("spring.datasource.username", EmbeddedMariaDb::username);
+        registry.add("spring.datasource.password", EmbeddedMariaDb::password);
+    }
+
+    // 애플리케이션 DataSource 를 SQL 수집 DataSource 로 감쌈
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource && !(bean instanceof CapturingDataSource)) {
+                        return new CapturingDataSource((DataSource) bean);
+                    }
+
+                    return bean;
+                }
+            };
+        }
+    }
+
+    // 검사할 조회 (이름, 실제로 선택되어야 하는 인덱스, 조회 메소드 호출)
+    static Stream<Arguments> hotPathQueries() {
+        return Stream.of(
+                hotPathQuery("ProductDetailQueryDataV2.checkRemainProductDetail", "uk_product_detail_serial",
+                        test -> test.productDetailQueryDataV2.checkRemainProductDetail(serialCode(0), productCode(0), supplierCode(0), clientCode(0))),
+                hotPathQuery("ScanDataQueryDataV3.getLatestRfidScanHistory", "idx_rfid_scan_history_latest",
+                        test -> test.scanDataQueryDataV3.getLatestRfidScanHistory(productCode(0), supplierCode(0))),
+                hotPathQuery("ScanDataQueryDataV3.checkSameCycleScanHistory", "idx_product_detail_history_cycle",
+                        test -> test.scanDataQueryDataV3.checkSameCycleScanHistory(productCode(0), clientCode(0), supplierCode(0), 0, "입고")),
+                hotPathQuery("ProductDetailHistoryQueryDataV2.checkPreviewHistory", "idx_product_detail_history_serial",
+                        test -> test.productDetailHistoryQueryDataV2.checkPreviewHistory(serialCode(0), productCode(0), supplierCode(0), clientCode(0), "폐기", 0)),
+                hotPathQuery("DiscardHistoryQueryData.checkProductDiscard", "idx_discard_history_serial",
+                        test -> test.discardHistoryQueryData.checkProductDiscard(productCode(0), serialCode(0))),
+                hotPathQuery("InventoryLedgerRepository.find", "PRIMARY",
+                        test -> test.inventoryLedgerRepository.find(supplierCode(0), productCode(0))));
+    }
+
+    private static Arguments hotPathQuery(String name, String expectedIndex, Consumer<HotPathQueryPlanTest> invocation) {
+        return Arguments.of(name, expectedIndex, invocation);
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductDetail> productDetails = new ArrayList<>();
+        List<ProductDetailHistory> productDetailHistories = new ArrayList<>();
+        List<RfidScanHistory> rfidScanHistories = new ArrayList<>();
+        List<DiscardHistory> discardHistories = new ArrayList<>();
+
+        for (int i = 0; i < SEED_ROWS; i++) {
+            productDetails.add(ProductDetail.builder()
+                    .rfidChipCode("RFID-" + serialCode(i)).productSerialCode(serialCode(i)).productCode(productCode(i))
+                    .supplierCode(supplierCode(i)).clientCode(clientCode(i)).status("입고").cycle(i % 3).latestReadingAt(now)
+                    .build());
+
+            productDetailHistories.add(ProductDetailHistory.builder()
+                    .rfidChipCode("RFID-" + serialCode(i)).productSerialCode(serialCode(i)).productCode(productCode(i))
+                    .supplierCode(supplierCode(i)).clientCode(clientCode(i)).status(i % 2 == 0 ? "입고" : "회수").cycle(i % 3).latestReadingAt(now)
+                    .build());
+
+            rfidScanHistories.add(RfidScanHistory.builder()
+                    .deviceCode("PLAN-DEVICE").rfidChipCode("null").productCode(productCode(i))
+                    .supplierCode(supplierCode(i)).clientCode(clientCode(i)).status("입고").statusCount(1).latestReadingAt(now)
+                    .build());
+
+            discardHistories.add(DiscardHistory.builder()
+                    .supplierCode(supplierCode(i)).clientCode(clientCode(i)).productCode(productCode(i))
+                    .productSerialCode(serialCode(i)).rfidChipCode("RFID-" + serialCode(i)).discardAt(now).reason("")
+                    .build());
+        }
+
+        productDetailRepository.saveAll(productDetails);
+        productDetailHistoryRepository.saveAll(productDetailHistories);
+        rfidScanHistoryRepository.saveAll(rfidScanHistories);
+        discardHistoryRepository.saveAll(discardHistories);
+
+        // 공급사 주문 등록 시 재고 원장 row 는 트리거로 생성
+        for (int supplierIndex = 0; supplierIndex < SUPPLIERS; supplierIndex++) {
+            for (int productIndex = 0; productIndex < PRODUCTS; productIndex++) {
+                jdbcTemplate.update("INSERT INTO supplier_order (classification_code, product_code, order_mount, delivery_at, statementnumber, created_at, modified_at) " +
+                                "VALUES (?, ?, 100, ?, 'PLAN-TEST', ?, ?)",
+                        "PLAN-SUP-" + supplierIndex, "PLAN-PRD-" + productIndex, now, now, now);
+            }
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE product_detail, product_detail_history, rfid_scan_history, discard_history, inventory_ledger");
+        seeded = true;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotPathQueries")
+    void hotPathQueryUsesIndex(String name, String expectedIndex, Consumer<HotPathQueryPlanTest> invocation) {
+        List<CapturedStatement> statements = CapturingDataSource.capture(() -> invocation.accept(this));
+        assertFalse(statements.isEmpty(), name + " : 실행된 SQL 이 없습니다.");
+
+        CapturedStatement statement = statements.get(0);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.getSql(), statement.getParameters().toArray());
+        Map<String, Object> tablePlan = plan.get(0);
+
+        assertEquals(expectedIndex, tablePlan.get("key"),
+                name + " : 옵티마이저가 " + expectedIndex + " 인덱스를 선택하지 않았습니다. (" + tablePlan + ", SQL = " + statement.getSql() + ")");
+    }
+
+    // 시드 데이터 코드 (i 번째 row, 공급사 / 제품 / 고객사가 고르게 섞이도록 배정)
+    private static String serialCode(int i) {
+        return "PLAN-SERIAL-" + i;
+    }
+
+    private static String productCode(int i) {
+        return "PLAN-PRD-" + (i % PRODUCTS);
+    }
+
+    private static String supplierCode(int i) {
+        return "PLAN-SUP-" + (i % SUPPLIERS);
+    }
+
+    private static String clientCode(int i) {
+        return "PLAN-CLI-" + (i % CLIENTS);
+    }
+}
@@ -5,11 +5,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableBatchProcessing
 @EnableCaching
 //@EnableRedisRepositories
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class CircularLabsRfidBackEndApplication {
 
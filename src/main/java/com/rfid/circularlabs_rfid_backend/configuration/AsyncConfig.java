@@ -1,12 +1,22 @@
 package com.rfid.circularlabs_rfid_backend.configuration;
 
+import com.rfid.circularlabs_rfid_backend.share.sqlbudget.SqlStatementScope;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+@Slf4j
 @EnableAsync
 @Configuration
 public class AsyncConfig {
@@ -24,7 +34,57 @@ public class AsyncConfig {
         taskExecutor.setMaxPoolSize(100); // 최대 스레드 수
         taskExecutor.setQueueCapacity(500); // Queue 사이즈
         taskExecutor.setThreadNamePrefix("Executor-");
+        taskExecutor.setTaskDecorator(SqlStatementScope.propagate()); // 요청의 SQL 실행 수 집계 범위 전달
         return taskExecutor;
     }
 
+    /* 배치 split flow 전용 스레드 풀 설정.
+     * 스캔 요청마다 SimpleAsyncTaskExecutor 로 스레드를 새로 만들지 않고 모든 배치 서비스가 이 스레드 풀을 공유한다.
+     * 최대 스레드 수는 Hikari 커넥션 풀 크기 - reserved-connections 를 넘지 않아 병렬 flow 들이 커넥션 풀보다 많은 커넥션을 요구하지 않으며,
+     * 대기열이 가득 차면 거절 횟수를 기록한 뒤 요청 스레드에서 직접 실행한다. (스레드 풀 지표는 actuator 의 executor.* 지표로 수집)
+     */
+    @Bean(name = "batchTaskExecutor")
+    public ThreadPoolTaskExecutor batchTaskExecutor(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${rfid.batch.executor.queue-capacity:100}") int queueCapacity,
+            @Value("${rfid.batch.partition.reserved-connections:2}") int reservedConnections) {
+
+        int poolSize = Math.max(1, connectionPoolSize(dataSource) - reservedConnections);
+
+        Counter rejectedCounter = Counter.builder("rfid.batch.executor.rejected")
+                .description("배치 스레드 풀 대기열 초과로 요청 스레드에서 직접 실행된 flow 수")
+                .register(meterRegistry);
+
+        ThreadPoolExecutor.CallerRunsPolicy callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize); // 기본 스레드 수
+        taskExecutor.setMaxPoolSize(poolSize); // 최대 스레드 수 (커넥션 풀 크기에 맞춤)
+        taskExecutor.setQueueCapacity(queueCapacity); // Queue 사이즈
+        taskExecutor.setThreadNamePrefix("BatchExecutor-");
+        taskExecutor.setTaskDecorator(SqlStatementScope.propagate()); // 요청의 SQL 실행 수 집계 범위 전달
+        taskExecutor.setRejectedExecutionHandler((runnable, executor) -> {
+            rejectedCounter.increment();
+            callerRunsPolicy.rejectedExecution(runnable, executor);
+        });
+
+        log.info("배치 스레드 풀 크기 : {}, 대기열 크기 : {}", poolSize, queueCapacity);
+
+        return taskExecutor;
+    }
+
+    // Hikari 커넥션 풀 최대 크기 (Hikari 가 아니면 Hikari 기본값)
+    private static int connectionPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.info("커넥션 풀 정보 조회 실패 : {}", e.getMessage());
+        }
+
+        return 10;
+    }
+
 }
@@ -7,7 +7,7 @@ import com.rfid.circularlabs_rfid_backend.process.repository.DiscardHistoryRepos
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailHistoryRepository;
-import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailUpsertRepository;
 import com.rfid.circularlabs_rfid_backend.query.discardhistory.DiscardHistoryQueryData;
 import com.rfid.circularlabs_rfid_backend.query.productdetail.ProductDetailQueryData;
 import com.rfid.circularlabs_rfid_backend.query.productdetailhistory.ProductDetailHistoryQueryData;
@@ -24,21 +24,19 @@ import com.rfid.circularlabs_rfid_backend.scan.repository.RfidScanHistoryReposit
 import com.rfid.circularlabs_rfid_backend.scan.request.SendOrderCount;
 import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
 import com.rfid.circularlabs_rfid_backend.scan.service.RfidScanDataService_v2;
+import com.rfid.circularlabs_rfid_backend.share.ScanJobResult;
+import com.rfid.circularlabs_rfid_backend.share.ScanPartitionManager;
 import lombok.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
-import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
-import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.flow.Flow;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.batch.repeat.RepeatStatus;
 
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.EntityManager;
@@ -56,35 +54,31 @@ import static com.rfid.circularlabs_rfid_backend.device.domain.QDevice.device;
 public class BatchParallelConfig {
     private static final Logger log = LoggerFactory.getLogger(BatchParallelConfig.class);
 
-    private final JobBuilderFactory jobBuilderFactory;
-    private final StepBuilderFactory stepBuilderFactory;
-    private final JobLauncher jobLauncher;
+    private final ScanBatchFactory scanBatchFactory;
     private final JPAQueryFactory jpaQueryFactory;
-    private final ProductDetailRepository productDetailRepository;
+    private final ProductDetailUpsertRepository productDetailUpsertRepository;
     private final ProductDetailHistoryRepository productDetailHistoryRepository;
     private final ProductDetailQueryDataV2 productDetailQueryDataV2;
     private final EntityManager entityManager;
     private final ProductDetailHistoryQueryDataV2 productDetailHistoryQueryDataV2;
+    private final ScanPartitionManager scanPartitionManager;
     private final SecureRandom secureRandom = new SecureRandom();
-    private List<ProductDetail> scanProductDetails = new ArrayList<>();
 
     // [ProductDetail] 배치 실행 (출고 / 입고)
     public List<ProductDetail> launchProductDetail(String status, List<SendProductCode> scanDatas, String supplierCode, String clientCode) throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         Map<String, JobParameter> parameters = new HashMap<>();
         parameters.put("random", new JobParameter(this.secureRandom.nextLong()));
 
-        this.scanProductDetails = new ArrayList<>();
+        // Job 실행마다 결과 수집 객체를 새로 생성
+        ScanJobResult jobResult = new ScanJobResult();
 
         if (status.equals("출고")) {
-            jobLauncher.run(parallelOutJob(scanDatas, supplierCode, clientCode), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelOutJob(scanDatas, supplierCode, clientCode, jobResult), new JobParameters(parameters));
         } else if (status.equals("입고")) {
-            jobLauncher.run(parallelInJob(scanDatas, supplierCode, clientCode), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelInJob(scanDatas, supplierCode, clientCode, jobResult), new JobParameters(parameters));
         }
 
-        List<ProductDetail> newScanProductDetails = this.scanProductDetails;
-        this.scanProductDetails = new ArrayList<>();
-
-        return newScanProductDetails;
+        return jobResult.getScanProductDetails();
     }
 
     // [ProductDetailHistory] 배치 실행
@@ -94,77 +88,26 @@ public class BatchParallelConfig {
         parameters.put("random", new JobParameter(this.secureRandom.nextLong()));
 
         if (status.equals("출고")) {
-            jobLauncher.run(parallelOutProductDetailHistoryJob(rfidScanHistoryList, useProductDetailList), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelOutProductDetailHistoryJob(rfidScanHistoryList, useProductDetailList), new JobParameters(parameters));
         } else if (status.equals("입고")) {
-            jobLauncher.run(parallelInProductDetailHistoryJob(rfidScanHistoryList, useProductDetailList), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelInProductDetailHistoryJob(rfidScanHistoryList, useProductDetailList), new JobParameters(parameters));
         }
 
     }
 
     // [ProductDetail] 출고 저장 Job
-    public Job parallelOutJob(List<SendProductCode> scanOutDatas, String supplierCode, String clientCode) {
-
-        if(scanOutDatas.size() < 50){
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelOutStep(scanOutDatas, supplierCode, clientCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelOutJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }else if(scanOutDatas.size() >= 50){
-            int scanOutDatas_separate_section = scanOutDatas.size() / 5; // 100개로 가정 했을 때 20개
-            List<SendProductCode> outDatas1 = scanOutDatas.subList(0, scanOutDatas_separate_section);
-            List<SendProductCode> outDatas2 = scanOutDatas.subList(scanOutDatas_separate_section, scanOutDatas_separate_section * 2);
-            List<SendProductCode> outDatas3 = scanOutDatas.subList(scanOutDatas_separate_section * 2, (scanOutDatas_separate_section * 2) + scanOutDatas_separate_section);
-            List<SendProductCode> outDatas4 = scanOutDatas.subList((scanOutDatas_separate_section * 2) + scanOutDatas_separate_section, (scanOutDatas_separate_section * 2) + (scanOutDatas_separate_section * 2));
-            List<SendProductCode> outDatas5 = scanOutDatas.subList((scanOutDatas_separate_section * 2) + (scanOutDatas_separate_section * 2), scanOutDatas.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelOutStep(outDatas1, supplierCode, clientCode))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("flow2")
-                    .start(parallelOutStep(outDatas2, supplierCode, clientCode))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("flow3")
-                    .start(parallelOutStep(outDatas3, supplierCode, clientCode))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("flow4")
-                    .start(parallelOutStep(outDatas4, supplierCode, clientCode))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("flow5")
-                    .start(parallelOutStep(outDatas5, supplierCode, clientCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelOutJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
-
-        return null;
+    public Job parallelOutJob(List<SendProductCode> scanOutDatas, String supplierCode, String clientCode, ScanJobResult jobResult) {
+        return scanBatchFactory.jobBuilders().get("parallelOutJob")
+                .start(scanPartitionManager.parallelFlow("출고", supplierCode, "parallelStepFlow", "flow", scanOutDatas,
+                        (outDatas, flowName) -> parallelOutStep(outDatas, supplierCode, clientCode, jobResult)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetail] 출고 저장 Step
-    public Step parallelOutStep(List<SendProductCode> scanOutDatas, String supplierCode, String clientCode) {
-        return stepBuilderFactory.get("parallelOutStep1")
+    public Step parallelOutStep(List<SendProductCode> scanOutDatas, String supplierCode, String clientCode, ScanJobResult jobResult) {
+        return scanBatchFactory.stepBuilders().get("parallelOutStep1")
                 .tasklet((contribution, chunkContext) -> {
 
                     List<ProductDetail> finalProductDetails = new ArrayList<>();
@@ -207,10 +150,11 @@ public class BatchParallelConfig {
 
                     // 만약 처음 들어오는 데이터들이라면 저장 처리
                     if (!nullProductDetails.isEmpty()) {
-                        finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+                        productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.OUT);
+                        finalProductDetails.addAll(nullProductDetails);
                     }
 
-                    scanProductDetails.addAll(finalProductDetails);
+                    jobResult.addScanProductDetails(finalProductDetails);
 
                     return RepeatStatus.FINISHED;
                 })
@@ -220,68 +164,17 @@ public class BatchParallelConfig {
 
     // [ProductDetailHistory] 출고 저장 Job
     public Job parallelOutProductDetailHistoryJob(List<RfidScanHistory> rfidScanHistoryList, List<ProductDetail> useProductDetailList) {
-
-        if(useProductDetailList.size() < 50){
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelOutProductDetailHistoryStep(rfidScanHistoryList, useProductDetailList))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelOutJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }else if(useProductDetailList.size() >= 50){
-            int scanOutDatas_separate_section = useProductDetailList.size() / 5; // 100개로 가정 했을 때 20개
-            List<ProductDetail> outDatas1 = useProductDetailList.subList(0, scanOutDatas_separate_section);
-            List<ProductDetail> outDatas2 = useProductDetailList.subList(scanOutDatas_separate_section, scanOutDatas_separate_section * 2);
-            List<ProductDetail> outDatas3 = useProductDetailList.subList(scanOutDatas_separate_section * 2, (scanOutDatas_separate_section * 2) + scanOutDatas_separate_section);
-            List<ProductDetail> outDatas4 = useProductDetailList.subList((scanOutDatas_separate_section * 2) + scanOutDatas_separate_section, (scanOutDatas_separate_section * 2) + (scanOutDatas_separate_section * 2));
-            List<ProductDetail> outDatas5 = useProductDetailList.subList((scanOutDatas_separate_section * 2) + (scanOutDatas_separate_section * 2), useProductDetailList.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelOutProductDetailHistoryStep(rfidScanHistoryList, outDatas1))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("flow2")
-                    .start(parallelOutProductDetailHistoryStep(rfidScanHistoryList, outDatas2))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("flow3")
-                    .start(parallelOutProductDetailHistoryStep(rfidScanHistoryList, outDatas3))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("flow4")
-                    .start(parallelOutProductDetailHistoryStep(rfidScanHistoryList, outDatas4))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("flow5")
-                    .start(parallelOutProductDetailHistoryStep(rfidScanHistoryList, outDatas5))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelOutJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
-
-        return null;
+        return scanBatchFactory.jobBuilders().get("parallelOutJob")
+                .start(scanPartitionManager.parallelFlow("출고", historySupplierCode(rfidScanHistoryList), "parallelStepFlow", "flow", useProductDetailList,
+                        (outDatas, flowName) -> parallelOutProductDetailHistoryStep(rfidScanHistoryList, outDatas)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetailHistory] 출고 저장 Step
     public Step parallelOutProductDetailHistoryStep(List<RfidScanHistory> rfidScanHistoryList, List<ProductDetail> useProductDetailList) {
-        return stepBuilderFactory.get("parallelOutStep2")
+        return scanBatchFactory.stepBuilders().get("parallelOutStep2")
                 .tasklet((contribution, chunkContext) -> {
 
                     for (RfidScanHistory eachScanHistory : rfidScanHistoryList) {
@@ -324,69 +217,18 @@ public class BatchParallelConfig {
 
 
     // [ProductDetail] 입고 저장 Job
-    public Job parallelInJob(List<SendProductCode> scanInDatas, String supplierCode, String clientCode) {
-
-        if(scanInDatas.size() < 50){
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelInStep(scanInDatas, supplierCode, clientCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelInJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }else if(scanInDatas.size() >= 50){
-            int scanInDatas_separate_section = scanInDatas.size() / 5; // 100개로 가정 했을 때 20개
-            List<SendProductCode> inDatas1 = scanInDatas.subList(0, scanInDatas_separate_section);
-            List<SendProductCode> inDatas2 = scanInDatas.subList(scanInDatas_separate_section, scanInDatas_separate_section * 2);
-            List<SendProductCode> inDatas3 = scanInDatas.subList(scanInDatas_separate_section * 2, (scanInDatas_separate_section * 2) + scanInDatas_separate_section);
-            List<SendProductCode> inDatas4 = scanInDatas.subList((scanInDatas_separate_section * 2) + scanInDatas_separate_section, (scanInDatas_separate_section * 2) + (scanInDatas_separate_section * 2));
-            List<SendProductCode> inDatas5 = scanInDatas.subList((scanInDatas_separate_section * 2) + (scanInDatas_separate_section * 2), scanInDatas.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelInStep(inDatas1, supplierCode, clientCode))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("flow2")
-                    .start(parallelInStep(inDatas2, supplierCode, clientCode))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("flow3")
-                    .start(parallelInStep(inDatas3, supplierCode, clientCode))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("flow4")
-                    .start(parallelInStep(inDatas4, supplierCode, clientCode))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("flow5")
-                    .start(parallelInStep(inDatas5, supplierCode, clientCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelInJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
-
-        return null;
+    public Job parallelInJob(List<SendProductCode> scanInDatas, String supplierCode, String clientCode, ScanJobResult jobResult) {
+        return scanBatchFactory.jobBuilders().get("parallelInJob")
+                .start(scanPartitionManager.parallelFlow("입고", supplierCode, "parallelStepFlow", "flow", scanInDatas,
+                        (inDatas, flowName) -> parallelInStep(inDatas, supplierCode, clientCode, jobResult)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetail] 입고 저장 Step
-    public Step parallelInStep(List<SendProductCode> scanInDatas, String supplierCode, String clientCode) {
-        return stepBuilderFactory.get("parallelOutStep1")
+    public Step parallelInStep(List<SendProductCode> scanInDatas, String supplierCode, String clientCode, ScanJobResult jobResult) {
+        return scanBatchFactory.stepBuilders().get("parallelOutStep1")
                 .tasklet((contribution, chunkContext) -> {
 
                     List<ProductDetail> finalProductDetails = new ArrayList<>();
@@ -429,10 +271,11 @@ public class BatchParallelConfig {
 
                     // 만약 처음 들어오는 데이터들이라면 저장 처리
                     if (!nullProductDetails.isEmpty()) {
-                        finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+                        productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.IN);
+                        finalProductDetails.addAll(nullProductDetails);
                     }
 
-                    scanProductDetails.addAll(finalProductDetails);
+                    jobResult.addScanProductDetails(finalProductDetails);
 
                     return RepeatStatus.FINISHED;
                 })
@@ -442,68 +285,17 @@ public class BatchParallelConfig {
 
     // [ProductDetailHistory] 입고 저장 Job
     public Job parallelInProductDetailHistoryJob(List<RfidScanHistory> rfidScanHistoryList, List<ProductDetail> useProductDetailList) {
-
-        if(useProductDetailList.size() < 50){
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelInProductDetailHistoryStep(rfidScanHistoryList, useProductDetailList))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelInJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }else if(useProductDetailList.size() >= 50){
-            int scanInDatas_separate_section = useProductDetailList.size() / 5; // 100개로 가정 했을 때 20개
-            List<ProductDetail> inDatas1 = useProductDetailList.subList(0, scanInDatas_separate_section);
-            List<ProductDetail> inDatas2 = useProductDetailList.subList(scanInDatas_separate_section, scanInDatas_separate_section * 2);
-            List<ProductDetail> inDatas3 = useProductDetailList.subList(scanInDatas_separate_section * 2, (scanInDatas_separate_section * 2) + scanInDatas_separate_section);
-            List<ProductDetail> inDatas4 = useProductDetailList.subList((scanInDatas_separate_section * 2) + scanInDatas_separate_section, (scanInDatas_separate_section * 2) + (scanInDatas_separate_section * 2));
-            List<ProductDetail> inDatas5 = useProductDetailList.subList((scanInDatas_separate_section * 2) + (scanInDatas_separate_section * 2), useProductDetailList.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelInProductDetailHistoryStep(rfidScanHistoryList, inDatas1))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("flow2")
-                    .start(parallelInProductDetailHistoryStep(rfidScanHistoryList, inDatas2))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("flow3")
-                    .start(parallelInProductDetailHistoryStep(rfidScanHistoryList, inDatas3))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("flow4")
-                    .start(parallelInProductDetailHistoryStep(rfidScanHistoryList, inDatas4))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("flow5")
-                    .start(parallelInProductDetailHistoryStep(rfidScanHistoryList, inDatas5))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelInJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
-
-        return null;
+        return scanBatchFactory.jobBuilders().get("parallelInJob")
+                .start(scanPartitionManager.parallelFlow("입고", historySupplierCode(rfidScanHistoryList), "parallelStepFlow", "flow", useProductDetailList,
+                        (inDatas, flowName) -> parallelInProductDetailHistoryStep(rfidScanHistoryList, inDatas)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetailHistory] 입고 저장 Step
     public Step parallelInProductDetailHistoryStep(List<RfidScanHistory> rfidScanHistoryList, List<ProductDetail> useProductDetailList) {
-        return stepBuilderFactory.get("parallelOutStep2")
+        return scanBatchFactory.stepBuilders().get("parallelOutStep2")
                 .tasklet((contribution, chunkContext) -> {
 
                     for (RfidScanHistory eachScanHistory : rfidScanHistoryList) {
@@ -557,18 +349,16 @@ public class BatchParallelConfig {
         Map<String, JobParameter> parameters = new HashMap<>();
         parameters.put("random", new JobParameter(this.secureRandom.nextLong()));
 
-        this.scanProductDetails = new ArrayList<>();
+        // Job 실행마다 결과 수집 객체를 새로 생성
+        ScanJobResult jobResult = new ScanJobResult();
 
         if (status.equals("회수")) {
-            jobLauncher.run(parallelTurnBackJob(scanDatas, supplierCode), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelTurnBackJob(scanDatas, supplierCode, jobResult), new JobParameters(parameters));
         } else if (status.equals("세척")) {
-            jobLauncher.run(parallelCleanJob(), new JobParameters());
+            scanBatchFactory.jobLauncher().run(parallelCleanJob(), new JobParameters());
         }
 
-        List<ProductDetail> newScanProductDetails = this.scanProductDetails;
-        this.scanProductDetails = new ArrayList<>();
-
-        return newScanProductDetails;
+        return jobResult.getScanProductDetails();
     }
 
     // [ProductDetailHistory] 배치 실행
@@ -578,76 +368,26 @@ public class BatchParallelConfig {
         parameters.put("random", new JobParameter(this.secureRandom.nextLong()));
 
         if (status.equals("회수")) {
-            jobLauncher.run(parallelTurnBackProductDetailHistoryJob(rfidScanHistoryList, useProductDetailList), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelTurnBackProductDetailHistoryJob(rfidScanHistoryList, useProductDetailList), new JobParameters(parameters));
         } else if (status.equals("세척")) {
-            jobLauncher.run(parallelCleanJob(), new JobParameters());
+            scanBatchFactory.jobLauncher().run(parallelCleanJob(), new JobParameters());
         }
 
     }
 
     // [ProductDetail] 회수 저장 Job
-    public Job parallelTurnBackJob(List<SendProductCode> scanTurnBackDatas, String supplierCode) {
-        if(scanTurnBackDatas.size() < 50){
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelTurnBackStep(scanTurnBackDatas, supplierCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelTurnBackJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }else if(scanTurnBackDatas.size() >= 50){
-            int scanTurnBackDatas_separate_section = scanTurnBackDatas.size() / 5; // 100개로 가정 했을 때 20개
-            List<SendProductCode> turnBackDatas1 = scanTurnBackDatas.subList(0, scanTurnBackDatas_separate_section);
-            List<SendProductCode> turnBackDatas2 = scanTurnBackDatas.subList(scanTurnBackDatas_separate_section, scanTurnBackDatas_separate_section * 2);
-            List<SendProductCode> turnBackDatas3 = scanTurnBackDatas.subList(scanTurnBackDatas_separate_section * 2, (scanTurnBackDatas_separate_section * 2) + scanTurnBackDatas_separate_section);
-            List<SendProductCode> turnBackDatas4 = scanTurnBackDatas.subList((scanTurnBackDatas_separate_section * 2) + scanTurnBackDatas_separate_section, (scanTurnBackDatas_separate_section * 2) + (scanTurnBackDatas_separate_section * 2));
-            List<SendProductCode> turnBackDatas5 = scanTurnBackDatas.subList((scanTurnBackDatas_separate_section * 2) + (scanTurnBackDatas_separate_section * 2), scanTurnBackDatas.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelTurnBackStep(turnBackDatas1, supplierCode))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("flow2")
-                    .start(parallelTurnBackStep(turnBackDatas2, supplierCode))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("flow3")
-                    .start(parallelTurnBackStep(turnBackDatas3, supplierCode))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("flow4")
-                    .start(parallelTurnBackStep(turnBackDatas4, supplierCode))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("flow5")
-                    .start(parallelTurnBackStep(turnBackDatas5, supplierCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelTurnBackJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
-
-        return null;
+    public Job parallelTurnBackJob(List<SendProductCode> scanTurnBackDatas, String supplierCode, ScanJobResult jobResult) {
+        return scanBatchFactory.jobBuilders().get("parallelTurnBackJob")
+                .start(scanPartitionManager.parallelFlow("회수", supplierCode, "parallelStepFlow", "flow", scanTurnBackDatas,
+                        (turnBackDatas, flowName) -> parallelTurnBackStep(turnBackDatas, supplierCode, jobResult)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetail] 회수 저장 Step
-    public Step parallelTurnBackStep(List<SendProductCode> scanTurnBackDatas, String supplierCode) {
-        return stepBuilderFactory.get("parallelTurnBackStep")
+    public Step parallelTurnBackStep(List<SendProductCode> scanTurnBackDatas, String supplierCode, ScanJobResult jobResult) {
+        return scanBatchFactory.stepBuilders().get("parallelTurnBackStep")
                 .tasklet((contribution, chunkContext) -> {
                     List<ProductDetail> finalProductDetails = new ArrayList<>();
 
@@ -680,7 +420,8 @@ public class BatchParallelConfig {
                                     .collect(Collectors.toList());
 
                             if (!notExistInDataProductDetails.isEmpty()) {
-                                finalProductDetails.addAll(productDetailRepository.saveAll(notExistInDataProductDetails));
+                                productDetailUpsertRepository.upsertScanStates(notExistInDataProductDetails, ProductDetailUpsertRepository.Transition.TURN_BACK);
+                                finalProductDetails.addAll(notExistInDataProductDetails);
                             }
                         }
 
@@ -713,10 +454,11 @@ public class BatchParallelConfig {
                             .collect(Collectors.toList());
 
                     if (!nullProductDetails.isEmpty()) {
-                        finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+                        productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.TURN_BACK);
+                        finalProductDetails.addAll(nullProductDetails);
                     }
 
-                    scanProductDetails.addAll(finalProductDetails);
+                    jobResult.addScanProductDetails(finalProductDetails);
 
                     return RepeatStatus.FINISHED;
                 })
@@ -726,68 +468,17 @@ public class BatchParallelConfig {
 
     // [ProductDetailHistory] 회수 저장 Job
     public Job parallelTurnBackProductDetailHistoryJob(List<RfidScanHistory> rfidScanHistoryList, List<ProductDetail> useProductDetailList) {
-
-        if(useProductDetailList.size() < 50){
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, useProductDetailList))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelTurnBackJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }else if(useProductDetailList.size() >= 50){
-            int scanTurnBackDatas_separate_section = useProductDetailList.size() / 5; // 100개로 가정 했을 때 20개
-            List<ProductDetail> turnBackDatas1 = useProductDetailList.subList(0, scanTurnBackDatas_separate_section);
-            List<ProductDetail> turnBackDatas2 = useProductDetailList.subList(scanTurnBackDatas_separate_section, scanTurnBackDatas_separate_section * 2);
-            List<ProductDetail> turnBackDatas3 = useProductDetailList.subList(scanTurnBackDatas_separate_section * 2, (scanTurnBackDatas_separate_section * 2) + scanTurnBackDatas_separate_section);
-            List<ProductDetail> turnBackDatas4 = useProductDetailList.subList((scanTurnBackDatas_separate_section * 2) + scanTurnBackDatas_separate_section, (scanTurnBackDatas_separate_section * 2) + (scanTurnBackDatas_separate_section * 2));
-            List<ProductDetail> turnBackDatas5 = useProductDetailList.subList((scanTurnBackDatas_separate_section * 2) + (scanTurnBackDatas_separate_section * 2), useProductDetailList.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("flow1")
-                    .start(parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, turnBackDatas1))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("flow2")
-                    .start(parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, turnBackDatas2))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("flow3")
-                    .start(parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, turnBackDatas3))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("flow4")
-                    .start(parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, turnBackDatas4))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("flow5")
-                    .start(parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, turnBackDatas5))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelTurnBackJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
-
-        return null;
+        return scanBatchFactory.jobBuilders().get("parallelTurnBackJob")
+                .start(scanPartitionManager.parallelFlow("회수", historySupplierCode(rfidScanHistoryList), "parallelStepFlow", "flow", useProductDetailList,
+                        (turnBackDatas, flowName) -> parallelTurnBackProductDetailHistoryStep(rfidScanHistoryList, turnBackDatas)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetailHistory] 회수 저장 Step
     public Step parallelTurnBackProductDetailHistoryStep(List<RfidScanHistory> rfidScanHistoryList, List<ProductDetail> useProductDetailList) {
-        return stepBuilderFactory.get("parallelOutStep2")
+        return scanBatchFactory.stepBuilders().get("parallelOutStep2")
                 .tasklet((contribution, chunkContext) -> {
 
                     for (RfidScanHistory eachScanHistory : rfidScanHistoryList) {
@@ -849,11 +540,11 @@ public class BatchParallelConfig {
                 .build();
 
         Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepFlow")
-                .split(new SimpleAsyncTaskExecutor())
+                .split(scanPartitionManager.getBatchTaskExecutor())
                 .add(flow1, flow2)
                 .build();
 
-        return jobBuilderFactory.get("parallelCleanJob")
+        return scanBatchFactory.jobBuilders().get("parallelCleanJob")
                 .start(parallelStepFlow)
                 .build()
                 .build();
@@ -861,7 +552,7 @@ public class BatchParallelConfig {
 
 
     public Step parallelCleanStep1() {
-        return stepBuilderFactory.get("parallelCleanStep1")
+        return scanBatchFactory.stepBuilders().get("parallelCleanStep1")
                 .tasklet((contribution, chunkContext) -> {
                     List<Member> memberList = jpaQueryFactory
                             .selectFrom(member)
@@ -878,7 +569,7 @@ public class BatchParallelConfig {
 
 
     public Step parallelCleanStep2() {
-        return stepBuilderFactory.get("parallelCleanStep2")
+        return scanBatchFactory.stepBuilders().get("parallelCleanStep2")
                 .tasklet((contribution, chunkContext) -> {
                     List<Device> deviceList = jpaQueryFactory
                             .selectFrom(device)
@@ -892,4 +583,9 @@ public class BatchParallelConfig {
                 })
                 .build();
     }
+
+    // 이력 저장 Job 의 파티션 지표에 기록할 공급사 코드 (이력이 없으면 전체로 집계)
+    private String historySupplierCode(List<RfidScanHistory> rfidScanHistoryList) {
+        return rfidScanHistoryList.isEmpty() ? null : rfidScanHistoryList.get(0).getSupplierCode();
+    }
 }
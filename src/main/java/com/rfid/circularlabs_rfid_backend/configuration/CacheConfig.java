@@ -1,4 +1,3 @@
-/**
 package com.rfid.circularlabs_rfid_backend.configuration;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -7,41 +6,57 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import lombok.Setter;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.RedisSerializationContext;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
 public class CacheConfig {
 
-    public static final String CACHE1 = "cache1";
-    public static final String CACHE2 = "cache2";
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [@Cacheable 공용 캐시 설정]
+    // 로컬(Caffeine) + Redis 2단계 캐시(TieredCacheManager)를 CacheManager 로 등록
+    // 캐시별 TTL / 로컬 TTL / 로컬 최대 개수 / null 저장 여부 / Redis 사용 여부는 rfid.cache-manager.specs[<캐시 이름>].* 로 설정
+    // 캐시 지표는 actuator 가 TieredCacheMetrics 로 등록
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String PRODUCT_CATALOG = "productCatalog"; // 전체 제품 목록
+    public static final String SUPPLIER_CLIENTS = "supplierClients"; // 공급사에 속한 고객사 목록
 
-    @AllArgsConstructor
     @Getter
+    @Setter
     public static class CacheProperty {
-        private String name;
-        private Integer ttl;
+        private Duration ttl = Duration.ofMinutes(10); // Redis TTL
+        private Duration localTtl = Duration.ofSeconds(30); // 로컬 TTL (다른 서버에서 변경된 값이 반영되기까지의 최대 시간)
+        private long maxSize = 1000; // 로컬 최대 개수
+        private boolean cacheNullValues = false; // null 결과 저장 여부
+        private boolean useRedis = true; // Redis 사용 여부 (false 면 로컬 캐시만 사용)
     }
 
-    // Redis Cache 설정
-    @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
+    @Getter
+    @Setter
+    public static class CacheProperties {
+        private CacheProperty defaults = new CacheProperty();
+        private Map<String, CacheProperty> specs = new LinkedHashMap<>();
+    }
 
-        List<CacheProperty> properties = new ArrayList<>();
-        properties.add(new CacheProperty(CACHE1, 300));
-        properties.add(new CacheProperty(CACHE2, 30));
+    @Bean
+    @ConfigurationProperties(prefix = "rfid.cache-manager")
+    public CacheProperties cacheProperties() {
+        return new CacheProperties();
+    }
 
+    @Bean
+    public TieredCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, CacheProperties cacheProperties) {
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
                 .builder()
                 .allowIfSubType(Object.class)
@@ -53,22 +68,16 @@ public class CacheConfig {
                 .activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL)
                 .disable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS); // redis를 활용할 객체들에 날짜 정보가 TimeStamp 형식으로 적용되어있을 경우 그대로 RedisTemplate을 사용하면 에러가 발생하므로 그것에 대비하기 위한 설정값
 
-        GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-
-        return (builder -> {
-            properties.forEach(property -> {
-                builder.withCacheConfiguration(
-                        property.getName(),
-                        RedisCacheConfiguration
-                                .defaultCacheConfig()
-                                .disableCachingNullValues()
-                                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(genericJackson2JsonRedisSerializer))
-                                .entryTtl(Duration.ofSeconds(property.getTtl()))
-                );
-            });
-        });
+        return new TieredCacheManager(
+                redisConnectionFactory,
+                new GenericJackson2JsonRedisSerializer(objectMapper),
+                cacheProperties.getSpecs(),
+                cacheProperties.getDefaults());
     }
 
+    // actuator 캐시 지표 등록 시 TieredCache 용 지표 사용
+    @Bean
+    public CacheMeterBinderProvider<TieredCache> tieredCacheMeterBinderProvider() {
+        return TieredCacheMetrics::new;
+    }
 }
-**/
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.rfid.circularlabs_rfid_backend.member.domain.Member;
+import com.rfid.circularlabs_rfid_backend.product.domain.Product;
+import com.rfid.circularlabs_rfid_backend.product.service.ProductCatalogService;
+import com.rfid.circularlabs_rfid_backend.share.EntityListenerSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@RequiredArgsConstructor
+@Component
+public class CacheEvictListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [Member / Product 변경 시 @Cacheable 캐시 제거]
+    // 회원 : supplierClients 의 해당 공급사, 제품 : productCatalog 전체 / 제품 목록 스냅샷
+    // 트랜잭션 안에서 변경되면 커밋 이후에 제거
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<ProductCatalogService> productCatalogService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evictCache(Object changedEntity) {
+        Runnable eviction;
+
+        if (changedEntity instanceof Member) {
+            // 고객사는 상위 코드가 공급사 코드
+            String motherCode = ((Member) changedEntity).getMotherCode();
+            eviction = () -> evict(CacheConfig.SUPPLIER_CLIENTS, motherCode);
+        } else if (changedEntity instanceof Product) {
+            eviction = () -> {
+                Cache cache = cacheManager.getObject().getCache(CacheConfig.PRODUCT_CATALOG);
+                if (cache != null) {
+                    cache.clear();
+                }
+                productCatalogService.getObject().markStale();
+            };
+        } else {
+            return;
+        }
+
+        EntityListenerSupport.runAfterCommit(eviction);
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getObject().getCache(cacheName);
+
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
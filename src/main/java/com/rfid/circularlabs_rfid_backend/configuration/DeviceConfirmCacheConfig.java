@@ -0,0 +1,23 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.rfid.circularlabs_rfid_backend.device.service.DeviceConfirmCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class DeviceConfirmCacheConfig {
+
+    // 기기 확정 데이터 캐시 무효화 메시지 구독 (서버마다 각자의 L1 캐시 제거)
+    @Bean
+    public RedisMessageListenerContainer deviceConfirmListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                        DeviceConfirmCache deviceConfirmCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(deviceConfirmCache, new ChannelTopic(DeviceConfirmCache.INVALIDATE_CHANNEL));
+
+        return container;
+    }
+}
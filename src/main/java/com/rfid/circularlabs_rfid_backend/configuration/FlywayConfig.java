@@ -0,0 +1,32 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스키마 변경 이력 (Flyway) 실행 시점 설정]
+    // 테이블은 여전히 hibernate ddl-auto=update 가 엔티티 기준으로 생성하므로,
+    // 인덱스 / 유니크 키 / 원장 테이블 등의 변경 이력(db/migration)은 EntityManagerFactory 초기화(ddl) 이후에 실행
+    // EntityManagerFactory 는 기본 flywayInitializer 에 의존하므로 그 시점에는 migrate 하지 않고,
+    // 모든 싱글톤 생성이 끝난 뒤(스케줄 작업 / ApplicationReadyEvent 이전) 한 번 실행
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // 기본 flywayInitializer 는 EntityManagerFactory 보다 먼저 실행되므로 아무것도 하지 않음
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    // hibernate ddl 이 끝난 뒤 migrate
+    @Bean
+    public SmartInitializingSingleton afterDdlFlywayMigration(Flyway flyway) {
+        return flyway::migrate;
+    }
+}
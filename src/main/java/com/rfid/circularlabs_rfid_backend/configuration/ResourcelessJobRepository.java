@@ -0,0 +1,87 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ResourcelessJobRepository implements JobRepository {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [메타데이터를 저장하지 않는 JobRepository]
+    // 짧은 대화형 스캔 Job 은 재시작할 일이 없으므로 BATCH_JOB_INSTANCE / BATCH_JOB_EXECUTION / STEP_EXECUTION / CONTEXT 테이블에
+    // 아무것도 기록하지 않고 식별자만 발급한다. 상태를 보관하지 않으므로 여러 Job 이 동시에 실행되어도 안전하며 메모리도 쌓이지 않음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final AtomicLong jobInstanceId = new AtomicLong();
+    private final AtomicLong jobExecutionId = new AtomicLong();
+    private final AtomicLong stepExecutionId = new AtomicLong();
+
+    @Override
+    public boolean isJobInstanceExists(String jobName, JobParameters jobParameters) {
+        return false;
+    }
+
+    @Override
+    public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+        return new JobInstance(jobInstanceId.incrementAndGet(), jobName);
+    }
+
+    @Override
+    public JobExecution createJobExecution(JobInstance jobInstance, JobParameters jobParameters, String jobConfigurationLocation) {
+        JobExecution jobExecution = new JobExecution(jobInstance, jobExecutionId.incrementAndGet(), jobParameters, jobConfigurationLocation);
+        jobExecution.setVersion(0);
+        return jobExecution;
+    }
+
+    @Override
+    public JobExecution createJobExecution(String jobName, JobParameters jobParameters) {
+        return createJobExecution(createJobInstance(jobName, jobParameters), jobParameters, null);
+    }
+
+    @Override
+    public void update(JobExecution jobExecution) {
+    }
+
+    @Override
+    public void add(StepExecution stepExecution) {
+        stepExecution.setId(stepExecutionId.incrementAndGet());
+        stepExecution.setVersion(0);
+    }
+
+    @Override
+    public void addAll(Collection<StepExecution> stepExecutions) {
+        stepExecutions.forEach(this::add);
+    }
+
+    @Override
+    public void update(StepExecution stepExecution) {
+    }
+
+    @Override
+    public void updateExecutionContext(StepExecution stepExecution) {
+    }
+
+    @Override
+    public void updateExecutionContext(JobExecution jobExecution) {
+    }
+
+    @Override
+    public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+        return null;
+    }
+
+    @Override
+    public int getStepExecutionCount(JobInstance jobInstance, String stepName) {
+        return 0;
+    }
+
+    @Override
+    public JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+        return null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.rfid.circularlabs_rfid_backend.share.sqlbudget.SqlBudgetStepListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@Component
+public class ScanBatchFactory {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 배치 Job 생성 / 실행 도구]
+    // 스캔 요청마다 실행되는 짧은 Job 들이 사용할 JobBuilderFactory / StepBuilderFactory / JobLauncher 를 제공
+    // rfid.batch.scan-job-repository=memory (기본) : 메타데이터를 저장하지 않는 ResourcelessJobRepository 사용
+    // rfid.batch.scan-job-repository=jdbc : 기존과 동일하게 MySQL 배치 메타데이터 테이블 사용
+    // 재시작이 필요한 대용량 작업은 이 클래스를 거치지 않고 기본 JDBC JobRepository 를 그대로 사용
+    // 여기서 만든 Step 에는 모두 SqlBudgetStepListener 가 등록되어 Step 별 SQL 실행 수가 집계됨
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final JobLauncher jobLauncher;
+
+    public ScanBatchFactory(
+            JobBuilderFactory jobBuilderFactory,
+            JobLauncher jobLauncher,
+            BatchConfigurer batchConfigurer,
+            SqlBudgetStepListener sqlBudgetStepListener,
+            @Value("${rfid.batch.scan-job-repository:memory}") String scanJobRepository) throws Exception {
+
+        if (scanJobRepository.equalsIgnoreCase("jdbc")) {
+            this.jobBuilderFactory = jobBuilderFactory;
+            this.stepBuilderFactory = new ListeningStepBuilderFactory(
+                    batchConfigurer.getJobRepository(), batchConfigurer.getTransactionManager(), sqlBudgetStepListener);
+            this.jobLauncher = jobLauncher;
+        } else {
+            JobRepository resourcelessJobRepository = new ResourcelessJobRepository();
+
+            SimpleJobLauncher resourcelessJobLauncher = new SimpleJobLauncher();
+            resourcelessJobLauncher.setJobRepository(resourcelessJobRepository);
+            resourcelessJobLauncher.afterPropertiesSet();
+
+            // Step 트랜잭션은 기존과 동일한 트랜잭션 매니저로 처리하고 메타데이터 기록만 생략
+            this.jobBuilderFactory = new JobBuilderFactory(resourcelessJobRepository);
+            this.stepBuilderFactory = new ListeningStepBuilderFactory(
+                    resourcelessJobRepository, batchConfigurer.getTransactionManager(), sqlBudgetStepListener);
+            this.jobLauncher = resourcelessJobLauncher;
+        }
+
+        log.info("스캔 배치 JobRepository 모드 : {}", scanJobRepository);
+    }
+
+    public JobBuilderFactory jobBuilders() {
+        return jobBuilderFactory;
+    }
+
+    public StepBuilderFactory stepBuilders() {
+        return stepBuilderFactory;
+    }
+
+    public JobLauncher jobLauncher() {
+        return jobLauncher;
+    }
+
+    // 생성하는 모든 Step 에 SQL 실행 수 집계 리스너를 등록하는 StepBuilderFactory
+    private static class ListeningStepBuilderFactory extends StepBuilderFactory {
+        private final SqlBudgetStepListener sqlBudgetStepListener;
+
+        private ListeningStepBuilderFactory(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                            SqlBudgetStepListener sqlBudgetStepListener) {
+            super(jobRepository, transactionManager);
+            this.sqlBudgetStepListener = sqlBudgetStepListener;
+        }
+
+        @Override
+        public StepBuilder get(String name) {
+            return super.get(name).listener(sqlBudgetStepListener);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanIngestProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ScanIngestConfig {
+
+    // 스캔 데이터 비동기 접수 티켓 설정 (rfid.scan.ingest.*)
+    @Bean
+    @ConfigurationProperties(prefix = "rfid.scan.ingest")
+    public ScanIngestProperties scanIngestProperties() {
+        return new ScanIngestProperties();
+    }
+}
@@ -0,0 +1,17 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanTagPrefilterProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ScanTagPrefilterConfig {
+
+    // 스캔 태그 사전 정리 설정 (rfid.scan.prefilter.*)
+    @Bean
+    @ConfigurationProperties(prefix = "rfid.scan.prefilter")
+    public ScanTagPrefilterProperties scanTagPrefilterProperties() {
+        return new ScanTagPrefilterProperties();
+    }
+}
@@ -0,0 +1,37 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.rfid.circularlabs_rfid_backend.share.sqlbudget.SqlBudgetProperties;
+import com.rfid.circularlabs_rfid_backend.share.sqlbudget.SqlCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlBudgetConfig {
+
+    // 요청 / 배치 Step 별 SQL 실행 수 집계 설정 (rfid.sql-budget.*)
+    @Bean
+    @ConfigurationProperties(prefix = "rfid.sql-budget")
+    public SqlBudgetProperties sqlBudgetProperties() {
+        return new SqlBudgetProperties();
+    }
+
+    // 애플리케이션의 DataSource 를 SQL 실행 수를 집계하는 DataSource 로 감쌈
+    // (Hikari 설정 / 지표는 unwrap 으로 그대로 접근 가능)
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource((DataSource) bean);
+                }
+
+                return bean;
+            }
+        };
+    }
+}
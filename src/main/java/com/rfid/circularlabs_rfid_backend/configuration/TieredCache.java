@@ -0,0 +1,219 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [로컬(Caffeine) + Redis 2단계 캐시]
+    // 조회 : 로컬 -> Redis -> (없으면) 원본 조회 후 두 곳에 저장
+    // 저장 / 제거 : 두 곳 모두에 반영 (다른 서버의 로컬 캐시는 로컬 TTL 이 지나면 Redis 값으로 다시 채워짐)
+    // Redis 에 연결할 수 없으면 로컬 캐시만으로 동작
+    // 적중 / 실패 / 제거 / 저장 / 원본 조회 시간은 TieredCacheMetrics 로 수집
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache redisCache; // null 이면 로컬 캐시만 사용
+
+    private final LongAdder localHitCount = new LongAdder();
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    public TieredCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache, Cache redisCache, boolean allowNullValues) {
+        super(allowNullValues);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+
+        if (localValue != null) {
+            localHitCount.increment();
+            return localValue;
+        }
+
+        ValueWrapper redisValue = redisGet(key);
+
+        if (redisValue != null) {
+            Object storeValue = toStoreValue(redisValue.get());
+            localCache.put(key, storeValue);
+            redisHitCount.increment();
+            return storeValue;
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    // 같은 키의 동시 조회는 로컬 캐시(Caffeine)가 한 번만 계산하도록 묶음
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] computed = new boolean[1];
+
+        Object storeValue = localCache.get(key, absentKey -> {
+            computed[0] = true;
+            ValueWrapper redisValue = redisGet(absentKey);
+
+            if (redisValue != null) {
+                redisHitCount.increment();
+                return toStoreValue(redisValue.get());
+            }
+
+            missCount.increment();
+            T loadedValue = load(absentKey, valueLoader);
+
+            if (loadedValue == null && !isAllowNullValues()) {
+                return null;
+            }
+
+            redisPut(absentKey, loadedValue);
+            putCount.increment();
+            return toStoreValue(loadedValue);
+        });
+
+        if (!computed[0]) {
+            localHitCount.increment();
+        }
+
+        return (T) fromStoreValue(storeValue);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null && !isAllowNullValues()) {
+            return;
+        }
+
+        localCache.put(key, toStoreValue(value));
+        putCount.increment();
+        redisPut(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.invalidate(key);
+        evictionCount.increment();
+
+        if (redisCache != null) {
+            try {
+                redisCache.evict(key);
+            } catch (RuntimeException e) {
+                log.info("Redis 캐시 제거 실패 - 캐시 : {}, 사유 : {}", name, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionCount.add(localCache.estimatedSize());
+        localCache.invalidateAll();
+
+        if (redisCache != null) {
+            try {
+                redisCache.clear();
+            } catch (RuntimeException e) {
+                log.info("Redis 캐시 초기화 실패 - 캐시 : {}, 사유 : {}", name, e.getMessage());
+            }
+        }
+    }
+
+    // 로컬 캐시가 크기 / TTL 로 제거한 항목 수 (TieredCacheManager 의 removalListener 에서 호출)
+    void recordLocalEviction() {
+        evictionCount.increment();
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        long startTime = System.nanoTime();
+
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loadCount.increment();
+            loadTimeNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    private void redisPut(Object key, Object value) {
+        if (redisCache == null) {
+            return;
+        }
+
+        try {
+            redisCache.put(key, value);
+        } catch (RuntimeException e) {
+            log.info("Redis 캐시 저장 실패 - 캐시 : {}, 사유 : {}", name, e.getMessage());
+        }
+    }
+
+    private ValueWrapper redisGet(Object key) {
+        if (redisCache == null) {
+            return null;
+        }
+
+        try {
+            return redisCache.get(key);
+        } catch (RuntimeException e) {
+            log.info("Redis 캐시 조회 실패 - 캐시 : {}, 사유 : {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    long localSize() {
+        return localCache.estimatedSize();
+    }
+
+    long localHitCount() {
+        return localHitCount.sum();
+    }
+
+    long redisHitCount() {
+        return redisHitCount.sum();
+    }
+
+    long missCount() {
+        return missCount.sum();
+    }
+
+    long putCount() {
+        return putCount.sum();
+    }
+
+    long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    long loadCount() {
+        return loadCount.sum();
+    }
+
+    double loadTimeNanos() {
+        return loadTimeNanos.sum();
+    }
+}
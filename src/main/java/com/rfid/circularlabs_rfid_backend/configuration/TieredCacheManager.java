@@ -0,0 +1,97 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TieredCacheManager extends AbstractCacheManager {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [TieredCache 생성 / 관리]
+    // 설정(rfid.cache-manager.specs[<캐시 이름>].*)에 등록된 캐시는 시작 시 만들어 지표에 등록되며,
+    // 등록되지 않은 이름은 default 설정으로 처음 사용할 때 생성
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, CacheConfig.CacheProperty> cacheProperties;
+    private final CacheConfig.CacheProperty defaultCacheProperty;
+    private final RedisSerializer<Object> valueSerializer;
+
+    public TieredCacheManager(RedisConnectionFactory redisConnectionFactory,
+                              RedisSerializer<Object> valueSerializer,
+                              Map<String, CacheConfig.CacheProperty> cacheProperties,
+                              CacheConfig.CacheProperty defaultCacheProperty) {
+        this.cacheProperties = cacheProperties;
+        this.defaultCacheProperty = defaultCacheProperty;
+        this.valueSerializer = valueSerializer;
+
+        // 캐시별 TTL / null 저장 여부는 Redis 캐시 설정으로 전달
+        Map<String, RedisCacheConfiguration> redisCacheConfigurations = new HashMap<>();
+        cacheProperties.forEach((name, property) -> redisCacheConfigurations.put(name, redisCacheConfiguration(property)));
+
+        this.redisCacheManager = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory))
+                .cacheDefaults(redisCacheConfiguration(defaultCacheProperty))
+                .withInitialCacheConfigurations(redisCacheConfigurations)
+                .build();
+        this.redisCacheManager.initializeCaches();
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        cacheProperties.forEach((name, property) -> caches.add(createCache(name, property)));
+
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name, defaultCacheProperty);
+    }
+
+    private TieredCache createCache(String name, CacheConfig.CacheProperty property) {
+        Cache redisCache = property.isUseRedis() ? redisCacheManager.getCache(name) : null;
+
+        TieredCache[] createdCache = new TieredCache[1];
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(property.getMaxSize())
+                .expireAfterWrite(property.getLocalTtl())
+                .removalListener((Object key, Object value, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && createdCache[0] != null) {
+                        createdCache[0].recordLocalEviction();
+                    }
+                })
+                .build();
+
+        createdCache[0] = new TieredCache(name, localCache, redisCache, property.isCacheNullValues());
+
+        return createdCache[0];
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(CacheConfig.CacheProperty property) {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .prefixCacheNameWith("cache:")
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
+                .entryTtl(property.getTtl());
+
+        return property.isCacheNullValues() ? configuration : configuration.disableCachingNullValues();
+    }
+}
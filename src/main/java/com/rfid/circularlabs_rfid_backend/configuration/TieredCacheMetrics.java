@@ -0,0 +1,72 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+public class TieredCacheMetrics extends CacheMeterBinder<TieredCache> {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [TieredCache 지표]
+    // 공통 캐시 지표(cache.gets result=hit / miss, cache.puts, cache.evictions, cache.size) 에 더해
+    // 단계별 적중 수(cache.tier.hits tier=local / redis) 와 원본 조회 시간(cache.load) 을 수집
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public TieredCacheMetrics(TieredCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TieredCache cache = getCache();
+        return cache == null ? null : cache.localSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        TieredCache cache = getCache();
+        return cache == null ? 0 : cache.localHitCount() + cache.redisHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        TieredCache cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TieredCache cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TieredCache cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TieredCache cache = getCache();
+
+        FunctionCounter.builder("cache.tier.hits", cache, TieredCache::localHitCount)
+                .tags(getTagsWithCacheName()).tag("tier", "local")
+                .description("단계별 캐시 적중 수")
+                .register(registry);
+
+        FunctionCounter.builder("cache.tier.hits", cache, TieredCache::redisHitCount)
+                .tags(getTagsWithCacheName()).tag("tier", "redis")
+                .description("단계별 캐시 적중 수")
+                .register(registry);
+
+        FunctionTimer.builder("cache.load", cache, TieredCache::loadCount, TieredCache::loadTimeNanos, TimeUnit.NANOSECONDS)
+                .tags(getTagsWithCacheName())
+                .description("캐시에 없어 원본을 조회한 시간")
+                .register(registry);
+    }
+}
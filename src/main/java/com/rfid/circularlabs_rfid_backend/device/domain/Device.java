@@ -1,5 +1,6 @@
 package com.rfid.circularlabs_rfid_backend.device.domain;
 
+import com.rfid.circularlabs_rfid_backend.device.service.DeviceConfirmCacheListener;
 import com.rfid.circularlabs_rfid_backend.share.TimeStamped;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import javax.persistence.*;
 @Builder
 @Getter
 @Entity
+@EntityListeners(DeviceConfirmCacheListener.class)
 public class Device extends TimeStamped {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,302 @@
+package com.rfid.circularlabs_rfid_backend.device.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.device.response.DeviceResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.rfid.circularlabs_rfid_backend.device.domain.QDevice.device;
+import static com.rfid.circularlabs_rfid_backend.member.domain.QMember.member;
+import static com.rfid.circularlabs_rfid_backend.product.domain.QProduct.product;
+
+@Slf4j
+@Component
+public class DeviceConfirmCache implements MessageListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [기기 확정 데이터 2단계 캐시]
+    // 리더기가 켜질 때마다 호출되는 /cl/device/supplier 의 응답(공급사 / 고객사들 / 전체 제품)을
+    // L1 (서버 메모리, 최대 개수 / 짧은 TTL) -> L2 (Redis, 서버 간 공유) -> DB 순서로 조회
+    // 같은 기기 코드로 동시에 요청이 몰려도 DB 조회는 한 번만 수행 (아침 리더기 일괄 부팅 대비)
+    // 변경 시 무효화
+    // 1. 기기(공급사 매핑) 변경 : 해당 기기 / 고객사, 공급사 변경 : 해당 공급사의 기기들 / 제품 변경 : 전체
+    //    (DeviceConfirmCacheListener 가 커밋 이후 호출)
+    // 2. 무효화는 Redis 채널(confirm:device:invalidate)로 다른 서버에도 전달되어 각 서버의 L1 도 함께 제거
+    // 3. 다른 시스템이 device / member / product 를 직접 변경하는 경우를 위해 주기적으로 세 테이블의 변경 여부를 확인
+    // Redis 에 연결할 수 없으면 L1 과 DB 만으로 동작
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String INVALIDATE_CHANNEL = "confirm:device:invalidate";
+
+    private static final String DEVICE_KEY_PREFIX = "confirm:device:";
+    private static final String DEVICE_KEY_SUFFIX = ":code";
+    private static final String DEVICE_KEYS = "confirm:device:keys"; // 저장된 기기 코드 전체
+    private static final String SUPPLIER_DEVICES_PREFIX = "confirm:supplier:"; // 공급사별 기기 코드
+    private static final String SUPPLIER_DEVICES_SUFFIX = ":devices";
+    private static final String INVALIDATE_ALL = "*";
+    private static final String INVALIDATE_SUPPLIER = "supplier:";
+    private static final String INVALIDATE_DEVICE = "device:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JPAQueryFactory jpaQueryFactory;
+    private final Duration redisTtl;
+    private final long localTtlMillis;
+    private final Map<String, LocalEntry> localEntries;
+    private final Map<String, CompletableFuture<DeviceResponseDto>> loadingEntries = new ConcurrentHashMap<>();
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    private volatile String tableFingerprint;
+
+    public DeviceConfirmCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            JPAQueryFactory jpaQueryFactory,
+            MeterRegistry meterRegistry,
+            @Value("${rfid.cache.device-confirm.local-max-size:1000}") int localMaxSize,
+            @Value("${rfid.cache.device-confirm.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${rfid.cache.device-confirm.redis-ttl-seconds:3600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localTtlMillis = Duration.ofSeconds(localTtlSeconds).toMillis();
+
+        // 접근 순서 LinkedHashMap 으로 최대 개수를 넘으면 가장 오래 사용하지 않은 기기부터 제거
+        this.localEntries = Collections.synchronizedMap(new LinkedHashMap<String, LocalEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxSize;
+            }
+        });
+
+        this.localHitCounter = cacheCounter(meterRegistry, "l1");
+        this.redisHitCounter = cacheCounter(meterRegistry, "l2");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+
+        meterRegistry.gaugeMapSize("rfid.cache.device-confirm.size", Collections.emptyList(), localEntries);
+    }
+
+    // L1 에 저장된 기기 확정 데이터 (공급사 코드로 무효화하기 위해 함께 보관)
+    private static class LocalEntry {
+        private final DeviceResponseDto deviceResponseDto;
+        private final long expireAt;
+
+        private LocalEntry(DeviceResponseDto deviceResponseDto, long expireAt) {
+            this.deviceResponseDto = deviceResponseDto;
+            this.expireAt = expireAt;
+        }
+    }
+
+    // 기기 확정 데이터 조회 (L1 -> L2 -> loader)
+    public DeviceResponseDto get(String deviceCode, Supplier<DeviceResponseDto> loader) {
+        LocalEntry localEntry = localEntries.get(deviceCode);
+
+        if (localEntry != null && localEntry.expireAt > System.currentTimeMillis()) {
+            localHitCounter.increment();
+            return localEntry.deviceResponseDto;
+        }
+
+        CompletableFuture<DeviceResponseDto> loading = new CompletableFuture<>();
+        CompletableFuture<DeviceResponseDto> existLoading = loadingEntries.putIfAbsent(deviceCode, loading);
+
+        // 같은 기기 코드를 이미 다른 요청이 조회 중이면 그 결과를 함께 사용
+        if (existLoading != null) {
+            return existLoading.join();
+        }
+
+        try {
+            DeviceResponseDto deviceResponseDto = readRedis(deviceCode);
+
+            if (deviceResponseDto != null) {
+                redisHitCounter.increment();
+            } else {
+                missCounter.increment();
+                deviceResponseDto = loader.get();
+                writeRedis(deviceCode, deviceResponseDto);
+            }
+
+            localEntries.put(deviceCode, new LocalEntry(deviceResponseDto, System.currentTimeMillis() + localTtlMillis));
+            loading.complete(deviceResponseDto);
+
+            return deviceResponseDto;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingEntries.remove(deviceCode, loading);
+        }
+    }
+
+    // 특정 기기 무효화 (기기 / 공급사 매핑 변경)
+    public void evictDevice(String deviceCode) {
+        runRedis(() -> {
+            redisTemplate.delete(deviceKey(deviceCode));
+            redisTemplate.opsForSet().remove(DEVICE_KEYS, deviceCode);
+        });
+
+        publish(INVALIDATE_DEVICE + deviceCode);
+    }
+
+    // 특정 공급사의 기기들 무효화 (공급사 / 고객사 변경)
+    public void evictSupplier(String supplierCode) {
+        runRedis(() -> {
+            String supplierDevicesKey = supplierDevicesKey(supplierCode);
+            Set<String> deviceCodes = redisTemplate.opsForSet().members(supplierDevicesKey);
+
+            if (deviceCodes != null && !deviceCodes.isEmpty()) {
+                List<String> deviceKeys = new ArrayList<>();
+                deviceCodes.forEach(eachDeviceCode -> deviceKeys.add(deviceKey(eachDeviceCode)));
+                redisTemplate.delete(deviceKeys);
+                redisTemplate.opsForSet().remove(DEVICE_KEYS, deviceCodes.toArray());
+            }
+
+            redisTemplate.delete(supplierDevicesKey);
+        });
+
+        publish(INVALIDATE_SUPPLIER + supplierCode);
+    }
+
+    // 전체 무효화 (제품 변경)
+    public void evictAll() {
+        runRedis(() -> {
+            Set<String> deviceCodes = redisTemplate.opsForSet().members(DEVICE_KEYS);
+
+            if (deviceCodes != null && !deviceCodes.isEmpty()) {
+                List<String> deviceKeys = new ArrayList<>();
+                deviceCodes.forEach(eachDeviceCode -> deviceKeys.add(deviceKey(eachDeviceCode)));
+                redisTemplate.delete(deviceKeys);
+            }
+
+            redisTemplate.delete(DEVICE_KEYS);
+        });
+
+        publish(INVALIDATE_ALL);
+    }
+
+    // 다른 서버(또는 자기 자신)에서 전달된 무효화 메시지로 L1 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 다른 시스템에서 device / member / product 를 변경했는지 확인하여 변경되었으면 전체 무효화
+    @Scheduled(fixedDelayString = "${rfid.cache.device-confirm.check-interval-ms:30000}")
+    public void checkTableChanged() {
+        Tuple deviceState = jpaQueryFactory
+                .select(device.count(), device.deviceId.max(), device.modifiedAt.max())
+                .from(device)
+                .fetchOne();
+
+        Tuple memberState = jpaQueryFactory
+                .select(member.count(), member.memberId.max(), member.modifiedAt.max())
+                .from(member)
+                .fetchOne();
+
+        Tuple productState = jpaQueryFactory
+                .select(product.count(), product.productId.max(), product.modifiedAt.max())
+                .from(product)
+                .fetchOne();
+
+        String currentFingerprint = deviceState + "/" + memberState + "/" + productState;
+
+        if (tableFingerprint != null && !Objects.equals(tableFingerprint, currentFingerprint)) {
+            log.info("기기 / 회원 / 제품 변경 감지 - 기기 확정 데이터 캐시 초기화");
+            evictAll();
+        }
+
+        tableFingerprint = currentFingerprint;
+    }
+
+    // 무효화 메시지에 해당하는 L1 데이터 제거
+    private void evictLocal(String invalidation) {
+        if (INVALIDATE_ALL.equals(invalidation)) {
+            localEntries.clear();
+        } else if (invalidation.startsWith(INVALIDATE_DEVICE)) {
+            localEntries.remove(invalidation.substring(INVALIDATE_DEVICE.length()));
+        } else if (invalidation.startsWith(INVALIDATE_SUPPLIER)) {
+            String supplierCode = invalidation.substring(INVALIDATE_SUPPLIER.length());
+
+            synchronized (localEntries) {
+                localEntries.values().removeIf(eachEntry -> supplierCode.equals(eachEntry.deviceResponseDto.getSupplierCode()));
+            }
+        }
+    }
+
+    // 이 서버의 L1 은 바로 제거하고, 다른 서버에는 Redis 채널로 전달
+    private void publish(String invalidation) {
+        evictLocal(invalidation);
+        runRedis(() -> redisTemplate.convertAndSend(INVALIDATE_CHANNEL, invalidation));
+    }
+
+    private DeviceResponseDto readRedis(String deviceCode) {
+        try {
+            String cachedJson = redisTemplate.opsForValue().get(deviceKey(deviceCode));
+            return cachedJson == null ? null : objectMapper.readValue(cachedJson, DeviceResponseDto.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.info("Redis 기기 확정 데이터 조회 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String deviceCode, DeviceResponseDto deviceResponseDto) {
+        try {
+            String json = objectMapper.writeValueAsString(deviceResponseDto);
+
+            redisTemplate.opsForValue().set(deviceKey(deviceCode), json, redisTtl);
+            redisTemplate.opsForSet().add(DEVICE_KEYS, deviceCode);
+            redisTemplate.opsForSet().add(supplierDevicesKey(deviceResponseDto.getSupplierCode()), deviceCode);
+            redisTemplate.expire(supplierDevicesKey(deviceResponseDto.getSupplierCode()), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.info("Redis 기기 확정 데이터 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void runRedis(Runnable redisOperation) {
+        try {
+            redisOperation.run();
+        } catch (RuntimeException e) {
+            log.info("Redis 기기 확정 데이터 무효화 실패 : {}", e.getMessage());
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("rfid.cache.device-confirm")
+                .description("기기 확정 데이터 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String deviceKey(String deviceCode) {
+        return DEVICE_KEY_PREFIX + deviceCode + DEVICE_KEY_SUFFIX;
+    }
+
+    private static String supplierDevicesKey(String supplierCode) {
+        return SUPPLIER_DEVICES_PREFIX + supplierCode + SUPPLIER_DEVICES_SUFFIX;
+    }
+}
@@ -0,0 +1,52 @@
+package com.rfid.circularlabs_rfid_backend.device.service;
+
+import com.rfid.circularlabs_rfid_backend.device.domain.Device;
+import com.rfid.circularlabs_rfid_backend.member.domain.Member;
+import com.rfid.circularlabs_rfid_backend.product.domain.Product;
+import com.rfid.circularlabs_rfid_backend.share.EntityListenerSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@RequiredArgsConstructor
+@Component
+public class DeviceConfirmCacheListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [Device / Member / Product 변경 시 기기 확정 데이터 캐시 무효화]
+    // 기기 : 해당 기기, 회원(공급사 / 고객사) : 해당 공급사의 기기들, 제품 : 전체
+    // 트랜잭션 안에서 변경되면 커밋 이후에 무효화하여, 커밋 전에 다른 요청이 이전 데이터를 다시 캐시하는 경우를 막음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ObjectProvider<DeviceConfirmCache> deviceConfirmCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evictDeviceConfirm(Object changedEntity) {
+        Runnable eviction;
+
+        if (changedEntity instanceof Device) {
+            String deviceCode = ((Device) changedEntity).getDeviceCode();
+            eviction = () -> deviceConfirmCache.getObject().evictDevice(deviceCode);
+        } else if (changedEntity instanceof Member) {
+            // 고객사는 상위 코드가, 공급사는 본인 코드가 공급사 코드
+            String motherCode = ((Member) changedEntity).getMotherCode();
+            String classificationCode = ((Member) changedEntity).getClassificationCode();
+            eviction = () -> {
+                deviceConfirmCache.getObject().evictSupplier(motherCode);
+                deviceConfirmCache.getObject().evictSupplier(classificationCode);
+            };
+        } else if (changedEntity instanceof Product) {
+            eviction = () -> deviceConfirmCache.getObject().evictAll();
+        } else {
+            return;
+        }
+
+        EntityListenerSupport.runAfterCommit(eviction);
+    }
+}
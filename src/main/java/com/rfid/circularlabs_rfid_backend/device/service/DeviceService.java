@@ -27,6 +27,7 @@ public class DeviceService {
     private final DeviceQueryData deviceQueryData;
     private final MemberQueryData memberQueryData;
     private final ProductQueryData productQueryData;
+    private final DeviceConfirmCache deviceConfirmCache;
     //private final JedisPool jedisPool;
     //private final RedisTemplate<String, Object> deviceRedisTemplate;
     //private final RedisHashConfirmDeviceDataRepository redisHashConfirmDeviceDataRepository;
@@ -43,6 +44,29 @@ public class DeviceService {
     private DeviceResponseDto useRedisTemplate(HttpServletResponse response, String dc) {
         log.info("RedisTemplate을 통한 Redis 데이터 추출");
 
+        // 기기 확정 데이터는 L1(메모리) -> L2(Redis) -> DB 순서로 조회
+        DeviceResponseDto deviceResponseDto = deviceConfirmCache.get(dc, () -> loadDeviceConfirmData(dc));
+        String supplierCode = deviceResponseDto.getSupplierCode();
+
+        // 쿠키 설정
+        Cookie cookie = new Cookie("supplier", supplierCode);
+        cookie.setMaxAge(604800);
+
+        // HTTP 응답 헤더 생성 및 데이터 저장
+        response.addHeader("supplier", supplierCode);
+        response.addHeader("device", dc);
+        response.addHeader("Set-Cookie", supplierCode);
+        response.addCookie(cookie);
+
+        return deviceResponseDto;
+    }
+
+
+    // DB 에서 기기 확정 데이터 조회
+    private DeviceResponseDto loadDeviceConfirmData(String dc) {
+        // 기기 확정 데이터는 DeviceConfirmCache 가 서버 간 무효화하므로, 서버별 로컬 캐시(@Cacheable 캐시)를 거치지 않고 DB 에서 직접 조회
+        // (다른 서버에서 변경되어 아직 로컬 캐시에 남은 이전 값이 Redis 의 기기 확정 데이터로 다시 저장되는 것을 막음)
+
         // 기기 정보 일부 추출
         Tuple deviceInfo = deviceQueryData.getSeveralDeviceInfo(dc);
         String supplierCode = deviceInfo.get(device.supplierCode); // 기기에 속한 공급사 코드
@@ -68,7 +92,7 @@ public class DeviceService {
         }
 
         // 모든 제품 리스트
-        List<GetProductInfo> productsInfo = productQueryData.getProductInfoList();
+        List<GetProductInfo> productsInfo = productQueryData.findProductInfoList();
 
         // 반환 및 Redis에 저장될 Json 객체 데이터
         DeviceResponseDto deviceResponseDto = DeviceResponseDto.builder()
@@ -94,16 +118,6 @@ public class DeviceService {
         });
          **/
 
-        // 쿠키 설정
-        Cookie cookie = new Cookie("supplier", supplierCode);
-        cookie.setMaxAge(604800);
-
-        // HTTP 응답 헤더 생성 및 데이터 저장
-        response.addHeader("supplier", supplierCode);
-        response.addHeader("device", dc);
-        response.addHeader("Set-Cookie", supplierCode);
-        response.addCookie(cookie);
-
         return deviceResponseDto;
     }
 
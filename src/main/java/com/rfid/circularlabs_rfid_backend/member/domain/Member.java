@@ -1,6 +1,8 @@
 package com.rfid.circularlabs_rfid_backend.member.domain;
 
 
+import com.rfid.circularlabs_rfid_backend.configuration.CacheEvictListener;
+import com.rfid.circularlabs_rfid_backend.device.service.DeviceConfirmCacheListener;
 import com.rfid.circularlabs_rfid_backend.share.TimeStamped;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
+@EntityListeners({DeviceConfirmCacheListener.class, CacheEvictListener.class})
 public class Member extends TimeStamped {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,7 @@
 package com.rfid.circularlabs_rfid_backend.member.service;
 
 import com.querydsl.core.Tuple;
+import com.rfid.circularlabs_rfid_backend.configuration.CacheConfig;
 import com.rfid.circularlabs_rfid_backend.member.domain.Member;
 import com.rfid.circularlabs_rfid_backend.member.response.GetClientsResponseDto;
 import com.rfid.circularlabs_rfid_backend.query.member.MemberQueryData;
@@ -8,12 +9,17 @@ import com.rfid.circularlabs_rfid_backend.share.ResponseBody;
 import com.rfid.circularlabs_rfid_backend.share.StatusCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,8 +27,12 @@ import java.util.List;
 public class MemberService {
 
     private final MemberQueryData memberQueryData;
+    private final CacheManager cacheManager;
+
+    private volatile String memberTableFingerprint;
 
     // 출고 / 입고 / 회수 / 세척 / 폐기 시 해당되는 고객사들 호출 조회
+    @Cacheable(cacheNames = CacheConfig.SUPPLIER_CLIENTS, key = "#sc")
     public List<GetClientsResponseDto> getClients(String sc){
         log.info("[service] 작업 수행 시 고객사 리스트 호출 api - 코드 : {}", sc);
 
@@ -41,4 +51,21 @@ public class MemberService {
 
         return responseClients;
     }
+
+    // 회원은 다른 시스템(관리자 웹)에서 변경되므로 주기적으로 회원 테이블의 변경 여부를 확인하여 변경되었으면 고객사 목록 캐시 제거
+    @Scheduled(fixedDelayString = "${rfid.cache.supplier-clients.check-interval-ms:30000}")
+    public void checkMemberChanged() {
+        String currentFingerprint = memberQueryData.getTableFingerprint();
+
+        if (memberTableFingerprint != null && !Objects.equals(memberTableFingerprint, currentFingerprint)) {
+            log.info("회원 변경 감지 - 고객사 목록 캐시 초기화");
+
+            Cache cache = cacheManager.getCache(CacheConfig.SUPPLIER_CLIENTS);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+
+        memberTableFingerprint = currentFingerprint;
+    }
 }
@@ -1,6 +1,7 @@
 package com.rfid.circularlabs_rfid_backend.process.domain;
 
 
+import com.rfid.circularlabs_rfid_backend.query2.discardhistory.DiscardHistoryIndexListener;
 import com.rfid.circularlabs_rfid_backend.share.TimeStamped;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,8 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
+@EntityListeners(DiscardHistoryIndexListener.class)
+@Table(indexes = @Index(name = "idx_discard_history_serial", columnList = "productSerialCode, productCode"))
 public class DiscardHistory extends TimeStamped {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
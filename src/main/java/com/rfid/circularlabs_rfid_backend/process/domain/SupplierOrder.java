@@ -1,6 +1,7 @@
 package com.rfid.circularlabs_rfid_backend.process.domain;
 
 
+import com.rfid.circularlabs_rfid_backend.query2.supplierorder.SupplierOrderCacheListener;
 import com.rfid.circularlabs_rfid_backend.share.TimeStamped;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
+@EntityListeners(SupplierOrderCacheListener.class)
 public class SupplierOrder extends TimeStamped {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
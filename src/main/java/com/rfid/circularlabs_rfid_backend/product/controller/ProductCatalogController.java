@@ -0,0 +1,77 @@
+package com.rfid.circularlabs_rfid_backend.product.controller;
+
+import com.rfid.circularlabs_rfid_backend.product.response.ProductCatalogDeltaResponseDto;
+import com.rfid.circularlabs_rfid_backend.product.service.ProductCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/cl/product")
+@RestController
+public class ProductCatalogController {
+
+    private final ProductCatalogService productCatalogService;
+
+    // 전체 제품 목록 api (If-None-Match 가 현재 ETag 와 같으면 304)
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalog(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        ProductCatalogService.CatalogSnapshot snapshot = productCatalogService.getSnapshot();
+
+        if (matchesETag(ifNoneMatch, snapshot.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getETag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+
+    // 특정 버전 이후 변경된 제품 목록 api
+    @GetMapping("/catalog/delta")
+    public ResponseEntity<ProductCatalogDeltaResponseDto> getCatalogDelta(@RequestParam long since) {
+        log.info("제품 목록 변경분 요청 - 기준 버전 : {}", since);
+
+        ProductCatalogService.CatalogSnapshot snapshot = productCatalogService.getSnapshot();
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(productCatalogService.getDelta(since));
+    }
+
+    // If-None-Match 는 여러 ETag(쉼표 구분) / 약한 ETag(W/) / * 가 올 수 있음
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String eachETag : ifNoneMatch.split(",")) {
+            String candidate = eachETag.trim();
+
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+
+            if (candidate.equals("*") || candidate.equals(eTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,5 +1,8 @@
 package com.rfid.circularlabs_rfid_backend.product.domain;
 
+import com.rfid.circularlabs_rfid_backend.configuration.CacheEvictListener;
+import com.rfid.circularlabs_rfid_backend.device.service.DeviceConfirmCacheListener;
+import com.rfid.circularlabs_rfid_backend.query2.scandata.ProductAllowlistListener;
 import com.rfid.circularlabs_rfid_backend.share.TimeStamped;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +16,7 @@ import javax.persistence.*;
 @Builder
 @Getter
 @Entity
+@EntityListeners({ProductAllowlistListener.class, DeviceConfirmCacheListener.class, CacheEvictListener.class})
 public class Product extends TimeStamped {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_product_detail_serial", columnNames = "productSerialCode"))
 public class ProductDetail extends TimeStamped {
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -25,7 +26,10 @@ public class ProductDetail extends TimeStamped {
     // 추가하여 적립 저장하는 것이 아닌 이미 한 번 저장된 데이터들에 한해 상태값을 update 하기 위한 용도
     ///////////////////////////////////////////////////////////////////////////////////////////
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 를 일괄(batch) 처리할 수 없으므로 id_generator 테이블에서 100 개 단위로 식별자를 미리 할당받아 사용
+    @TableGenerator(name = "product_detail_id_generator", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "product_detail", allocationSize = 100)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_detail_id_generator")
     @Id
     private Long productDetailId; // 인덱스
 
@@ -17,6 +17,10 @@ import java.util.List;
 @Builder
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_product_detail_history_cycle", columnList = "supplierCode, productCode, clientCode, cycle"),
+        @Index(name = "idx_product_detail_history_serial", columnList = "productSerialCode, cycle")
+})
 public class ProductDetailHistory extends TimeStamped {
     ///////////////////////////////////////////////////////////////////
     // [제품 심화 상세 이력]
@@ -25,7 +29,10 @@ public class ProductDetailHistory extends TimeStamped {
     // 작업 처리를 수행할 때마다 매 번 insert하여 이력을 저장하기 위한 용도
     ///////////////////////////////////////////////////////////////////
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 를 일괄(batch) 처리할 수 없으므로 id_generator 테이블에서 100 개 단위로 식별자를 미리 할당받아 사용
+    @TableGenerator(name = "product_detail_history_id_generator", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "product_detail_history", allocationSize = 100)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_detail_history_id_generator")
     @Id
     private Long productDetailHistoryId; // 인덱스
 
@@ -57,4 +64,9 @@ public class ProductDetailHistory extends TimeStamped {
     @JoinColumn(name = "rfidScanHistoryId")
     @ManyToOne(fetch = FetchType.LAZY)
     private RfidScanHistory rfidScanHistory;
+
+    // 저장된 RFID 스캔 이력(상품별 작업 수량 row)과 연결
+    public void linkRfidScanHistory(RfidScanHistory rfidScanHistory) {
+        this.rfidScanHistory = rfidScanHistory;
+    }
 }
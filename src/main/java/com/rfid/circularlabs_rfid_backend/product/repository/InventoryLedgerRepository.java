@@ -0,0 +1,86 @@
+package com.rfid.circularlabs_rfid_backend.product.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Repository
+public class InventoryLedgerRepository {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [공급사 / 제품별 재고 원장]
+    // inventory_ledger 테이블은 (공급사 코드, 제품 분류 코드) 당 한 row 로 총 재고 수량(공급사 주문 수량 합), 미회수 수량, 폐기 수량을 보관
+    // 스캔 / 폐기는 이 클래스에서, 공급사 주문(supplier_order) 변경은 DB 트리거에서 증감 연산으로 반영하므로
+    // 재고 수량을 조회할 때 주문 전체 합계나 최신 스캔 이력을 다시 계산하지 않고 기본 키 조회 한 번으로 끝남
+    // (테이블 / 트리거 / 기존 데이터 적재는 db/migration/V3__inventory_ledger.sql, 주문 변경 트리거 수정은 V5__supplier_order_ledger_update_upsert.sql)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final String APPLY_NO_RETURN_SQL =
+            "INSERT INTO inventory_ledger (supplier_code, product_code, total_quantity, no_return_quantity, discard_quantity, modified_at) " +
+            "SELECT ?, ?, COALESCE(SUM(order_mount), 0), ?, 0, NOW() FROM supplier_order WHERE classification_code = ? AND product_code = ? " +
+            "ON DUPLICATE KEY UPDATE no_return_quantity = no_return_quantity + VALUES(no_return_quantity), modified_at = VALUES(modified_at)";
+
+    private static final String APPLY_DISCARD_SQL =
+            "INSERT INTO inventory_ledger (supplier_code, product_code, total_quantity, no_return_quantity, discard_quantity, modified_at) " +
+            "SELECT ?, ?, COALESCE(SUM(order_mount), 0), 0, ?, NOW() FROM supplier_order WHERE classification_code = ? AND product_code = ? " +
+            "ON DUPLICATE KEY UPDATE discard_quantity = discard_quantity + VALUES(discard_quantity), modified_at = VALUES(modified_at)";
+
+    private static final String SELECT_SQL =
+            "SELECT total_quantity, no_return_quantity, discard_quantity FROM inventory_ledger WHERE supplier_code = ? AND product_code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public InventoryLedgerRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 원장 한 row 의 재고 수량
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final int totalRemainQuantity; // 총 재고 수량 (공급사 주문 수량 합)
+        private final int noReturnQuantity; // 미회수 수량
+        private final int discardQuantity; // 폐기 수량
+
+        // 유동 재고 수량
+        public int getFlowRemainQuantity() {
+            return totalRemainQuantity - noReturnQuantity;
+        }
+    }
+
+    // 미회수 수량 증감 (입고 : +, 회수 : -) 후 변경된 재고 수량 반환
+    // 증감과 조회를 같은 트랜잭션에서 수행하므로 반환 값은 이번 증감이 반영된 직후의 값
+    // 호출하는 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여하므로, 스캔 이력 저장과 함께 커밋 / 롤백됨
+    public Snapshot applyNoReturnDelta(String supplierCode, String productCode, int delta) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update(APPLY_NO_RETURN_SQL, supplierCode, productCode, delta, supplierCode, productCode);
+            return find(supplierCode, productCode);
+        });
+    }
+
+    // 폐기 수량 증가
+    public void applyDiscardDelta(String supplierCode, String productCode, int delta) {
+        jdbcTemplate.update(APPLY_DISCARD_SQL, supplierCode, productCode, delta, supplierCode, productCode);
+    }
+
+    // 재고 수량 조회 (원장 row 가 없으면 null)
+    public Snapshot find(String supplierCode, String productCode) {
+        List<Snapshot> snapshots = jdbcTemplate.query(SELECT_SQL,
+                (resultSet, rowNum) -> new Snapshot(
+                        resultSet.getInt("total_quantity"),
+                        resultSet.getInt("no_return_quantity"),
+                        resultSet.getInt("discard_quantity")),
+                supplierCode, productCode);
+
+        return snapshots.isEmpty() ? null : snapshots.get(0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.rfid.circularlabs_rfid_backend.product.repository;
+
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Repository
+public class ProductDetailUpsertRepository {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [ProductDetail 일괄 upsert]
+    // 제품 고유 코드(product_serial_code) 유니크 키 기준으로 INSERT ... ON DUPLICATE KEY UPDATE 를 실행하여
+    // 스캔 한 번의 상태 변경(상태 / 고객사 / 마지막 리딩 시간 / 사이클 증가)을 묶음 단위 하나의 쿼리로 반영
+    // 없는 제품은 insert, 있는 제품은 update 되므로 조회 후 저장 / 업데이트를 나누지 않으며
+    // 같은 태그를 동시에 스캔해도 중복 row 가 생기거나 사이클이 두 번 증가하지 않음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final int UPSERT_CHUNK_SIZE = 1000;
+
+    // ProductDetail 의 @TableGenerator 와 동일한 식별자 발급 행 / 할당 크기
+    private static final String ID_SEQUENCE_NAME = "product_detail";
+    private static final int ID_ALLOCATION_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate idAllocationTransaction;
+
+    public ProductDetailUpsertRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocationTransaction = new TransactionTemplate(transactionManager);
+        this.idAllocationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 스캔 작업별 상태 변경 규칙
+    @Getter
+    @RequiredArgsConstructor
+    public enum Transition {
+        OUT(false, true, false), // 출고 : 상태 / 고객사 / 리딩 시간 변경
+        IN(false, false, true), // 입고 : 상태 / 리딩 시간 변경, 1 시간 이내 동일 상태 재스캔은 무시 (고객사는 출고 시점의 고객사 유지)
+        TURN_BACK(true, false, true), // 회수 : 상태 / 리딩 시간 변경 및 사이클 증가, 1 시간 이내 동일 상태 재스캔은 무시
+        CLEAN(false, false, false), // 세척 : 상태 / 리딩 시간 변경
+        DISCARD(false, false, false); // 폐기 : 상태 / 리딩 시간 변경
+
+        private final boolean incrementCycle; // 사이클 증가 여부
+        private final boolean updateClientCode; // 고객사 코드 변경 여부
+        private final boolean skipRecentSameStatus; // 1 시간 이내 동일 상태 재스캔 무시 여부
+    }
+
+    // 스캔한 제품들의 변경될 상태(ProductDetail)를 묶음 단위로 upsert
+    // 새로 insert 되는 제품은 전달된 값 그대로 저장되고, 이미 존재하는 제품은 transition 규칙에 따라 update
+    public void upsertScanStates(List<ProductDetail> scanStates, Transition transition) {
+        if (scanStates.isEmpty()) {
+            return;
+        }
+
+        long nextId = allocateIds(scanStates.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int start = 0; start < scanStates.size(); start += UPSERT_CHUNK_SIZE) {
+            List<ProductDetail> chunk = scanStates.subList(start, Math.min(start + UPSERT_CHUNK_SIZE, scanStates.size()));
+            List<Object> parameters = new ArrayList<>(chunk.size() * 11);
+
+            for (ProductDetail eachScanState : chunk) {
+                parameters.add(nextId++);
+                parameters.add(eachScanState.getRfidChipCode());
+                parameters.add(eachScanState.getProductSerialCode());
+                parameters.add(eachScanState.getProductCode());
+                parameters.add(eachScanState.getSupplierCode());
+                parameters.add(eachScanState.getClientCode());
+                parameters.add(eachScanState.getStatus());
+                parameters.add(eachScanState.getCycle());
+                parameters.add(Timestamp.valueOf(eachScanState.getLatestReadingAt()));
+                parameters.add(now);
+                parameters.add(now);
+            }
+
+            jdbcTemplate.update(upsertSql(chunk.size(), transition), parameters.toArray());
+        }
+
+        log.info("ProductDetail upsert - 작업 : {}, 제품 수 : {}", transition, scanStates.size());
+    }
+
+    // MySQL 은 ON DUPLICATE KEY UPDATE 의 대입을 왼쪽부터 차례로 적용하므로
+    // 무시 조건이 참조하는 latest_reading_at / status 는 가장 마지막에 변경
+    private static String upsertSql(int rowCount, Transition transition) {
+        String skip = transition.isSkipRecentSameStatus()
+                ? "(status = VALUES(status) AND latest_reading_at > VALUES(latest_reading_at) - INTERVAL 1 HOUR)"
+                : "FALSE";
+
+        StringBuilder sql = new StringBuilder()
+                .append("INSERT INTO product_detail (product_detail_id, rfid_chip_code, product_serial_code, product_code, supplier_code, ")
+                .append("client_code, status, cycle, latest_reading_at, created_at, modified_at) VALUES ");
+
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        sql.append(" ON DUPLICATE KEY UPDATE ");
+
+        if (transition.isIncrementCycle()) {
+            sql.append("cycle = IF(").append(skip).append(", cycle, cycle + 1), ");
+        }
+
+        if (transition.isUpdateClientCode()) {
+            sql.append("client_code = IF(").append(skip).append(", client_code, VALUES(client_code)), ");
+        }
+
+        return sql.append("modified_at = IF(").append(skip).append(", modified_at, VALUES(modified_at)), ")
+                .append("latest_reading_at = IF(").append(skip).append(", latest_reading_at, VALUES(latest_reading_at)), ")
+                .append("status = VALUES(status)")
+                .toString();
+    }
+
+    // id_generator 에서 count 개의 식별자를 할당받아 첫 번째 식별자 반환
+    // Hibernate pooled 최적화는 next_val 값 V 를 읽으면 (V - 100, V] 구간을 사용하므로,
+    // V 를 읽고 V + (블록 수 + 1) * 100 으로 올린 뒤 (V, V + 블록 수 * 100] 구간을 사용하여 JPA 저장과 식별자가 겹치지 않도록 함
+    private long allocateIds(int count) {
+        long blocks = (count + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+
+        Long firstId = idAllocationTransaction.execute(status -> {
+            while (true) {
+                Long currentValue = jdbcTemplate.queryForObject(
+                        "SELECT next_val FROM id_generator WHERE sequence_name = ?", Long.class, ID_SEQUENCE_NAME);
+
+                int updated = jdbcTemplate.update(
+                        "UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val = ?",
+                        currentValue + (blocks + 1) * ID_ALLOCATION_SIZE, ID_SEQUENCE_NAME, currentValue);
+
+                if (updated == 1) {
+                    return currentValue + 1;
+                }
+            }
+        });
+
+        return firstId;
+    }
+}
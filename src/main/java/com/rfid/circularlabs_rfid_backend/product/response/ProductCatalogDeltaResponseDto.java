@@ -0,0 +1,20 @@
+package com.rfid.circularlabs_rfid_backend.product.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class ProductCatalogDeltaResponseDto {
+    private long version; // 현재 제품 목록 버전
+    private long sinceVersion; // 요청한 기준 버전
+    private boolean full; // 기준 버전을 알 수 없어 전체 목록을 내려주는지 여부 (true 면 upsertedProducts 가 전체 목록)
+    private List<GetProductInfo> upsertedProducts; // 추가 / 변경된 제품
+    private List<String> removedProductCodes; // 삭제된 제품 분류 코드
+}
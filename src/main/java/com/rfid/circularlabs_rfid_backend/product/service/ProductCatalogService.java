@@ -0,0 +1,233 @@
+package com.rfid.circularlabs_rfid_backend.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.configuration.CacheConfig;
+import com.rfid.circularlabs_rfid_backend.product.response.GetProductInfo;
+import com.rfid.circularlabs_rfid_backend.product.response.ProductCatalogDeltaResponseDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.rfid.circularlabs_rfid_backend.product.domain.QProduct.product;
+
+@Slf4j
+@Service
+public class ProductCatalogService {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [버전별 제품 목록(카탈로그) 스냅샷]
+    // 리더기마다 같은 전체 제품 목록(제품 분류 코드 / 제품 명)을 조회하므로, 제품이 바뀔 때만 한 번 조회하여 JSON 바이트로 만들어 두고 그대로 응답
+    // 버전 : 제품 마지막 수정 시간(epoch ms) -> 같은 DB 를 보는 서버들은 같은 버전을 가짐
+    //        (수정 시간 변화 없이 목록만 바뀐 경우(삭제)에는 이전 버전 + 1)
+    // ETag : 버전 + 내용 해시 -> If-None-Match 가 같으면 304
+    // 변경분 : 최근 버전들의 목록을 보관해 두고 요청한 버전과 현재 목록을 비교, 보관하지 않은 버전이면 전체 목록
+    // 갱신 : Product 변경 시 CacheEvictListener 가 markStale 호출, 다른 시스템의 변경은 주기적으로 제품 테이블의 변경 여부를 확인
+    //        (변경되었으면 같은 제품 목록을 담는 productCatalog 캐시도 함께 제거)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final int RETAINED_VERSIONS = 32;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    // 버전별 제품 목록 (제품 분류 코드 -> 제품 명), 오래된 버전부터 제거
+    private final Map<Long, Map<String, String>> retainedCatalogs = new LinkedHashMap<Long, Map<String, String>>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Map<String, String>> eldest) {
+            return size() > RETAINED_VERSIONS;
+        }
+    };
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile boolean stale = true;
+    private volatile String tableFingerprint;
+
+    public ProductCatalogService(JPAQueryFactory jpaQueryFactory, ObjectMapper objectMapper, CacheManager cacheManager) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+    }
+
+    // 한 버전의 제품 목록과 응답 바이트
+    @Getter
+    public static class CatalogSnapshot {
+        private final long version;
+        private final String eTag;
+        private final byte[] body; // {"version":..,"products":[..]}
+        private final List<GetProductInfo> products;
+
+        private CatalogSnapshot(long version, String eTag, byte[] body, List<GetProductInfo> products) {
+            this.version = version;
+            this.eTag = eTag;
+            this.body = body;
+            this.products = products;
+        }
+    }
+
+    // 현재 제품 목록 스냅샷 (변경 표시가 있으면 다시 생성)
+    public CatalogSnapshot getSnapshot() {
+        if (stale || snapshot == null) {
+            rebuild();
+        }
+
+        return snapshot;
+    }
+
+    // 현재 제품 목록
+    public List<GetProductInfo> getProducts() {
+        return getSnapshot().getProducts();
+    }
+
+    // 요청한 버전 이후 변경된 제품
+    public ProductCatalogDeltaResponseDto getDelta(long sinceVersion) {
+        CatalogSnapshot currentSnapshot = getSnapshot();
+        Map<String, String> sinceCatalog;
+        Map<String, String> currentCatalog;
+
+        synchronized (retainedCatalogs) {
+            sinceCatalog = retainedCatalogs.get(sinceVersion);
+            currentCatalog = retainedCatalogs.get(currentSnapshot.getVersion());
+        }
+
+        if (sinceCatalog == null || currentCatalog == null) {
+            return ProductCatalogDeltaResponseDto.builder()
+                    .version(currentSnapshot.getVersion())
+                    .sinceVersion(sinceVersion)
+                    .full(true)
+                    .upsertedProducts(currentSnapshot.getProducts())
+                    .removedProductCodes(Collections.emptyList())
+                    .build();
+        }
+
+        List<GetProductInfo> upsertedProducts = new ArrayList<>();
+        List<String> removedProductCodes = new ArrayList<>();
+
+        currentCatalog.forEach((productCode, productName) -> {
+            if (!Objects.equals(sinceCatalog.get(productCode), productName) || !sinceCatalog.containsKey(productCode)) {
+                upsertedProducts.add(GetProductInfo.builder().productCode(productCode).productName(productName).build());
+            }
+        });
+
+        sinceCatalog.keySet().forEach(productCode -> {
+            if (!currentCatalog.containsKey(productCode)) {
+                removedProductCodes.add(productCode);
+            }
+        });
+
+        return ProductCatalogDeltaResponseDto.builder()
+                .version(currentSnapshot.getVersion())
+                .sinceVersion(sinceVersion)
+                .full(false)
+                .upsertedProducts(upsertedProducts)
+                .removedProductCodes(removedProductCodes)
+                .build();
+    }
+
+    // 제품 변경 표시 (다음 조회 시 다시 생성)
+    public void markStale() {
+        stale = true;
+    }
+
+    // 다른 시스템에서 product 를 변경했는지 확인하여 변경되었으면 다시 생성
+    @Scheduled(fixedDelayString = "${rfid.product-catalog.check-interval-ms:30000}")
+    public void checkProductChanged() {
+        String currentFingerprint = String.valueOf(jpaQueryFactory
+                .select(product.count(), product.productId.max(), product.modifiedAt.max())
+                .from(product)
+                .fetchOne());
+
+        if (tableFingerprint != null && !Objects.equals(tableFingerprint, currentFingerprint)) {
+            log.info("제품 변경 감지 - 제품 목록 스냅샷 / 캐시 갱신");
+
+            Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_CATALOG);
+            if (cache != null) {
+                cache.clear();
+            }
+
+            rebuild();
+        }
+
+        tableFingerprint = currentFingerprint;
+    }
+
+    private synchronized void rebuild() {
+        stale = false;
+
+        List<Tuple> productRows = jpaQueryFactory
+                .select(product.productCode, product.productName, product.modifiedAt, product.createdAt)
+                .from(product)
+                .orderBy(product.productId.asc())
+                .fetch();
+
+        Map<String, String> catalog = new LinkedHashMap<>();
+        List<GetProductInfo> products = new ArrayList<>();
+        long latestModifiedMillis = 0L;
+
+        for (Tuple eachProduct : productRows) {
+            String productCode = eachProduct.get(product.productCode);
+            String productName = eachProduct.get(product.productName);
+
+            catalog.put(productCode, productName);
+            products.add(GetProductInfo.builder().productCode(productCode).productName(productName).build());
+
+            latestModifiedMillis = Math.max(latestModifiedMillis, epochMillis(eachProduct.get(product.modifiedAt)));
+            latestModifiedMillis = Math.max(latestModifiedMillis, epochMillis(eachProduct.get(product.createdAt)));
+        }
+
+        CatalogSnapshot previousSnapshot = snapshot;
+
+        synchronized (retainedCatalogs) {
+            if (previousSnapshot != null && catalog.equals(retainedCatalogs.get(previousSnapshot.getVersion()))) {
+                return;
+            }
+
+            long version = latestModifiedMillis;
+
+            if (previousSnapshot != null && version <= previousSnapshot.getVersion()) {
+                version = previousSnapshot.getVersion() + 1;
+            }
+
+            byte[] body = serialize(version, products);
+            String eTag = "\"" + version + "-" + DigestUtils.md5DigestAsHex(body) + "\"";
+
+            retainedCatalogs.put(version, Collections.unmodifiableMap(catalog));
+            snapshot = new CatalogSnapshot(version, eTag, body, Collections.unmodifiableList(products));
+
+            log.info("제품 목록 스냅샷 생성 - 버전 : {}, 제품 수 : {}", version, products.size());
+        }
+    }
+
+    private byte[] serialize(long version, List<GetProductInfo> products) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", version);
+        body.put("products", products);
+
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제품 목록 직렬화 실패", e);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -36,4 +36,13 @@ public class MemberQueryData {
                 .limit(1)
                 .fetchOne();
     }
+
+
+    /** 회원 테이블 변경 여부 확인용 (건수 / 마지막 id / 마지막 수정 시간) **/
+    public String getTableFingerprint(){
+        return String.valueOf(jpaQueryFactory
+                .select(member.count(), member.memberId.max(), member.modifiedAt.max())
+                .from(member)
+                .fetchOne());
+    }
 }
@@ -2,10 +2,12 @@ package com.rfid.circularlabs_rfid_backend.query.product;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.configuration.CacheConfig;
 import com.rfid.circularlabs_rfid_backend.product.response.GetProductInfo;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -22,7 +24,15 @@ public class ProductQueryData {
     private final JPAQueryFactory jpaQueryFactory;
 
     // 앱 상에서 제품 스캔 시 같이 추출될 제품 명들 조회
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_CATALOG, key = "'all'")
     public List<GetProductInfo> getProductInfoList(){
+        return findProductInfoList();
+    }
+
+
+    // 제품 명들 DB 직접 조회 (productCatalog 캐시를 거치지 않음)
+    // 기기 확정 데이터(DeviceConfirmCache)처럼 서버 간 무효화가 되는 캐시에 저장할 값은 로컬 캐시 값이 아닌 이 결과로 생성
+    public List<GetProductInfo> findProductInfoList(){
 
         List<GetProductInfo> productInfos = new ArrayList<>();
 
@@ -0,0 +1,69 @@
+package com.rfid.circularlabs_rfid_backend.query2.discardhistory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+class DiscardBloomFilter {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [폐기 제품 Bloom filter]
+    // "폐기되지 않음" 은 확실하게, "폐기되었을 수 있음" 은 오차(falsePositiveRate)를 가지고 판단하는 비트 배열
+    // 예상 건수 / 오차율로 비트 수와 해시 함수 수를 정하며, 두 개의 해시 값을 조합(double hashing)하여 해시 함수 여러 개를 대신함
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final BitSet bits;
+    private final int bitSize;
+    private final int hashCount;
+    private final int expectedInsertions;
+
+    DiscardBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.bitSize = (int) Math.max(64, Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / this.expectedInsertions * Math.log(2)));
+        this.bits = new BitSet(bitSize);
+    }
+
+    int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    synchronized void put(String key) {
+        long hash = hash64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            bits.set(index(hash1 + i * hash2));
+        }
+    }
+
+    synchronized boolean mightContain(String key) {
+        long hash = hash64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            if (!bits.get(index(hash1 + i * hash2))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    // FNV-1a 64bit
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte eachByte : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (eachByte & 0xff);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,29 @@
+package com.rfid.circularlabs_rfid_backend.query2.discardhistory;
+
+import com.rfid.circularlabs_rfid_backend.process.domain.DiscardHistory;
+import com.rfid.circularlabs_rfid_backend.share.EntityListenerSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+
+@RequiredArgsConstructor
+@Component
+public class DiscardHistoryIndexListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [DiscardHistory 저장 시 폐기 제품 색인 추가]
+    // 트랜잭션 안에서 저장되면 롤백된 폐기 이력이 색인에 남지 않도록 커밋 이후에 추가
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ObjectProvider<DiscardIndex> discardIndex;
+
+    @PostPersist
+    public void addDiscardIndex(DiscardHistory savedDiscardHistory) {
+        String productCode = savedDiscardHistory.getProductCode();
+        String productSerialCode = savedDiscardHistory.getProductSerialCode();
+
+        EntityListenerSupport.runAfterCommit(() -> discardIndex.getObject().add(productCode, productSerialCode));
+    }
+}
@@ -18,6 +18,7 @@ import static com.rfid.circularlabs_rfid_backend.process.domain.QDiscardHistory.
 public class DiscardHistoryQueryDataV2 {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final DiscardIndex discardIndex;
 
 
     // 폐기 이력 조회
@@ -38,19 +39,9 @@ public class DiscardHistoryQueryDataV2 {
     }
 
 
-    // 특정 제품이 폐기된 이력이 존재하는지 확인
+    // 특정 제품이 폐기된 이력이 존재하는지 확인 (DB 조회 없이 폐기 제품 색인 사용)
     public Boolean checkProductDiscard(String productCode, String productSerialCode){
-        if(jpaQueryFactory
-                .selectFrom(discardHistory)
-                .where(discardHistory.productCode.eq(productCode)
-                        .and(discardHistory.productSerialCode.eq(productSerialCode)))
-                .limit(1)
-                .fetchOne() != null){
-            return true;
-        }else{
-            return false;
-        }
-
+        return discardIndex.contains(productCode, productSerialCode);
     }
 
 
@@ -0,0 +1,123 @@
+package com.rfid.circularlabs_rfid_backend.query2.discardhistory;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rfid.circularlabs_rfid_backend.process.domain.QDiscardHistory.discardHistory;
+
+@Slf4j
+@Component
+public class DiscardIndex {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [폐기 제품 색인]
+    // 폐기 이력(DiscardHistory)은 드물게 추가만 되므로 서버 시작 시 (제품 분류 코드, 제품 고유 코드) 전체를 메모리에 적재하고,
+    // 스캔한 태그의 폐기 여부를 DB 조회 없이 Bloom filter -> 정확한 집합(Set) 순서로 판단
+    // 대부분의 태그는 폐기되지 않았으므로 Bloom filter 에서 바로 "폐기 아님" 으로 끝남
+    // 1. 이 서버에서 저장한 폐기 이력은 DiscardHistoryIndexListener 가 커밋 이후 바로 추가
+    // 2. 다른 서버에서 저장한 폐기 이력은 주기적으로 마지막으로 적재한 인덱스 이후의 row 만 추가 적재
+    //    AUTO_INCREMENT 인덱스는 커밋 순서와 다를 수 있으므로(작은 인덱스가 나중에 커밋) 마지막 인덱스 앞 rescan-window 건도 다시 조회
+    // 적재가 끝나기 전에는 기존과 동일하게 DB 를 조회
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_EXPECTED_INSERTIONS = 10000;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final long rescanWindow;
+    private final Set<String> discardedProducts = ConcurrentHashMap.newKeySet();
+
+    private volatile DiscardBloomFilter bloomFilter = new DiscardBloomFilter(MIN_EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    private volatile boolean loaded = false;
+    private volatile long lastLoadedDiscardHistoryId = 0L;
+
+    public DiscardIndex(JPAQueryFactory jpaQueryFactory,
+                        @Value("${rfid.discard-index.rescan-window:1000}") long rescanWindow) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.rescanWindow = rescanWindow;
+    }
+
+    // 특정 제품이 폐기된 이력이 존재하는지 확인
+    public boolean contains(String productCode, String productSerialCode) {
+        if (!loaded) {
+            return jpaQueryFactory
+                    .selectOne()
+                    .from(discardHistory)
+                    .where(discardHistory.productCode.eq(productCode)
+                            .and(discardHistory.productSerialCode.eq(productSerialCode)))
+                    .fetchFirst() != null;
+        }
+
+        String key = indexKey(productCode, productSerialCode);
+
+        return bloomFilter.mightContain(key) && discardedProducts.contains(key);
+    }
+
+    // 폐기 이력 추가
+    // Bloom filter 재생성과 같은 잠금으로 실행하여, 재생성 중에 추가된 키가 교체되는 이전 Bloom filter 에만 들어가는 경우를 막음
+    public synchronized void add(String productCode, String productSerialCode) {
+        String key = indexKey(productCode, productSerialCode);
+
+        if (discardedProducts.add(key)) {
+            // 예상 건수를 넘으면 오차율이 커지므로 두 배 크기로 다시 생성
+            if (discardedProducts.size() > bloomFilter.getExpectedInsertions()) {
+                rebuildBloomFilter(discardedProducts.size() * 2);
+            } else {
+                bloomFilter.put(key);
+            }
+        }
+    }
+
+    // 서버 시작 시 전체 폐기 이력 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadAfter(0L);
+        rebuildBloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, discardedProducts.size() * 2));
+        loaded = true;
+
+        log.info("폐기 제품 색인 적재 완료 - 폐기 제품 수 : {}", discardedProducts.size());
+    }
+
+    // 다른 서버에서 추가된 폐기 이력 적재
+    @Scheduled(fixedDelayString = "${rfid.discard-index.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (loaded) {
+            loadAfter(Math.max(0L, lastLoadedDiscardHistoryId - rescanWindow));
+        }
+    }
+
+    // 조회는 잠금 밖에서 수행하고 (스캔 처리 중의 add 를 막지 않도록) 추가만 add 의 잠금으로 반영
+    private void loadAfter(long discardHistoryId) {
+        List<Tuple> discardProducts = jpaQueryFactory
+                .select(discardHistory.discardHistoryId, discardHistory.productCode, discardHistory.productSerialCode)
+                .from(discardHistory)
+                .where(discardHistory.discardHistoryId.gt(discardHistoryId))
+                .orderBy(discardHistory.discardHistoryId.asc())
+                .fetch();
+
+        for (Tuple eachDiscardProduct : discardProducts) {
+            add(eachDiscardProduct.get(discardHistory.productCode), eachDiscardProduct.get(discardHistory.productSerialCode));
+            lastLoadedDiscardHistoryId = Math.max(lastLoadedDiscardHistoryId, eachDiscardProduct.get(discardHistory.discardHistoryId));
+        }
+    }
+
+    private synchronized void rebuildBloomFilter(int expectedInsertions) {
+        DiscardBloomFilter rebuiltBloomFilter = new DiscardBloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        discardedProducts.forEach(rebuiltBloomFilter::put);
+        bloomFilter = rebuiltBloomFilter;
+    }
+
+    private static String indexKey(String productCode, String productSerialCode) {
+        return productCode + ":" + productSerialCode;
+    }
+}
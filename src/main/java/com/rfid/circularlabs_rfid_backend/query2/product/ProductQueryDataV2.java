@@ -1,18 +1,15 @@
 package com.rfid.circularlabs_rfid_backend.query2.product;
 
-import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.rfid.circularlabs_rfid_backend.product.response.GetProductInfo;
+import com.rfid.circularlabs_rfid_backend.product.service.ProductCatalogService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import static com.rfid.circularlabs_rfid_backend.product.domain.QProduct.product;
-
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -20,26 +17,10 @@ import static com.rfid.circularlabs_rfid_backend.product.domain.QProduct.product
 public class ProductQueryDataV2 {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final ProductCatalogService productCatalogService;
 
-    // 앱 상에서 제품 스캔 시 같이 추출될 제품 명들 조회
+    // 앱 상에서 제품 스캔 시 같이 추출될 제품 명들 조회 (제품 목록 스냅샷 사용)
     public List<GetProductInfo> getProductInfoList(){
-
-        List<GetProductInfo> productInfos = new ArrayList<>();
-
-        List<Tuple> productsInfo = jpaQueryFactory
-                .select(product.productCode, product.productName)
-                .from(product)
-                .fetch();
-
-        for(Tuple eachProductInfo : productsInfo){
-            productInfos.add(
-                    GetProductInfo.builder()
-                            .productCode(eachProductInfo.get(product.productCode))
-                            .productName(eachProductInfo.get(product.productName))
-                            .build()
-            );
-        }
-
-        return productInfos;
+        return productCatalogService.getProducts();
     }
 }
@@ -11,6 +11,8 @@ import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.rfid.circularlabs_rfid_backend.product.domain.QProductDetail.productDetail;
 
@@ -22,6 +24,9 @@ public class ProductDetailQueryDataV2 {
     private final JPAQueryFactory jpaQueryFactory;
     private final EntityManager entityManager;
 
+    // 제품 고유 코드 IN 조회 시 한 번에 묶어서 조회할 최대 코드 수
+    private static final int SERIAL_CODE_CHUNK_SIZE = 1000;
+
     // 데이터 스캔 후 작업 처리 시 기존에 대분류 제품 스캔 이력(ProductDetail)이 존재했는지 확인하기 위한 함수
     public ProductDetail checkRemainProductDetail(String productSerialCode, String productCode, String supplierCode, String clientCode) {
         return jpaQueryFactory
@@ -35,6 +40,31 @@ public class ProductDetailQueryDataV2 {
                 .fetchOne();
     }
 
+    // 스캔한 제품 고유 코드들을 묶음 단위(IN)로 한 번에 조회하여 고유 코드별 가장 최근에 리딩된 ProductDetail 을 반환
+    public Map<String, ProductDetail> getLatestProductDetailsBySerialCodes(List<String> productSerialCodes) {
+
+        List<String> distinctSerialCodes = productSerialCodes.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<String, ProductDetail> latestProductDetails = new HashMap<>();
+
+        for (int start = 0; start < distinctSerialCodes.size(); start += SERIAL_CODE_CHUNK_SIZE) {
+            List<String> serialCodeChunk = distinctSerialCodes.subList(start, Math.min(start + SERIAL_CODE_CHUNK_SIZE, distinctSerialCodes.size()));
+
+            jpaQueryFactory
+                    .selectFrom(productDetail)
+                    .where(productDetail.productSerialCode.in(serialCodeChunk))
+                    .fetch()
+                    .forEach(eachProductDetail -> latestProductDetails.merge(
+                            eachProductDetail.getProductSerialCode(),
+                            eachProductDetail,
+                            (prev, current) -> current.getLatestReadingAt().isAfter(prev.getLatestReadingAt()) ? current : prev));
+        }
+
+        return latestProductDetails;
+    }
+
     // 회수 및 세척 처리 시 기존에 대분류 제품 스캔 이력(ProductDetail)을 확인하기 위한 함수
     public ProductDetail checkBeforeStatusProductDetail(String productSerialCode, String productCode, String supplierCode) {
 
@@ -0,0 +1,33 @@
+package com.rfid.circularlabs_rfid_backend.query2.scandata;
+
+import com.rfid.circularlabs_rfid_backend.product.domain.Product;
+import com.rfid.circularlabs_rfid_backend.share.EntityListenerSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@RequiredArgsConstructor
+@Component
+public class ProductAllowlistListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [Product 변경 시 스캔 가능 제품 캐시 제거]
+    // 제품은 여러 공급사의 주문에 걸쳐 있으므로 전체 캐시를 제거하며, 트랜잭션 안에서 변경되면 커밋 이후에 한 번 더 제거
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ObjectProvider<ScanProductAllowlist> scanProductAllowlist;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evictAllowlist(Product changedProduct) {
+        Runnable eviction = () -> scanProductAllowlist.getObject().evictAll();
+
+        eviction.run();
+        EntityListenerSupport.runAfterCommit(eviction);
+    }
+}
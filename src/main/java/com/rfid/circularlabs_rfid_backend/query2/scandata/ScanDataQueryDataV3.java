@@ -1,11 +1,10 @@
 package com.rfid.circularlabs_rfid_backend.query2.scandata;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.rfid.circularlabs_rfid_backend.process.domain.SupplierOrder;
-import com.rfid.circularlabs_rfid_backend.product.domain.Product;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.query2.supplierorder.SupplierOrderTotalCache;
 import com.rfid.circularlabs_rfid_backend.scan.domain.RfidScanHistory;
 import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
 import com.rfid.circularlabs_rfid_backend.scan.response.ProductDetailscanResponseDto;
@@ -23,11 +22,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.rfid.circularlabs_rfid_backend.process.domain.QSupplierOrder.supplierOrder;
 import static com.rfid.circularlabs_rfid_backend.product.domain.QProductDetail.productDetail;
 import static com.rfid.circularlabs_rfid_backend.product.domain.QProductDetailHistory.productDetailHistory;
 import static com.rfid.circularlabs_rfid_backend.scan.domain.QRfidScanHistory.rfidScanHistory;
-import static com.rfid.circularlabs_rfid_backend.product.domain.QProduct.product;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -38,6 +35,8 @@ public class ScanDataQueryDataV3 {
     private final EntityManager entityManager;
     //private final RedisTemplate<String, Object> redisTemplate;
     private final ProductDetailRepository productDetailRepository;
+    private final SupplierOrderTotalCache supplierOrderTotalCache;
+    private final ScanProductAllowlist scanProductAllowlist;
 
 
     public ProductDetailscanResponseDto updateProductDetail(SendProductCode productCodes, String supplierCode, String clientCode) {
@@ -110,38 +109,19 @@ public class ScanDataQueryDataV3 {
     }
 
     // 데이터 스캔 후 작업 처리 시 기존에 RFID 기기 스캔 이력 정보가 존재했는지 확인하기 위한 함수
+    // 공급사 / 제품별 주문 수량 합은 캐시 사용
     public Integer selectLastProductInfo(String productCode, String supplierCode) {
-
-        return jpaQueryFactory
-                .select(supplierOrder.orderMount.sum())
-                .from(supplierOrder)
-                .where(supplierOrder.classificationCode.eq(supplierCode).and(supplierOrder.productCode.eq(productCode)))
-                .fetchOne();
+        return supplierOrderTotalCache.getOrderTotal(supplierCode, productCode);
     }
 
+    // 공급사에 등록된 제품인지 확인 (공급사별 스캔 가능 제품 캐시 사용)
     public boolean correctProduct(String productCode, String supplierCode) {
+        return scanProductAllowlist.isAllowed(productCode, supplierCode);
+    }
 
-        List<Product> existProducts = jpaQueryFactory
-                .selectFrom(product)
-                .where(product.productCode.eq(productCode))
-                .fetch();
-
-        if (existProducts != null && !existProducts.isEmpty()) {
-
-            List<SupplierOrder> existSupplierOrderList = jpaQueryFactory
-                    .selectFrom(supplierOrder)
-                    .where(supplierOrder.classificationCode.eq(supplierCode)
-                            .and(supplierOrder.productCode.eq(productCode)))
-                    .fetch();
-
-            if (existSupplierOrderList != null && !existSupplierOrderList.isEmpty()) {
-                return true;
-            } else {
-                return false;
-            }
-        }
-
-        return false;
+    // 스캔 데이터 중 공급사에 등록된 제품의 태그만 반환
+    public List<SendProductCode> filterCorrectProducts(List<SendProductCode> scanDatas, String supplierCode) {
+        return scanProductAllowlist.filterAllowed(scanDatas, supplierCode);
     }
 
 
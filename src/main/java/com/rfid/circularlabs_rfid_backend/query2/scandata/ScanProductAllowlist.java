@@ -0,0 +1,114 @@
+package com.rfid.circularlabs_rfid_backend.query2.scandata;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.rfid.circularlabs_rfid_backend.process.domain.QSupplierOrder.supplierOrder;
+import static com.rfid.circularlabs_rfid_backend.product.domain.QProduct.product;
+
+@Slf4j
+@Component
+public class ScanProductAllowlist {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [공급사별 스캔 가능 제품 분류 코드 캐시]
+    // 스캔한 태그의 제품 분류 코드가 등록된 제품(Product)이면서 해당 공급사의 주문(SupplierOrder)이 존재하는지 확인할 때
+    // 태그마다 조회하지 않고, 공급사별로 조건을 만족하는 제품 분류 코드 집합을 한 번의 조회로 만들어 두고 집합으로 판단
+    // 1. Product 변경 시 ProductAllowlistListener 가 전체 캐시를, SupplierOrder 변경 시 SupplierOrderCacheListener 가 해당 공급사 캐시를 제거
+    // 2. 다른 시스템이 product / supplier_order 를 직접 변경하는 경우를 위해 주기적으로 두 테이블의 변경 여부를 확인하여 바뀌었으면 전체 캐시를 비움
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final Map<String, Set<String>> allowedProductCodes = new ConcurrentHashMap<>();
+
+    private volatile String tableFingerprint;
+
+    public ScanProductAllowlist(JPAQueryFactory jpaQueryFactory, MeterRegistry meterRegistry) {
+        this.jpaQueryFactory = jpaQueryFactory;
+
+        meterRegistry.gaugeMapSize("rfid.cache.scan-product-allowlist.size", Collections.emptyList(), allowedProductCodes);
+    }
+
+    // 공급사에 등록된 제품인지 확인
+    public boolean isAllowed(String productCode, String supplierCode) {
+        return allowedProductCodes(supplierCode).contains(productCode);
+    }
+
+    // 스캔 데이터 중 공급사에 등록된 제품의 태그만 반환 (스캔 순서 유지)
+    // 공급사 캐시가 없을 때만 한 번 조회하므로 조회 수는 태그 수와 무관
+    public List<SendProductCode> filterAllowed(List<SendProductCode> scanDatas, String supplierCode) {
+        Set<String> allowed = allowedProductCodes(supplierCode);
+
+        return scanDatas.stream()
+                .filter(eachScanData -> allowed.contains(eachScanData.getProductCode()))
+                .collect(Collectors.toList());
+    }
+
+    // 특정 공급사의 캐시 제거
+    public void evict(String supplierCode) {
+        allowedProductCodes.remove(supplierCode);
+    }
+
+    // 전체 캐시 제거
+    public void evictAll() {
+        allowedProductCodes.clear();
+    }
+
+    // 다른 시스템에서 product / supplier_order 를 변경했는지 확인하여 변경되었으면 전체 캐시 제거
+    @Scheduled(fixedDelayString = "${rfid.cache.scan-product-allowlist.check-interval-ms:30000}")
+    public void checkTableChanged() {
+        Tuple productState = jpaQueryFactory
+                .select(product.count(), product.productId.max(), product.modifiedAt.max())
+                .from(product)
+                .fetchOne();
+
+        Tuple supplierOrderState = jpaQueryFactory
+                .select(supplierOrder.count(), supplierOrder.orderId.max(), supplierOrder.modifiedAt.max())
+                .from(supplierOrder)
+                .fetchOne();
+
+        String currentFingerprint = productState + "/" + supplierOrderState;
+
+        if (tableFingerprint != null && !Objects.equals(tableFingerprint, currentFingerprint)) {
+            log.info("제품 / 공급사 주문 변경 감지 - 스캔 가능 제품 캐시 초기화");
+            evictAll();
+        }
+
+        tableFingerprint = currentFingerprint;
+    }
+
+    // 공급사 주문이 존재하면서 제품으로 등록된 제품 분류 코드 집합
+    private Set<String> allowedProductCodes(String supplierCode) {
+        if (supplierCode == null) {
+            return Collections.emptySet();
+        }
+
+        return allowedProductCodes.computeIfAbsent(supplierCode, absentSupplierCode -> {
+            List<String> productCodes = jpaQueryFactory
+                    .select(supplierOrder.productCode)
+                    .distinct()
+                    .from(supplierOrder)
+                    .where(supplierOrder.classificationCode.eq(absentSupplierCode)
+                            .and(supplierOrder.productCode.in(
+                                    JPAExpressions.select(product.productCode).from(product))))
+                    .fetch();
+
+            return Collections.unmodifiableSet(new HashSet<>(productCodes));
+        });
+    }
+}
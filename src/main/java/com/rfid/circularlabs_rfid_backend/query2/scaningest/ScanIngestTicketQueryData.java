@@ -0,0 +1,109 @@
+package com.rfid.circularlabs_rfid_backend.query2.scaningest;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.rfid.circularlabs_rfid_backend.scan.domain.QScanIngestTicket.scanIngestTicket;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ScanIngestTicketQueryData {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 티켓 상태 변경 조회]
+    // 여러 서버 / 작업 스레드가 같은 티켓을 동시에 처리하지 않도록 상태 조건을 건 update 로 처리 시작(claim) 및 복구를 수행
+    // (조회 후 저장 방식은 두 서버가 같은 접수 티켓을 동시에 읽으면 둘 다 처리하게 됨)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 접수 상태인 티켓만 처리중으로 변경 (변경된 row 가 있으면 이 서버가 처리)
+    @Transactional
+    public boolean claim(String ticketId, String ownerNode, LocalDateTime leaseExpiresAt) {
+        return jpaQueryFactory
+                .update(scanIngestTicket)
+                .set(scanIngestTicket.status, ScanIngestService.STATUS_PROCESSING)
+                .set(scanIngestTicket.ownerNode, ownerNode)
+                .set(scanIngestTicket.leaseExpiresAt, leaseExpiresAt)
+                .set(scanIngestTicket.modifiedAt, LocalDateTime.now())
+                .where(scanIngestTicket.ticketId.eq(ticketId)
+                        .and(scanIngestTicket.status.eq(ScanIngestService.STATUS_ACCEPTED)))
+                .execute() == 1;
+    }
+
+    // 이 서버가 처리 중인 티켓의 처리 임대 연장
+    @Transactional
+    public long renewLeases(String ownerNode, LocalDateTime leaseExpiresAt) {
+        return jpaQueryFactory
+                .update(scanIngestTicket)
+                .set(scanIngestTicket.leaseExpiresAt, leaseExpiresAt)
+                .where(scanIngestTicket.ownerNode.eq(ownerNode)
+                        .and(scanIngestTicket.status.eq(ScanIngestService.STATUS_PROCESSING)))
+                .execute();
+    }
+
+    // 이 서버가 처리 중이던 티켓을 실패로 변경 (서버 재시작 시 처리가 중단된 티켓)
+    @Transactional
+    public long failOwnedProcessing(String ownerNode, String errorMessage) {
+        return jpaQueryFactory
+                .update(scanIngestTicket)
+                .set(scanIngestTicket.status, ScanIngestService.STATUS_FAILED)
+                .set(scanIngestTicket.errorMessage, errorMessage)
+                .set(scanIngestTicket.modifiedAt, LocalDateTime.now())
+                .where(scanIngestTicket.ownerNode.eq(ownerNode)
+                        .and(scanIngestTicket.status.eq(ScanIngestService.STATUS_PROCESSING)))
+                .execute();
+    }
+
+    // 처리 임대가 만료된 티켓을 실패로 변경 (처리하던 서버가 내려가 더 이상 연장되지 않는 티켓)
+    @Transactional
+    public long failExpiredProcessing(LocalDateTime now, String errorMessage) {
+        return jpaQueryFactory
+                .update(scanIngestTicket)
+                .set(scanIngestTicket.status, ScanIngestService.STATUS_FAILED)
+                .set(scanIngestTicket.errorMessage, errorMessage)
+                .set(scanIngestTicket.modifiedAt, now)
+                .where(scanIngestTicket.status.eq(ScanIngestService.STATUS_PROCESSING)
+                        .and(scanIngestTicket.leaseExpiresAt.isNull()
+                                .or(scanIngestTicket.leaseExpiresAt.before(now))))
+                .execute();
+    }
+
+    // 이 서버가 접수한 뒤 아직 처리를 시작하지 않은 티켓 번호 (서버 재시작 시 작업 대기열에서 사라진 티켓)
+    public List<String> findOwnedAcceptedTicketIds(String ownerNode) {
+        return jpaQueryFactory
+                .select(scanIngestTicket.ticketId)
+                .from(scanIngestTicket)
+                .where(scanIngestTicket.ownerNode.eq(ownerNode)
+                        .and(scanIngestTicket.status.eq(ScanIngestService.STATUS_ACCEPTED)))
+                .fetch();
+    }
+
+    // 접수된 지 오래되었는데 어느 서버도 처리를 시작하지 않은 티켓 번호 (접수한 서버가 내려간 경우)
+    public List<String> findStaleAcceptedTicketIds(LocalDateTime acceptedBefore) {
+        return jpaQueryFactory
+                .select(scanIngestTicket.ticketId)
+                .from(scanIngestTicket)
+                .where(scanIngestTicket.status.eq(ScanIngestService.STATUS_ACCEPTED)
+                        .and(scanIngestTicket.createdAt.before(acceptedBefore)))
+                .fetch();
+    }
+
+    // 처리가 끝난(완료 / 실패) 지 보관 기간이 지난 티켓 삭제 (접수 요청 데이터 전체를 보관하므로 계속 쌓이지 않도록 정리)
+    @Transactional
+    public long deleteFinishedBefore(LocalDateTime modifiedBefore) {
+        return jpaQueryFactory
+                .delete(scanIngestTicket)
+                .where(scanIngestTicket.status.in(ScanIngestService.STATUS_COMPLETED, ScanIngestService.STATUS_FAILED)
+                        .and(scanIngestTicket.modifiedAt.before(modifiedBefore)))
+                .execute();
+    }
+}
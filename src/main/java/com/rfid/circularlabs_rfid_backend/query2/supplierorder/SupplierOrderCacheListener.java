@@ -0,0 +1,41 @@
+package com.rfid.circularlabs_rfid_backend.query2.supplierorder;
+
+import com.rfid.circularlabs_rfid_backend.process.domain.SupplierOrder;
+import com.rfid.circularlabs_rfid_backend.query2.scandata.ScanProductAllowlist;
+import com.rfid.circularlabs_rfid_backend.share.EntityListenerSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@RequiredArgsConstructor
+@Component
+public class SupplierOrderCacheListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [SupplierOrder 변경 시 주문 수량 합 캐시 / 스캔 가능 제품 캐시 제거]
+    // 트랜잭션 안에서 변경되면 커밋 이후에 한 번 더 제거하여, 커밋 전에 다른 스레드가 이전 값을 다시 캐시하는 경우를 막음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ObjectProvider<SupplierOrderTotalCache> supplierOrderTotalCache;
+    private final ObjectProvider<ScanProductAllowlist> scanProductAllowlist;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evictOrderTotal(SupplierOrder changedSupplierOrder) {
+        String supplierCode = changedSupplierOrder.getClassificationCode();
+        String productCode = changedSupplierOrder.getProductCode();
+
+        Runnable eviction = () -> {
+            supplierOrderTotalCache.getObject().evict(supplierCode, productCode);
+            scanProductAllowlist.getObject().evict(supplierCode);
+        };
+
+        eviction.run();
+        EntityListenerSupport.runAfterCommit(eviction);
+    }
+}
@@ -13,16 +13,10 @@ import static com.rfid.circularlabs_rfid_backend.process.domain.QSupplierOrder.s
 public class SupplierOrderQueryDataV2 {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final SupplierOrderTotalCache supplierOrderTotalCache;
 
-    // 총 재고 수량 추출
+    // 총 재고 수량 추출 (공급사 / 제품별 주문 수량 합 캐시 사용)
     public Integer getTotalRemainCount(String supplierCode, String productCode){
-
-        return jpaQueryFactory
-                .select(supplierOrder.orderMount.sum())
-                .from(supplierOrder)
-                .where(supplierOrder.classificationCode.eq(supplierCode)
-                        .and(supplierOrder.productCode.eq(productCode)))
-                .limit(1)
-                .fetchOne();
+        return supplierOrderTotalCache.getOrderTotal(supplierCode, productCode);
     }
 }
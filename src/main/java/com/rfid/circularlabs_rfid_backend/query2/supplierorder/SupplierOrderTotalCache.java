@@ -0,0 +1,107 @@
+package com.rfid.circularlabs_rfid_backend.query2.supplierorder;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rfid.circularlabs_rfid_backend.process.domain.QSupplierOrder.supplierOrder;
+
+@Slf4j
+@Component
+public class SupplierOrderTotalCache {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [공급사 / 제품별 주문 수량 합 캐시]
+    // 공급사 주문(SupplierOrder)은 일주일에 몇 번만 바뀌므로 스캔마다 sum(orderMount) 를 다시 계산하지 않고 캐시된 값을 사용
+    // 1. 이 서버에서 SupplierOrder 를 저장 / 수정 / 삭제하면 SupplierOrderCacheListener 가 해당 공급사 / 제품 캐시를 제거
+    // 2. 다른 시스템이 supplier_order 를 직접 변경하는 경우를 위해 주기적으로 주문 테이블의 변경 여부(건수 / 합계 / 마지막 수정 시간)를 확인하여
+    //    바뀌었으면 전체 캐시를 비움
+    // 적중 / 실패 횟수는 rfid.cache.supplier-order-total 지표(result=hit / miss)로 수집
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final Map<String, Optional<Integer>> orderTotals = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private volatile String orderTableFingerprint;
+
+    public SupplierOrderTotalCache(JPAQueryFactory jpaQueryFactory, MeterRegistry meterRegistry) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.hitCounter = Counter.builder("rfid.cache.supplier-order-total")
+                .description("공급사 / 제품별 주문 수량 합 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("rfid.cache.supplier-order-total")
+                .description("공급사 / 제품별 주문 수량 합 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        meterRegistry.gaugeMapSize("rfid.cache.supplier-order-total.size", Collections.emptyList(), orderTotals);
+    }
+
+    // 공급사 / 제품별 주문 수량 합 (주문이 없으면 null, 기존 sum 조회와 동일)
+    public Integer getOrderTotal(String supplierCode, String productCode) {
+        String key = cacheKey(supplierCode, productCode);
+        Optional<Integer> cachedTotal = orderTotals.get(key);
+
+        if (cachedTotal != null) {
+            hitCounter.increment();
+            return cachedTotal.orElse(null);
+        }
+
+        missCounter.increment();
+
+        // 같은 키를 동시에 조회해도 한 번만 계산하며, 계산 도중 제거 요청이 오면 계산이 끝난 뒤 제거됨
+        return orderTotals.computeIfAbsent(key, absentKey -> Optional.ofNullable(
+                jpaQueryFactory
+                        .select(supplierOrder.orderMount.sum())
+                        .from(supplierOrder)
+                        .where(supplierOrder.classificationCode.eq(supplierCode)
+                                .and(supplierOrder.productCode.eq(productCode)))
+                        .fetchOne()))
+                .orElse(null);
+    }
+
+    // 특정 공급사 / 제품의 캐시 제거
+    public void evict(String supplierCode, String productCode) {
+        orderTotals.remove(cacheKey(supplierCode, productCode));
+    }
+
+    // 전체 캐시 제거
+    public void evictAll() {
+        orderTotals.clear();
+    }
+
+    // 다른 시스템에서 supplier_order 를 변경했는지 확인하여 변경되었으면 전체 캐시 제거
+    @Scheduled(fixedDelayString = "${rfid.cache.supplier-order-total.check-interval-ms:30000}")
+    public void checkOrderTableChanged() {
+        Tuple orderTableState = jpaQueryFactory
+                .select(supplierOrder.count(), supplierOrder.orderMount.sum(), supplierOrder.modifiedAt.max())
+                .from(supplierOrder)
+                .fetchOne();
+
+        String currentFingerprint = orderTableState == null ? "" : orderTableState.toString();
+
+        if (orderTableFingerprint != null && !Objects.equals(orderTableFingerprint, currentFingerprint)) {
+            log.info("공급사 주문 변경 감지 - 주문 수량 합 캐시 초기화");
+            evictAll();
+        }
+
+        orderTableFingerprint = currentFingerprint;
+    }
+
+    private static String cacheKey(String supplierCode, String productCode) {
+        return supplierCode + ":" + productCode;
+    }
+}
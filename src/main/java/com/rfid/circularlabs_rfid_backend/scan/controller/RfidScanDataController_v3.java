@@ -1,6 +1,12 @@
 package com.rfid.circularlabs_rfid_backend.scan.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.rfid.circularlabs_rfid_backend.scan.request.*;
+import com.rfid.circularlabs_rfid_backend.scan.response.ScanIngestTicketResponseDto;
+import com.rfid.circularlabs_rfid_backend.scan.response.ScanStreamResultResponseDto;
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanIngestService;
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanStreamIngestService;
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanSubmissionGuard;
 import com.rfid.circularlabs_rfid_backend.scan.service.RfidScanDataService_v2;
 import com.rfid.circularlabs_rfid_backend.scan.service.RfidScanDataService_v3;
 import com.rfid.circularlabs_rfid_backend.share.ResponseBody;
@@ -11,12 +17,15 @@ import org.springframework.batch.core.JobParametersInvalidException;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,6 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class RfidScanDataController_v3 {
 
     private final RfidScanDataService_v3 scanDataServiceV3;
+    private final ScanIngestService scanIngestService;
+    private final ScanStreamIngestService scanStreamIngestService;
 
     /**
     // 스캔 데이터 출고 api v2
@@ -40,21 +51,23 @@ public class RfidScanDataController_v3 {
 
     // 스캔 데이터 입고 api v2
     @PostMapping("/in")
-    public synchronized ResponseEntity<ResponseBody> sendInData(@RequestBody RfidScanDataInRequestDto sendInDatas)
+    public ResponseEntity<ResponseBody> sendInData(@RequestBody RfidScanDataInRequestDto sendInDatas,
+                                                   @RequestHeader(value = ScanSubmissionGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey)
             throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         log.info("제품 입고 처리 api v2 - 입고 데이터 확인");
 
-        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, scanDataServiceV3.sendInData(sendInDatas)), HttpStatus.OK);
+        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, scanDataServiceV3.sendInData(sendInDatas, idempotencyKey)), HttpStatus.OK);
     }
 
 
     // 스캔 데이터 회수 api v2
     @PostMapping("/return")
-    public synchronized ResponseEntity<ResponseBody> sendReturnData(@RequestBody RfidScanDataReturnRequestDto sendReturnDatas)
+    public ResponseEntity<ResponseBody> sendReturnData(@RequestBody RfidScanDataReturnRequestDto sendReturnDatas,
+                                                       @RequestHeader(value = ScanSubmissionGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey)
             throws InterruptedException, JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         log.info("제품 회수 처리 api v2 - 회수 데이터 확인");
 
-        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, scanDataServiceV3.sendReturnData2(sendReturnDatas)), HttpStatus.OK);
+        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, scanDataServiceV3.sendReturnData2(sendReturnDatas, idempotencyKey)), HttpStatus.OK);
     }
 
 
@@ -71,10 +84,135 @@ public class RfidScanDataController_v3 {
 
     // 스캔 데이터 폐기 api v2
     @PostMapping("/discard")
-    public synchronized ResponseEntity<ResponseBody> sendDiscardData(@RequestBody RfidScanDataDiscardRequestDto senddiscardDatas) throws InterruptedException {
+    public ResponseEntity<ResponseBody> sendDiscardData(@RequestBody RfidScanDataDiscardRequestDto senddiscardDatas,
+                                                        @RequestHeader(value = ScanSubmissionGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) throws InterruptedException {
         log.info("제품 폐기 처리 api v2 - 폐기 데이터 확인");
 
-        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, scanDataServiceV3.sendDiscardData(senddiscardDatas)), HttpStatus.OK);
+        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, scanDataServiceV3.sendDiscardData(senddiscardDatas, idempotencyKey)), HttpStatus.OK);
+    }
+
+
+    // 스캔 데이터 입고 비동기 접수 api
+    @PostMapping("/async/in")
+    public ResponseEntity<ResponseBody> acceptInData(@RequestBody RfidScanDataInRequestDto sendInDatas) throws JsonProcessingException {
+        log.info("제품 입고 비동기 접수 api - 입고 데이터 접수");
+
+        return acceptedResponse(scanIngestService.accept(
+                ScanIngestService.OPERATION_IN, sendInDatas.getMachineId(), sendInDatas.getSupplierCode(), sendInDatas.getProductCodes(), sendInDatas));
+    }
+
+
+    // 스캔 데이터 회수 비동기 접수 api
+    @PostMapping("/async/return")
+    public ResponseEntity<ResponseBody> acceptReturnData(@RequestBody RfidScanDataReturnRequestDto sendReturnDatas) throws JsonProcessingException {
+        log.info("제품 회수 비동기 접수 api - 회수 데이터 접수");
+
+        return acceptedResponse(scanIngestService.accept(
+                ScanIngestService.OPERATION_RETURN, sendReturnDatas.getMachineId(), sendReturnDatas.getSupplierCode(), sendReturnDatas.getProductCodes(), sendReturnDatas));
+    }
+
+
+    // 스캔 데이터 폐기 비동기 접수 api
+    @PostMapping("/async/discard")
+    public ResponseEntity<ResponseBody> acceptDiscardData(@RequestBody RfidScanDataDiscardRequestDto senddiscardDatas) throws JsonProcessingException {
+        log.info("제품 폐기 비동기 접수 api - 폐기 데이터 접수");
+
+        return acceptedResponse(scanIngestService.accept(
+                ScanIngestService.OPERATION_DISCARD, senddiscardDatas.getMachineId(), senddiscardDatas.getSupplierCode(), senddiscardDatas.getProductCodes(), senddiscardDatas));
+    }
+
+
+    // 대용량 스캔 데이터 입고 스트리밍 처리 api (본문을 DTO 로 바인딩하지 않고 청크 단위로 읽으며 처리)
+    @PostMapping("/stream/in")
+    public ResponseEntity<ResponseBody> streamInData(HttpServletRequest request) throws IOException {
+        log.info("제품 입고 스트리밍 처리 api - 입고 데이터 확인");
+
+        return streamResponse(scanStreamIngestService.streamInData(requestBody(request)));
+    }
+
+
+    // 대용량 스캔 데이터 회수 스트리밍 처리 api
+    @PostMapping("/stream/return")
+    public ResponseEntity<ResponseBody> streamReturnData(HttpServletRequest request) throws IOException {
+        log.info("제품 회수 스트리밍 처리 api - 회수 데이터 확인");
+
+        return streamResponse(scanStreamIngestService.streamReturnData(requestBody(request)));
+    }
+
+
+    // 대용량 스캔 데이터 폐기 스트리밍 처리 api
+    @PostMapping("/stream/discard")
+    public ResponseEntity<ResponseBody> streamDiscardData(HttpServletRequest request) throws IOException {
+        log.info("제품 폐기 스트리밍 처리 api - 폐기 데이터 확인");
+
+        return streamResponse(scanStreamIngestService.streamDiscardData(requestBody(request)));
+    }
+
+
+    // 스캔 데이터 접수 티켓 처리 상태 조회 api
+    @GetMapping("/jobs/{ticket}")
+    public ResponseEntity<ResponseBody> getScanTicket(@PathVariable("ticket") String ticket) throws JsonProcessingException {
+        log.info("스캔 티켓 처리 상태 조회 api - 티켓 : {}", ticket);
+
+        ScanIngestTicketResponseDto ticketResponse = scanIngestService.getTicket(ticket);
+
+        if (ticketResponse == null) {
+            return new ResponseEntity<>(new ResponseBody(StatusCode.NOT_EXIST_SCAN_TICKET, null), HttpStatus.NOT_FOUND);
+        }
+
+        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, ticketResponse), HttpStatus.OK);
+    }
+
+
+    // 같은 Idempotency-Key 로 다른 데이터가 오거나 같은 전송이 아직 처리 중인 경우
+    @ExceptionHandler(ScanSubmissionGuard.ConflictException.class)
+    public ResponseEntity<ResponseBody> handleSubmissionConflict(ScanSubmissionGuard.ConflictException e) {
+        log.warn("스캔 데이터 중복 전송 거절 - {}", e.getMessage());
+
+        return new ResponseEntity<>(new ResponseBody(e.getStatusCode(), null), HttpStatus.CONFLICT);
+    }
+
+
+    // 스트리밍 요청 본문 (Content-Encoding: gzip 이면 압축을 풀면서 읽음)
+    private static InputStream requestBody(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            return new GZIPInputStream(body);
+        }
+
+        return body;
+    }
+
+
+    // 중간에 멈춘 경우(청크 처리 실패 / 태그 수 상한 초과 / 본문 형식 오류) 이미 반영된 청크 수와 함께 실패 응답
+    private ResponseEntity<ResponseBody> streamResponse(ScanStreamResultResponseDto streamResult) {
+        if (streamResult == null) {
+            return new ResponseEntity<>(new ResponseBody(StatusCode.NOT_RIGHT_SCAN_DATA, null), HttpStatus.BAD_REQUEST);
+        }
+
+        if (streamResult.getFailedChunk() != null) {
+            return new ResponseEntity<>(new ResponseBody(StatusCode.STREAM_CHUNK_FAILED, streamResult), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        if (streamResult.isTagLimitExceeded()) {
+            return new ResponseEntity<>(new ResponseBody(StatusCode.TOO_MANY_STREAM_TAGS, streamResult), HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        if (!streamResult.isCompleted()) {
+            return new ResponseEntity<>(new ResponseBody(StatusCode.NOT_RIGHT_SCAN_DATA, streamResult), HttpStatus.BAD_REQUEST);
+        }
+
+        return new ResponseEntity<>(new ResponseBody(StatusCode.OK, streamResult), HttpStatus.OK);
+    }
+
+
+    private ResponseEntity<ResponseBody> acceptedResponse(ScanIngestTicketResponseDto ticketResponse) {
+        if (ticketResponse == null) {
+            return new ResponseEntity<>(new ResponseBody(StatusCode.NOT_RIGHT_SCAN_DATA, null), HttpStatus.BAD_REQUEST);
+        }
+
+        return new ResponseEntity<>(new ResponseBody(StatusCode.ACCEPTED, ticketResponse), HttpStatus.ACCEPTED);
     }
 
 }
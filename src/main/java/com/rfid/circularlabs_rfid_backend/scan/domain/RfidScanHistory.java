@@ -19,6 +19,7 @@ import java.util.List;
 @Builder
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_rfid_scan_history_latest", columnList = "supplierCode, productCode, createdAt"))
 public class RfidScanHistory extends TimeStamped {
 
     //////////////////////////////////////////////////////////////////////////////////////////
@@ -26,7 +27,10 @@ public class RfidScanHistory extends TimeStamped {
     // RFID 기기로 스캔한 데이터들에 대한 상태 이력을 하나의 row로 스캔한 전체 데이터 이력으로서 관리하는 용도
     //////////////////////////////////////////////////////////////////////////////////////////
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 를 일괄(batch) 처리할 수 없으므로 id_generator 테이블에서 100 개 단위로 식별자를 미리 할당받아 사용
+    @TableGenerator(name = "rfid_scan_history_id_generator", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "rfid_scan_history", allocationSize = 100)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "rfid_scan_history_id_generator")
     @Id
     private Long rfidScanhistoryId; // 인덱스
 
@@ -0,0 +1,82 @@
+package com.rfid.circularlabs_rfid_backend.scan.domain;
+
+import com.rfid.circularlabs_rfid_backend.scan.service.ScanIngestService;
+import com.rfid.circularlabs_rfid_backend.share.TimeStamped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity
+public class ScanIngestTicket extends TimeStamped {
+
+    //////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 데이터 비동기 접수 티켓]
+    // 리더기가 보낸 스캔 데이터를 먼저 저장(접수)하고 티켓 번호를 바로 응답한 뒤,
+    // 작업 스레드에서 입고 / 회수 / 폐기 처리를 수행한 뒤 처리 상태와 태그별 처리 결과를 기록하는 용도
+    //////////////////////////////////////////////////////////////////////////////////////////
+
+    @Id
+    private String ticketId; // 티켓 번호
+
+    @Column(nullable = false)
+    private String operation; // 작업 구분 (입고 / 회수 / 폐기)
+
+    @Column(nullable = false)
+    private String deviceCode; // 기기 코드
+
+    @Column(nullable = false)
+    private String supplierCode; // 공급사 코드
+
+    @Column(nullable = false)
+    private String status; // 처리 상태 (접수 / 처리중 / 완료 / 실패)
+
+    @Column
+    private int totalCount; // 접수된 태그 수
+
+    @Column
+    private int processedCount; // 처리 완료된 태그 수 (처리가 끝날 때 기록)
+
+    @Column
+    private int rejectedCount; // 처리 대상이 아닌 태그 수 (처리가 끝날 때 기록)
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload; // 접수된 요청 데이터 (json)
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String tagOutcomes; // 태그별 처리 결과 (json)
+
+    @Column(length = 1000)
+    private String errorMessage; // 실패 사유
+
+    @Column
+    private String ownerNode; // 접수 / 처리 중인 서버 (처리 시작은 ScanIngestTicketQueryData.claim 으로 한 서버만 성공)
+
+    @Column
+    private LocalDateTime leaseExpiresAt; // 처리 임대 만료 시간 (처리 중인 서버가 주기적으로 연장하며, 지나면 다른 서버가 중단된 처리로 판단)
+
+    // 처리 완료 및 태그별 처리 결과 기록
+    public void complete(int processedCount, int rejectedCount, String tagOutcomes) {
+        this.status = ScanIngestService.STATUS_COMPLETED;
+        this.processedCount = processedCount;
+        this.rejectedCount = rejectedCount;
+        this.tagOutcomes = tagOutcomes;
+    }
+
+    // 처리 실패 및 태그별 처리 결과 기록
+    public void fail(String errorMessage, int rejectedCount, String tagOutcomes) {
+        this.status = ScanIngestService.STATUS_FAILED;
+        this.rejectedCount = rejectedCount;
+        this.tagOutcomes = tagOutcomes;
+        this.errorMessage = errorMessage == null ? null : errorMessage.substring(0, Math.min(errorMessage.length(), 1000));
+    }
+}
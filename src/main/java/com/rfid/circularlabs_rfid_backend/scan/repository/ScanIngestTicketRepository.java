@@ -0,0 +1,9 @@
+package com.rfid.circularlabs_rfid_backend.scan.repository;
+
+import com.rfid.circularlabs_rfid_backend.scan.domain.ScanIngestTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScanIngestTicketRepository extends JpaRepository<ScanIngestTicket, String> {
+}
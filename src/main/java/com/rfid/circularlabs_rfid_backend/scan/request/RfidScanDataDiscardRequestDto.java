@@ -1,9 +1,12 @@
 package com.rfid.circularlabs_rfid_backend.scan.request;
 
-import lombok.Getter;
+import lombok.*;
 
 import java.util.List;
 
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Getter
 public class RfidScanDataDiscardRequestDto {
     private String machineId;
@@ -0,0 +1,21 @@
+package com.rfid.circularlabs_rfid_backend.scan.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class ScanIngestTicketResponseDto {
+    private String ticketId; // 티켓 번호
+    private String operation; // 작업 구분
+    private String status; // 처리 상태
+    private int totalCount; // 접수된 태그 수
+    private Integer processedCount; // 처리 완료된 태그 수 (완료 / 실패 상태에서만, 처리 중에는 null)
+    private Integer rejectedCount; // 처리 대상이 아닌 태그 수 (완료 / 실패 상태에서만, 처리 중에는 null)
+    private String errorMessage; // 실패 사유
+    private String acceptedAt; // 접수 시간
+    private String modifiedAt; // 마지막 상태 변경 시간
+    private List<ScanTagOutcome> tagOutcomes; // 태그별 처리 결과
+}
@@ -0,0 +1,17 @@
+package com.rfid.circularlabs_rfid_backend.scan.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class ScanStreamResultResponseDto {
+    private String operation; // 작업 구분
+    private boolean completed; // 본문 끝까지 처리했는지 여부 (false 이면 chunkCount 개의 청크까지만 반영됨)
+    private int chunkCount; // 처리한 청크 수
+    private int receivedCount; // 읽은 태그 수
+    private int processedCount; // 중복 / 외부 태그를 제외하고 처리한 태그 수
+    private Integer failedChunk; // 처리에 실패한 청크 번호 (1 부터, 실패가 없으면 null)
+    private boolean tagLimitExceeded; // 한 요청의 태그 수 상한(rfid.scan.stream.max-tags)을 넘어 중단했는지 여부
+    private String errorMessage; // 처리 중단 사유
+}
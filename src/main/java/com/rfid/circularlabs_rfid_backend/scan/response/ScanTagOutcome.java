@@ -0,0 +1,16 @@
+package com.rfid.circularlabs_rfid_backend.scan.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ScanTagOutcome {
+    private String rfidChipCode; // RFID 칩 코드
+    private String productSerialCode; // 각 제품 고유 코드
+    private String productCode; // 제품 분류 코드
+    private String outcome; // 처리 결과 (처리 / 제외 / 재전송 / 실패)
+    private String reason; // 제외 / 재전송 사유 (외부 태그 / 중복 태그 / 등록되지 않은 제품 / 이미 처리된 요청)
+}
@@ -6,8 +6,9 @@ import com.rfid.circularlabs_rfid_backend.process.domain.DiscardHistory;
 import com.rfid.circularlabs_rfid_backend.process.repository.DiscardHistoryRepository;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
+import com.rfid.circularlabs_rfid_backend.product.repository.InventoryLedgerRepository;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailHistoryRepository;
-import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailUpsertRepository;
 import com.rfid.circularlabs_rfid_backend.product.response.ProductDetailResponseDto;
 import com.rfid.circularlabs_rfid_backend.query.clientorder.ClientOrderQueryData;
 import com.rfid.circularlabs_rfid_backend.query.discardhistory.DiscardHistoryQueryData;
@@ -15,6 +16,7 @@ import com.rfid.circularlabs_rfid_backend.query.productdetail.ProductDetailQuery
 import com.rfid.circularlabs_rfid_backend.query.productdetailhistory.ProductDetailHistoryQueryData;
 import com.rfid.circularlabs_rfid_backend.query.scandata.ScanDataQueryData;
 import com.rfid.circularlabs_rfid_backend.query.supplierorder.SupplierOrderQueryData;
+import com.rfid.circularlabs_rfid_backend.query2.productdetail.ProductDetailQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.scan.domain.RfidScanHistory;
 import com.rfid.circularlabs_rfid_backend.scan.repository.RfidScanHistoryRepository;
 import com.rfid.circularlabs_rfid_backend.scan.request.*;
@@ -40,10 +42,12 @@ import java.util.stream.Stream;
 public class RfidScanDataService {
 
     private final RfidScanHistoryRepository rfidScanHistoryRepository;
-    private final ProductDetailRepository productDetailRepository;
+    private final ProductDetailUpsertRepository productDetailUpsertRepository;
     private final ProductDetailHistoryRepository productDetailHistoryRepository;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
     private final DiscardHistoryRepository discardHistoryRepository;
     private final ProductDetailQueryData productDetailQueryData;
+    private final ProductDetailQueryDataV2 productDetailQueryDataV2;
     private final EntityManager entityManager;
     private final ScanDataQueryData scanDataQueryData;
     private final SupplierOrderQueryData supplierOrderQueryData;
@@ -170,11 +174,12 @@ public class RfidScanDataService {
                     .latestReadingAt(LocalDateTime.now())
                     .build();
 
-            // 저장
-            productDetailRepository.save(newInputProductDetail);
+            // 저장 (다른 고객사로 출고되었던 제품이면 같은 제품 고유 코드의 row 를 출고 상태로 변경)
+            productDetailUpsertRepository.upsertScanStates(Collections.singletonList(newInputProductDetail), ProductDetailUpsertRepository.Transition.OUT);
 
             // 새로 저장된 대분류 제품 스캔 이력(ProductDetail)을 공유하기 위해 if문 바깥으로 공유 처리
-            productDetail = newInputProductDetail;
+            productDetail = productDetailQueryDataV2.getLatestProductDetailsBySerialCodes(
+                    Collections.singletonList(eachProductCode.getProductSerialCode())).get(eachProductCode.getProductSerialCode());
 
             log.info("productDetail이 저장됨을 확인 : {}", productDetail.getProductDetailId());
 
@@ -578,7 +583,8 @@ public class RfidScanDataService {
                             .build();
 
 
-                    // 저장
+                    // 재고 원장의 미회수 수량을 입고 수량만큼 증가 후 저장
+                    inventoryLedgerRepository.applyNoReturnDelta(rfidScanHistory.getSupplierCode(), rfidScanHistory.getProductCode(), rfidScanHistory.getStatusCount());
                     rfidScanHistoryRepository.save(rfidScanHistory);
                     rfidScanHistoryList.add(rfidScanHistory);
 
@@ -842,7 +848,8 @@ public class RfidScanDataService {
                             .productDetailHistories(rfidHistoryMappingProductDetailHistorties)
                             .build();
 
-                    // 저장
+                    // 재고 원장의 미회수 수량을 회수 수량만큼 감소 후 저장
+                    inventoryLedgerRepository.applyNoReturnDelta(rfidScanHistory.getSupplierCode(), rfidScanHistory.getProductCode(), -rfidScanHistory.getStatusCount());
                     rfidScanHistoryRepository.save(rfidScanHistory);
                     rfidScanHistoryList.add(rfidScanHistory);
 
@@ -1272,7 +1279,8 @@ public class RfidScanDataService {
                             .reason("")
                             .build();
 
-                    // 저장
+                    // 재고 원장의 폐기 수량 증가 후 저장
+                    inventoryLedgerRepository.applyDiscardDelta(discardHistory.getSupplierCode(), discardHistory.getProductCode(), 1);
                     discardHistoryRepository.save(discardHistory);
 
                     /**
@@ -5,8 +5,9 @@ import com.rfid.circularlabs_rfid_backend.process.domain.DiscardHistory;
 import com.rfid.circularlabs_rfid_backend.process.repository.DiscardHistoryRepository;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
+import com.rfid.circularlabs_rfid_backend.product.repository.InventoryLedgerRepository;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailHistoryRepository;
-import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailUpsertRepository;
 import com.rfid.circularlabs_rfid_backend.query2.clientorder.ClientOrderQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.query2.discardhistory.DiscardHistoryQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.query2.productdetail.ProductDetailQueryDataV2;
@@ -25,6 +26,7 @@ import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
@@ -41,8 +43,9 @@ import java.util.stream.Collectors;
 public class RfidScanDataService_v2 {
 
     private final RfidScanHistoryRepository rfidScanHistoryRepository;
-    private final ProductDetailRepository productDetailRepository;
+    private final ProductDetailUpsertRepository productDetailUpsertRepository;
     private final ProductDetailHistoryRepository productDetailHistoryRepository;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
     private final DiscardHistoryRepository discardHistoryRepository;
     private final ProductDetailQueryDataV2 productDetailQueryDataV2;
     private final EntityManager entityManager;
@@ -52,6 +55,8 @@ public class RfidScanDataService_v2 {
     private final DiscardHistoryQueryDataV2 discardHistoryQueryDataV2;
     private final ProductDetailHistoryQueryDataV2 productDetailHistoryQueryDataV2;
     private final BatchParallelConfig batchParallelConfig;
+    private final ScanTagPrefilter scanTagPrefilter;
+    private final TransactionTemplate transactionTemplate;
 
 
     // 스캔 데이터 출고 service v2
@@ -63,7 +68,7 @@ public class RfidScanDataService_v2 {
         String deviceCode = sendOutDatas.getMachineId(); // 기기 코드
         String clientCode = sendOutDatas.getSelectClientCode(); // 고객사 코드
         String supplierCode = sendOutDatas.getSupplierCode(); // 공급사 코드
-        List<SendProductCode> receiveProductCodes = sendOutDatas.getProductCodes(); // 스캔한 제품 데이터들의 제품 분류 코드와 각 제품의 시리얼 코드 리스트
+        List<SendProductCode> receiveProductCodes = scanTagPrefilter.filter("출고", supplierCode, sendOutDatas.getProductCodes()); // 스캔한 제품 데이터들의 제품 분류 코드와 각 제품의 시리얼 코드 리스트 (중복 / 외부 태그 제외)
         List<SendOrderCount> eachProductCount = sendOutDatas.getEachProductCount(); // 각 제품의 출고 제품 수량
 
         // 실제 RfidScanHistory 엔티티에 같이 매핑되어 저장될 ProductDetail 엔티티 리스트 객체 생성
@@ -71,7 +76,7 @@ public class RfidScanDataService_v2 {
 
         // 출고 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
         List<SendProductCode> scanOutDatas = receiveProductCodes.stream()
-                .filter(scanOutData -> scanOutData.getFilteringCode().contains("CCA2310") && !discardHistoryQueryDataV2.checkProductDiscard(scanOutData.getProductCode(), scanOutData.getProductSerialCode()))
+                .filter(scanOutData -> !discardHistoryQueryDataV2.checkProductDiscard(scanOutData.getProductCode(), scanOutData.getProductSerialCode()))
                 .collect(Collectors.toList());
 
         // 1. ProductDetail 처리
@@ -122,7 +127,7 @@ public class RfidScanDataService_v2 {
                 // RfidScanHistory 처리 후 반환
                 RfidScanHistory saveRfidScanHistory = scanOutRfidScanHistory(orderProduct, unexpectedDicardProductCount, eachProductDetail, deviceCode, rfidHistoryMappingProductDetailHistorties);
 
-                // 일괄 처리를 위해 리스트에 저장
+                // 일괄 처리를 위해 리스트에 저장 (출고는 미회수 수량이 바뀌지 않으므로 재고 원장 증감 없음)
                 if (saveRfidScanHistory != null) {
                     rfidScanHistoryRepository.save(saveRfidScanHistory);
                     saveRfidScanHistoryList.add(saveRfidScanHistory);
@@ -189,7 +194,8 @@ public class RfidScanDataService_v2 {
 
         // 만약 처음 들어오는 데이터들이라면 저장 처리
         if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+            productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.OUT);
+            finalProductDetails.addAll(nullProductDetails);
         }
 
         return finalProductDetails;
@@ -378,7 +384,7 @@ public class RfidScanDataService_v2 {
         String deviceCode = sendInDatas.getMachineId();
         String clientCode = sendInDatas.getSelectClientCode();
         String supplierCode = sendInDatas.getSupplierCode();
-        List<SendProductCode> productCodes = sendInDatas.getProductCodes();
+        List<SendProductCode> productCodes = scanTagPrefilter.filter("입고", supplierCode, sendInDatas.getProductCodes()); // 중복 / 외부 태그를 걸러낸 스캔 데이터
         List<SendOrderCount> eachProductCount = sendInDatas.getEachProductCount();
 
         // 실제 RfidScanHistory 엔티티에 같이 매핑되어 저장될 ProductDetail 엔티티 리스트 객체 생성
@@ -386,7 +392,7 @@ public class RfidScanDataService_v2 {
 
         // 입고 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
         List<SendProductCode> scanInDatas = productCodes.stream()
-                .filter(scanInData -> scanInData.getFilteringCode().contains("CCA2310") && !discardHistoryQueryDataV2.checkProductDiscard(scanInData.getProductCode(), scanInData.getProductSerialCode()))
+                .filter(scanInData -> !discardHistoryQueryDataV2.checkProductDiscard(scanInData.getProductCode(), scanInData.getProductSerialCode()))
                 .collect(Collectors.toList());
 
         // 1. ProductDetail 처리
@@ -438,8 +444,12 @@ public class RfidScanDataService_v2 {
             RfidScanHistory saveRfidScanHistory = scanInRfidScanHistory(orderProduct, unexpectedDicardProductCount, eachProductDetail, deviceCode, rfidHistoryMappingProductDetailHistorties);
 
             // 일괄 처리를 위해 리스트에 저장
+            // 재고 원장의 미회수 수량을 입고 수량만큼 증가시키고 스캔 이력과 함께 커밋
             if (saveRfidScanHistory != null) {
-                rfidScanHistoryRepository.save(saveRfidScanHistory);
+                transactionTemplate.executeWithoutResult(status -> {
+                    inventoryLedgerRepository.applyNoReturnDelta(saveRfidScanHistory.getSupplierCode(), saveRfidScanHistory.getProductCode(), saveRfidScanHistory.getStatusCount());
+                    rfidScanHistoryRepository.save(saveRfidScanHistory);
+                });
                 saveRfidScanHistoryList.add(saveRfidScanHistory);
             }
 
@@ -518,7 +528,8 @@ public class RfidScanDataService_v2 {
 
         // 만약 처음 들어오는 데이터들이라면 저장 처리
         if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+            productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.IN);
+            finalProductDetails.addAll(nullProductDetails);
         }
 
         return finalProductDetails;
@@ -694,7 +705,7 @@ public class RfidScanDataService_v2 {
 
         String deviceCode = sendReturnDatas.getMachineId();
         String supplierCode = sendReturnDatas.getSupplierCode();
-        List<SendProductCode> productCodes = sendReturnDatas.getProductCodes();
+        List<SendProductCode> productCodes = scanTagPrefilter.filter("회수", supplierCode, sendReturnDatas.getProductCodes()); // 중복 / 외부 태그를 걸러낸 스캔 데이터
         List<SendOrderCount> eachProductCount = sendReturnDatas.getEachProductCount();
 
         // 실제 RfidScanHistory 엔티티에 같이 매핑되어 저장될 ProductDetail 엔티티 리스트 객체 생성
@@ -702,7 +713,7 @@ public class RfidScanDataService_v2 {
 
         // 회수 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
         List<SendProductCode> scanTurnBackDatas = productCodes.stream()
-                .filter(scanTurnBackData -> scanTurnBackData.getFilteringCode().contains("CCA2310") && !discardHistoryQueryDataV2.checkProductDiscard(scanTurnBackData.getProductCode(), scanTurnBackData.getProductSerialCode()))
+                .filter(scanTurnBackData -> !discardHistoryQueryDataV2.checkProductDiscard(scanTurnBackData.getProductCode(), scanTurnBackData.getProductSerialCode()))
                 .collect(Collectors.toList());
 
         // 1. ProductDetail 처리
@@ -754,8 +765,12 @@ public class RfidScanDataService_v2 {
             RfidScanHistory saveRfidScanHistory = scanReturnRfidScanHistory(orderProduct, unexpectedDicardProductCount, eachProductDetail, deviceCode, rfidHistoryMappingProductDetailHistorties);
 
             // 일괄 처리를 위해 리스트에 저장
+            // 재고 원장의 미회수 수량을 회수 수량만큼 감소시키고 스캔 이력과 함께 커밋
             if (saveRfidScanHistory != null) {
-                rfidScanHistoryRepository.save(saveRfidScanHistory);
+                transactionTemplate.executeWithoutResult(status -> {
+                    inventoryLedgerRepository.applyNoReturnDelta(saveRfidScanHistory.getSupplierCode(), saveRfidScanHistory.getProductCode(), -saveRfidScanHistory.getStatusCount());
+                    rfidScanHistoryRepository.save(saveRfidScanHistory);
+                });
                 saveRfidScanHistoryList.add(saveRfidScanHistory);
             }
 
@@ -807,7 +822,8 @@ public class RfidScanDataService_v2 {
                         .collect(Collectors.toList());
 
                 if (!notExistInDataProductDetails.isEmpty()) {
-                    finalProductDetails.addAll(productDetailRepository.saveAll(notExistInDataProductDetails));
+                    productDetailUpsertRepository.upsertScanStates(notExistInDataProductDetails, ProductDetailUpsertRepository.Transition.TURN_BACK);
+                    finalProductDetails.addAll(notExistInDataProductDetails);
                 }
             }
 
@@ -843,7 +859,8 @@ public class RfidScanDataService_v2 {
                 .collect(Collectors.toList());
 
         if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+            productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.TURN_BACK);
+            finalProductDetails.addAll(nullProductDetails);
         }
 
         return finalProductDetails;
@@ -1012,7 +1029,7 @@ public class RfidScanDataService_v2 {
 
         String deviceCode = sendCleanDatas.getMachineId();
         String supplierCode = sendCleanDatas.getSupplierCode();
-        List<SendProductCode> productCodes = sendCleanDatas.getProductCodes();
+        List<SendProductCode> productCodes = scanTagPrefilter.filter("세척", supplierCode, sendCleanDatas.getProductCodes()); // 중복 / 외부 태그를 걸러낸 스캔 데이터
         List<SendOrderCount> eachProductCount = sendCleanDatas.getEachProductCount();
 
         // 실제 RfidScanHistory 엔티티에 같이 매핑되어 저장될 ProductDetail 엔티티 리스트 객체 생성
@@ -1044,7 +1061,7 @@ public class RfidScanDataService_v2 {
 
         // 세척 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
         List<SendProductCode> scanCleanDatas = productCodes.stream()
-                .filter(scanCleanData -> scanCleanData.getFilteringCode().contains("CCA2310") && !unExpectedDiscardProduct.contains(scanCleanData.getProductCode() + ":" + scanCleanData.getProductSerialCode()))
+                .filter(scanCleanData -> !unExpectedDiscardProduct.contains(scanCleanData.getProductCode() + ":" + scanCleanData.getProductSerialCode()))
                 .collect(Collectors.toList());
 
         // 1. ProductDetail 처리
@@ -1090,7 +1107,7 @@ public class RfidScanDataService_v2 {
             // RfidScanHistory 처리 후 반환
             RfidScanHistory saveRfidScanHistory = scanCleanRfidScanHistory(orderProduct, eachProductDetail, unExpectedDiscardProductCountSet, deviceCode, rfidHistoryMappingProductDetailHistorties);
 
-            // 일괄 처리를 위해 리스트에 저장
+            // 일괄 처리를 위해 리스트에 저장 (세척은 미회수 수량이 바뀌지 않으므로 재고 원장 증감 없음)
             if (saveRfidScanHistory != null) {
                 rfidScanHistoryRepository.save(saveRfidScanHistory);
                 saveRfidScanHistoryList.add(saveRfidScanHistory);
@@ -1149,7 +1166,8 @@ public class RfidScanDataService_v2 {
                 .collect(Collectors.toList());
 
         if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+            productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.CLEAN);
+            finalProductDetails.addAll(nullProductDetails);
         }
 
         return finalProductDetails;
@@ -1314,12 +1332,9 @@ public class RfidScanDataService_v2 {
 
         String clientCode = sendDiscardDatas.getSelectClientCode();
         String supplierCode = sendDiscardDatas.getSupplierCode();
-        List<SendProductCode> productCodes = sendDiscardDatas.getProductCodes();
 
-        // 폐기 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
-        List<SendProductCode> scanDiscardDatas = productCodes.stream()
-                .filter(scanDiscardData -> scanDiscardData.getFilteringCode().contains("CCA2310"))
-                .collect(Collectors.toList());
+        // 폐기 스캔한 데이터들 중 중복 / 외부 태그를 걸러낸 리스트
+        List<SendProductCode> scanDiscardDatas = scanTagPrefilter.filter("폐기", supplierCode, sendDiscardDatas.getProductCodes());
 
         // 1. ProductDetail 처리
         // ProductDetail 처리 함수로 보내 정제된 ProductDetail 리스트 반환
@@ -1375,7 +1390,8 @@ public class RfidScanDataService_v2 {
                 .collect(Collectors.toList());
 
         if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+            productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.DISCARD);
+            finalProductDetails.addAll(nullProductDetails);
         }
 
         return finalProductDetails;
@@ -1436,6 +1452,14 @@ public class RfidScanDataService_v2 {
         }
 
         discardHistoryRepository.saveAll(resultDiscardHistoryList);
+
+        // 새로 폐기 이력이 저장된 수량만큼 재고 원장의 폐기 수량 증가
+        resultDiscardHistoryList.stream()
+                .collect(Collectors.groupingBy(eachDiscardHistory -> eachDiscardHistory.getSupplierCode() + ":" + eachDiscardHistory.getProductCode(), Collectors.counting()))
+                .forEach((supplierProductCode, discardCount) -> {
+                    String[] separateSupplierCodeAndProductCode = supplierProductCode.split(":");
+                    inventoryLedgerRepository.applyDiscardDelta(separateSupplierCodeAndProductCode[0], separateSupplierCodeAndProductCode[1], discardCount.intValue());
+                });
     }
 
 }
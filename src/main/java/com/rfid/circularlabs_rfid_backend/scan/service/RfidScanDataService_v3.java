@@ -7,6 +7,8 @@ import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailHistoryRepository;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.InventoryLedgerRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailUpsertRepository;
 import com.rfid.circularlabs_rfid_backend.query2.clientorder.ClientOrderQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.query2.discardhistory.DiscardHistoryQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.query2.productdetail.ProductDetailQueryDataV2;
@@ -20,6 +22,8 @@ import com.rfid.circularlabs_rfid_backend.scan.request.*;
 import com.rfid.circularlabs_rfid_backend.scan.response.ProductDetailscanResponseDto;
 import com.rfid.circularlabs_rfid_backend.share.BatchService;
 import com.rfid.circularlabs_rfid_backend.share.BatchServiceV2;
+import com.rfid.circularlabs_rfid_backend.share.ScanLockManager;
+import com.rfid.circularlabs_rfid_backend.share.ScanPipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobParametersInvalidException;
@@ -29,6 +33,7 @@ import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
@@ -48,6 +53,8 @@ public class RfidScanDataService_v3 {
 
     private final RfidScanHistoryRepository rfidScanHistoryRepository;
     private final ProductDetailRepository productDetailRepository;
+    private final ProductDetailUpsertRepository productDetailUpsertRepository;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
     private final ProductDetailHistoryRepository productDetailHistoryRepository;
     private final DiscardHistoryRepository discardHistoryRepository;
     private final ProductDetailQueryDataV2 productDetailQueryDataV2;
@@ -58,6 +65,11 @@ public class RfidScanDataService_v3 {
     private final ProductDetailHistoryQueryDataV2 productDetailHistoryQueryDataV2;
     private final BatchService batchService;
     private final BatchServiceV2 batchServiceV2;
+    private final ScanLockManager scanLockManager;
+    private final ScanPipelineMetrics scanPipelineMetrics;
+    private final ScanSubmissionGuard scanSubmissionGuard;
+    private final ScanTagPrefilter scanTagPrefilter;
+    private final TransactionTemplate transactionTemplate;
 
 
     /**
@@ -376,289 +388,280 @@ public class RfidScanDataService_v3 {
 
 
     // 스캔 데이터 입고 service v3
-    public synchronized CompletableFuture<String> sendInData(RfidScanDataInRequestDto sendInDatas)
+    public CompletableFuture<String> sendInData(RfidScanDataInRequestDto sendInDatas)
             throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
-        log.info("제품 입고 처리 service v2");
+        return sendInData(sendInDatas, null);
+    }
 
-        String deviceCode = sendInDatas.getMachineId();
-        String clientCode = sendInDatas.getSelectClientCode();
-        String supplierCode = sendInDatas.getSupplierCode();
 
-        List<SendProductCode> productCodes = sendInDatas.getProductCodes().stream()
-                .filter(eachCorrectProduct -> scanDataQueryDataV3.correctProduct(eachCorrectProduct.getProductCode(), supplierCode))
-                .collect(Collectors.toList());
+    // 스캔 데이터 입고 service v3 (idempotencyKey 가 없으면 요청 본문 해시로 재전송 여부 확인)
+    public CompletableFuture<String> sendInData(RfidScanDataInRequestDto sendInDatas, String idempotencyKey)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        return new AsyncResult<>(submitInData(sendInDatas, idempotencyKey).getMessage()).completable();
+    }
 
-        log.info("입고 스캔한 제품 코드들 : {}", productCodes.stream().map(SendProductCode::getProductCode).distinct().collect(Collectors.toList()));
 
-        List<ProductDetailHistory> saveEachCategoryProductDetailHistories = new ArrayList<>();
+    // 스캔 데이터 입고 처리 후 실제로 반영한 태그까지 반환 (ScanIngestWorker 의 태그별 처리 결과 기록용)
+    public ScanProcessResult submitInData(RfidScanDataInRequestDto sendInDatas, String idempotencyKey)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
 
-        HashMap<String, Object> responseProductDetailsInfo = batchService.launchProductDetail("입고", productCodes, supplierCode, clientCode);
+        // 이미 처리한 전송(리더기 재시도)이면 DB 를 거치지 않고 저장된 결과 반환
+        try (ScanSubmissionGuard.Submission submission = scanSubmissionGuard.begin("입고", sendInDatas.getMachineId(), idempotencyKey, sendInDatas)) {
+            if (submission.isReplay()) {
+                return ScanProcessResult.replay(submission.getStoredResult());
+            }
 
-        List<ProductDetailscanResponseDto> responseProductDetails = (List<ProductDetailscanResponseDto>) responseProductDetailsInfo.get("totalResponseProductDetails");
-        List<Long> updateProductDetailIds = (List<Long>) responseProductDetailsInfo.get("updateProductDetailIds");
+            // 중복 읽기 / 외부 태그를 걸러낸 태그만 잠금 / 검증 / 조회 대상으로 사용
+            List<SendProductCode> scanDatas = scanTagPrefilter.deduplicate("입고", sendInDatas.getSupplierCode(), sendInDatas.getProductCodes());
 
-        if(updateProductDetailIds != null){
-            productDetailQueryDataV2.needUpdateProductDetailStatusIn(updateProductDetailIds);
+            // 동일 공급사의 재고 수량을 건드리는 스캔끼리만 직렬화
+            // 잠금 대기 시간은 ScanLockManager 에서 따로 기록하므로 total 단계는 잠금을 잡은 뒤부터 측정
+            try (ScanLockManager.ScanLock ignored = scanLockManager.lock("입고", sendInDatas.getSupplierCode(), scanProductCodes(scanDatas));
+                 ScanPipelineMetrics.Stage totalStage = scanPipelineMetrics.stage("total", "입고", sendInDatas.getSupplierCode())) {
+                ScanProcessResult result = processInData(sendInDatas, scanDatas);
+                submission.complete(result.getMessage());
+                return result;
+            }
         }
+    }
 
-        responseProductDetails.forEach(eachResponseProductDetail -> {
-            if (eachResponseProductDetail.getDataState() == 0) {
-                saveEachCategoryProductDetailHistories.add(
-                        ProductDetailHistory.builder()
-                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
-                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
-                                .productCode(eachResponseProductDetail.getProductCode())
-                                .supplierCode(supplierCode)
-                                .clientCode(clientCode)
-                                .status("입고")
-                                .cycle(0)
-                                .latestReadingAt(LocalDateTime.now())
-                                .build());
 
-            } else if (eachResponseProductDetail.getDataState() == 1) {
+    // 스트리밍 입고 요청의 청크 하나 처리 (ScanStreamIngestService)
+    // readTags : 같은 요청의 앞선 청크에서 처리한 태그 (청크 사이 중복 제거용), 반환 값은 사전 정리 후 처리한 태그 수
+    public int sendInChunk(RfidScanDataInRequestDto sendInDatas, Set<String> readTags)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        List<SendProductCode> scanDatas = scanTagPrefilter.deduplicate("입고", sendInDatas.getSupplierCode(), sendInDatas.getProductCodes(), readTags);
 
-                saveEachCategoryProductDetailHistories.add(
-                        ProductDetailHistory.builder()
-                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
-                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
-                                .productCode(eachResponseProductDetail.getProductCode())
-                                .supplierCode(supplierCode)
-                                .clientCode(clientCode)
-                                .status("입고")
-                                .cycle(eachResponseProductDetail.getCycle())
-                                .latestReadingAt(LocalDateTime.now())
-                                .build());
-            }
-        });
+        if (scanDatas.isEmpty()) {
+            return 0;
+        }
 
+        try (ScanLockManager.ScanLock ignored = scanLockManager.lock("입고", sendInDatas.getSupplierCode(), scanProductCodes(scanDatas));
+             ScanPipelineMetrics.Stage totalStage = scanPipelineMetrics.stage("total", "입고", sendInDatas.getSupplierCode())) {
+            processInData(sendInDatas, scanDatas);
+            return scanDatas.size();
+        }
+    }
 
-        //상품별 갯수 그룹화
-        final Map<String, Long> map = saveEachCategoryProductDetailHistories.stream()
-                .collect(Collectors.groupingBy(ProductDetailHistory::getProductCode, counting()));
 
-        List<ProductDetailHistory> saveProductDetailList = new ArrayList<>();
-        List<RfidScanHistory> saveRfidScanHistory = new ArrayList<>();
+    // 스캔 데이터 입고 상세 처리
+    private ScanProcessResult processInData(RfidScanDataInRequestDto sendInDatas, List<SendProductCode> scanInDatas)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        log.info("제품 입고 처리 service v2");
 
-        // 상품별 rfid저장
-        for (Map.Entry<String, Long> m : map.entrySet()) {
+        String deviceCode = sendInDatas.getMachineId();
+        String clientCode = sendInDatas.getSelectClientCode();
+        String supplierCode = sendInDatas.getSupplierCode();
 
-            Integer totalRemainQuantity = scanDataQueryDataV3.selectLastProductInfo(m.getKey(), supplierCode);
+        // 단계별 시간은 total 단계와 같이 try-with-resources 로 측정 (실패한 단계도 실패 시점까지의 시간이 기록됨)
+        List<SendProductCode> productCodes;
+        try (ScanPipelineMetrics.Stage validateStage = scanPipelineMetrics.stage("validate", "입고", supplierCode)) {
+            productCodes = scanDataQueryDataV3.filterCorrectProducts(scanInDatas, supplierCode);
+        }
 
-            RfidScanHistory latestScanHistory = scanDataQueryDataV3.getLatestRfidScanHistory(m.getKey(), supplierCode);
-            RfidScanHistory createRfidScanHistory;
+        scanPipelineMetrics.recordPayload("입고", supplierCode, sendInDatas.getProductCodes(), productCodes);
 
-            if (latestScanHistory != null) {
-                createRfidScanHistory = RfidScanHistory.builder()
-                        .deviceCode(deviceCode)
-                        .rfidChipCode("null")
-                        .productCode(m.getKey())
-                        .supplierCode(supplierCode)
-                        .clientCode(clientCode)
-                        .status("입고")
-                        .statusCount(m.getValue().intValue())
-                        .flowRemainQuantity(totalRemainQuantity - latestScanHistory.getNoReturnQuantity() - m.getValue().intValue())
-                        .noReturnQuantity(latestScanHistory.getNoReturnQuantity() + m.getValue().intValue())
-                        .totalRemainQuantity(totalRemainQuantity)
-                        .latestReadingAt(LocalDateTime.now())
-                        .build();
+        log.info("입고 스캔한 제품 코드들 : {}", productCodes.stream().map(SendProductCode::getProductCode).distinct().collect(Collectors.toList()));
 
-                saveRfidScanHistory.add(rfidScanHistoryRepository.save(createRfidScanHistory));
+        HashMap<String, Object> responseProductDetailsInfo;
+        try (ScanPipelineMetrics.Stage productDetailStage = scanPipelineMetrics.stage("product-detail", "입고", supplierCode)) {
+            responseProductDetailsInfo = batchService.launchProductDetail("입고", productCodes, supplierCode, clientCode);
+        }
 
-            } else {
-                createRfidScanHistory = RfidScanHistory.builder()
-                        .deviceCode(deviceCode)
-                        .rfidChipCode("null")
-                        .productCode(m.getKey())
-                        .supplierCode(supplierCode)
-                        .clientCode(clientCode)
-                        .status("입고")
-                        .statusCount(m.getValue().intValue())
-                        .flowRemainQuantity(totalRemainQuantity - m.getValue().intValue())
-                        .noReturnQuantity(m.getValue().intValue())
-                        .totalRemainQuantity(totalRemainQuantity)
-                        .latestReadingAt(LocalDateTime.now())
-                        .build();
+        List<ProductDetailscanResponseDto> responseProductDetails = (List<ProductDetailscanResponseDto>) responseProductDetailsInfo.get("totalResponseProductDetails");
+
+        List<ProductDetailHistory> saveEachCategoryProductDetailHistories = ScanHistoryAssembler.inHistories(responseProductDetails, supplierCode, clientCode);
+
+        //상품별 갯수 그룹화
+        final Map<String, Long> map = ScanHistoryAssembler.countByProduct(saveEachCategoryProductDetailHistories);
+
+        // 재고 원장 증감과 스캔 이력 / 제품 상세 이력 저장을 한 트랜잭션으로 묶어, 이력 저장이 실패하면 원장 증감도 함께 롤백
+        // (InventoryLedgerRepository 의 트랜잭션은 이 트랜잭션에 참여)
+        transactionTemplate.executeWithoutResult(status -> {
+            List<RfidScanHistory> saveRfidScanHistory = new ArrayList<>();
+
+            try (ScanPipelineMetrics.Stage ledgerStage = scanPipelineMetrics.stage("ledger", "입고", supplierCode)) {
+
+                // 상품별 rfid저장
+                for (Map.Entry<String, Long> m : map.entrySet()) {
 
-                saveRfidScanHistory.add(rfidScanHistoryRepository.save(createRfidScanHistory));
+                    // 재고 원장의 미회수 수량을 입고 수량만큼 증가시키고 변경된 재고 수량으로 스캔 이력 저장
+                    InventoryLedgerRepository.Snapshot ledger = inventoryLedgerRepository.applyNoReturnDelta(supplierCode, m.getKey(), m.getValue().intValue());
+
+                    RfidScanHistory createRfidScanHistory = RfidScanHistory.builder()
+                            .deviceCode(deviceCode)
+                            .rfidChipCode("null")
+                            .productCode(m.getKey())
+                            .supplierCode(supplierCode)
+                            .clientCode(clientCode)
+                            .status("입고")
+                            .statusCount(m.getValue().intValue())
+                            .flowRemainQuantity(ledger.getFlowRemainQuantity())
+                            .noReturnQuantity(ledger.getNoReturnQuantity())
+                            .totalRemainQuantity(ledger.getTotalRemainQuantity())
+                            .latestReadingAt(LocalDateTime.now())
+                            .build();
+
+                    saveRfidScanHistory.add(rfidScanHistoryRepository.save(createRfidScanHistory));
+                }
             }
 
-        }
+            List<ProductDetailHistory> saveProductDetailList;
+            try (ScanPipelineMetrics.Stage historyLinkStage = scanPipelineMetrics.stage("history-link", "입고", supplierCode)) {
+                saveProductDetailList = ScanHistoryAssembler.linkToScanHistories(saveRfidScanHistory, saveEachCategoryProductDetailHistories);
+            }
 
-        saveRfidScanHistory.forEach(eachRfidScanHistory -> {
-            List<ProductDetailHistory> realSaveProductDetailHistoryList = saveEachCategoryProductDetailHistories.stream()
-                    .filter(eachProductDetailHistoryData ->
-                            eachProductDetailHistoryData.getProductCode().equals(eachRfidScanHistory.getProductCode()) &&
-                                    eachProductDetailHistoryData.getClientCode().equals(eachRfidScanHistory.getClientCode()) &&
-                                    eachProductDetailHistoryData.getSupplierCode().equals(eachRfidScanHistory.getSupplierCode()))
-                    .map(eachProductDetailHistoryData ->
-                            ProductDetailHistory.builder()
-                                    .rfidChipCode(eachProductDetailHistoryData.getRfidChipCode())
-                                    .productSerialCode(eachProductDetailHistoryData.getProductSerialCode())
-                                    .productCode(eachProductDetailHistoryData.getProductCode())
-                                    .supplierCode(eachProductDetailHistoryData.getSupplierCode())
-                                    .clientCode(eachProductDetailHistoryData.getClientCode())
-                                    .status(eachProductDetailHistoryData.getStatus())
-                                    .cycle(eachProductDetailHistoryData.getCycle())
-                                    .latestReadingAt(eachProductDetailHistoryData.getLatestReadingAt())
-                                    .rfidScanHistory(eachRfidScanHistory)
-                                    .build()
-                    ).collect(Collectors.toList());
-
-            saveProductDetailList.addAll(realSaveProductDetailHistoryList);
+            try (ScanPipelineMetrics.Stage historySaveStage = scanPipelineMetrics.stage("history-save", "입고", supplierCode)) {
+                productDetailHistoryRepository.saveAll(saveProductDetailList);
+            }
         });
 
-        productDetailHistoryRepository.saveAll(saveProductDetailList);
         log.info("입고 처리 완료");
 
-        return new AsyncResult<>("스캔 제품들 입고 처리 완료").completable();
+        return ScanProcessResult.processed("스캔 제품들 입고 처리 완료", productCodes);
 
 
     }
 
 
     // 스캔 데이터 회수 service v3
-    public synchronized CompletableFuture<String> sendReturnData2(RfidScanDataReturnRequestDto sendTurnBackDatas)
+    public CompletableFuture<String> sendReturnData2(RfidScanDataReturnRequestDto sendTurnBackDatas)
             throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
-        log.info("제품 회수 처리 service v2");
+        return sendReturnData2(sendTurnBackDatas, null);
+    }
 
-        String deviceCode = sendTurnBackDatas.getMachineId();
-        String supplierCode = sendTurnBackDatas.getSupplierCode();
 
-        List<SendProductCode> scanTurnBackDataList = sendTurnBackDatas.getProductCodes()
-                .stream()
-                .filter(eachCorrectProduct -> scanDataQueryDataV3.correctProduct(eachCorrectProduct.getProductCode(), supplierCode))
-                .collect(Collectors.toList());
+    // 스캔 데이터 회수 service v3 (idempotencyKey 가 없으면 요청 본문 해시로 재전송 여부 확인)
+    public CompletableFuture<String> sendReturnData2(RfidScanDataReturnRequestDto sendTurnBackDatas, String idempotencyKey)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        return new AsyncResult<>(submitReturnData(sendTurnBackDatas, idempotencyKey).getMessage()).completable();
+    }
 
-        log.info("회수 스캔한 제품 코드들 : {}", scanTurnBackDataList.stream().map(SendProductCode::getProductCode).distinct().collect(Collectors.toList()));
 
-        List<ProductDetailHistory> saveEachCategoryProductDetailHistories = new ArrayList<>();
+    // 스캔 데이터 회수 처리 후 실제로 반영한 태그까지 반환 (ScanIngestWorker 의 태그별 처리 결과 기록용)
+    public ScanProcessResult submitReturnData(RfidScanDataReturnRequestDto sendTurnBackDatas, String idempotencyKey)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
 
-        HashMap<String, Object> responseProductDetailsInfo = batchService.launchProductDetail2("회수", scanTurnBackDataList, supplierCode);
+        // 이미 처리한 전송(리더기 재시도)이면 DB 를 거치지 않고 저장된 결과 반환
+        try (ScanSubmissionGuard.Submission submission = scanSubmissionGuard.begin("회수", sendTurnBackDatas.getMachineId(), idempotencyKey, sendTurnBackDatas)) {
+            if (submission.isReplay()) {
+                return ScanProcessResult.replay(submission.getStoredResult());
+            }
 
-        List<ProductDetailscanResponseDto> responseProductDetails = (List<ProductDetailscanResponseDto>) responseProductDetailsInfo.get("totalResponseProductDetails");
-        List<Long> updateProductDetailIds = (List<Long>) responseProductDetailsInfo.get("updateProductDetailIds");
+            // 중복 읽기 / 외부 태그를 걸러낸 태그만 잠금 / 검증 / 조회 대상으로 사용
+            List<SendProductCode> scanDatas = scanTagPrefilter.deduplicate("회수", sendTurnBackDatas.getSupplierCode(), sendTurnBackDatas.getProductCodes());
 
-        if(updateProductDetailIds != null){
-            productDetailQueryDataV2.needUpdateProductDetailStatusTurnBack(updateProductDetailIds);
+            // 동일 공급사의 재고 수량을 건드리는 스캔끼리만 직렬화
+            // 잠금 대기 시간은 ScanLockManager 에서 따로 기록하므로 total 단계는 잠금을 잡은 뒤부터 측정
+            try (ScanLockManager.ScanLock ignored = scanLockManager.lock("회수", sendTurnBackDatas.getSupplierCode(), scanProductCodes(scanDatas));
+                 ScanPipelineMetrics.Stage totalStage = scanPipelineMetrics.stage("total", "회수", sendTurnBackDatas.getSupplierCode())) {
+                ScanProcessResult result = processReturnData(sendTurnBackDatas, scanDatas);
+                submission.complete(result.getMessage());
+                return result;
+            }
         }
+    }
 
-        responseProductDetails.forEach(eachResponseProductDetail -> {
-            if (eachResponseProductDetail.getDataState() == 0) {
-                saveEachCategoryProductDetailHistories.add(
-                        ProductDetailHistory.builder()
-                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
-                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
-                                .productCode(eachResponseProductDetail.getProductCode())
-                                .supplierCode(supplierCode)
-                                .clientCode("null")
-                                .status("회수")
-                                .cycle(0)
-                                .latestReadingAt(LocalDateTime.now())
-                                .build());
 
-            } else if (eachResponseProductDetail.getDataState() == 1) {
+    // 스트리밍 회수 요청의 청크 하나 처리 (ScanStreamIngestService)
+    // readTags : 같은 요청의 앞선 청크에서 처리한 태그 (청크 사이 중복 제거용), 반환 값은 사전 정리 후 처리한 태그 수
+    public int sendReturnChunk(RfidScanDataReturnRequestDto sendTurnBackDatas, Set<String> readTags)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        List<SendProductCode> scanDatas = scanTagPrefilter.deduplicate("회수", sendTurnBackDatas.getSupplierCode(), sendTurnBackDatas.getProductCodes(), readTags);
 
-                saveEachCategoryProductDetailHistories.add(
-                        ProductDetailHistory.builder()
-                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
-                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
-                                .productCode(eachResponseProductDetail.getProductCode())
-                                .supplierCode(supplierCode)
-                                .clientCode(eachResponseProductDetail.getClientCode())
-                                .status("회수")
-                                .cycle(eachResponseProductDetail.getCycle() + 1)
-                                .latestReadingAt(LocalDateTime.now())
-                                .build());
-            }
-        });
+        if (scanDatas.isEmpty()) {
+            return 0;
+        }
+
+        try (ScanLockManager.ScanLock ignored = scanLockManager.lock("회수", sendTurnBackDatas.getSupplierCode(), scanProductCodes(scanDatas));
+             ScanPipelineMetrics.Stage totalStage = scanPipelineMetrics.stage("total", "회수", sendTurnBackDatas.getSupplierCode())) {
+            processReturnData(sendTurnBackDatas, scanDatas);
+            return scanDatas.size();
+        }
+    }
 
 
-        final Map<String, List<ProductDetailHistory>> map2 = saveEachCategoryProductDetailHistories.stream().collect(Collectors.groupingBy(ProductDetailHistory::getClientCode));
+    // 스캔 데이터 회수 상세 처리
+    private ScanProcessResult processReturnData(RfidScanDataReturnRequestDto sendTurnBackDatas, List<SendProductCode> scanTurnBackDatas)
+            throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        log.info("제품 회수 처리 service v2");
 
-        List<ProductDetailHistory> saveProductDetailList = new ArrayList<>();
-        List<RfidScanHistory> saveRfidScanHistory = new ArrayList<>();
+        String deviceCode = sendTurnBackDatas.getMachineId();
+        String supplierCode = sendTurnBackDatas.getSupplierCode();
 
-       //map2 {clientcodce: {}}
-        for (Map.Entry<String, List<ProductDetailHistory>> m2 : map2.entrySet()) {
+        // 단계별 시간은 total 단계와 같이 try-with-resources 로 측정 (실패한 단계도 실패 시점까지의 시간이 기록됨)
+        List<SendProductCode> scanTurnBackDataList;
+        try (ScanPipelineMetrics.Stage validateStage = scanPipelineMetrics.stage("validate", "회수", supplierCode)) {
+            scanTurnBackDataList = scanDataQueryDataV3.filterCorrectProducts(scanTurnBackDatas, supplierCode);
+        }
 
-            final Map<String, Long> map = m2.getValue()
-                    .stream()
-                    .collect(Collectors.groupingBy(ProductDetailHistory::getProductCode, counting()));
+        scanPipelineMetrics.recordPayload("회수", supplierCode, sendTurnBackDatas.getProductCodes(), scanTurnBackDataList);
 
+        log.info("회수 스캔한 제품 코드들 : {}", scanTurnBackDataList.stream().map(SendProductCode::getProductCode).distinct().collect(Collectors.toList()));
 
-            for (Map.Entry<String, Long> m : map.entrySet()) {
+        HashMap<String, Object> responseProductDetailsInfo;
+        try (ScanPipelineMetrics.Stage productDetailStage = scanPipelineMetrics.stage("product-detail", "회수", supplierCode)) {
+            responseProductDetailsInfo = batchService.launchProductDetail2("회수", scanTurnBackDataList, supplierCode);
+        }
 
-                log.info("스캔 제품 코드 : {}", m.getKey());
-                log.info("공급사 코드 : {}", supplierCode);
+        List<ProductDetailscanResponseDto> responseProductDetails = (List<ProductDetailscanResponseDto>) responseProductDetailsInfo.get("totalResponseProductDetails");
 
-                int totalRemainQuantity = scanDataQueryDataV3.selectLastProductInfo(m.getKey(), supplierCode);
+        List<ProductDetailHistory> saveEachCategoryProductDetailHistories = ScanHistoryAssembler.returnHistories(responseProductDetails, supplierCode);
 
-                RfidScanHistory latestScanHistory = scanDataQueryDataV3.getLatestRfidScanHistory(m.getKey(), supplierCode);
-                RfidScanHistory createRfidScanHistory;
+        final Map<String, List<ProductDetailHistory>> map2 = ScanHistoryAssembler.groupByClient(saveEachCategoryProductDetailHistories);
 
-                if (latestScanHistory != null) {
-                    createRfidScanHistory = RfidScanHistory.builder()
-                            .deviceCode(deviceCode)
-                            .rfidChipCode("null")
-                            .productCode(m.getKey())
-                            .supplierCode(supplierCode)
-                            .clientCode(m2.getKey())
-                            .status("회수")
-                            .statusCount(m.getValue().intValue())
-                            .flowRemainQuantity(totalRemainQuantity - latestScanHistory.getNoReturnQuantity() + m.getValue().intValue())
-                            .noReturnQuantity(latestScanHistory.getNoReturnQuantity() - m.getValue().intValue())
-                            .totalRemainQuantity(totalRemainQuantity)
-                            .latestReadingAt(LocalDateTime.now())
-                            .build();
+        // 재고 원장 증감과 스캔 이력 / 제품 상세 이력 저장을 한 트랜잭션으로 묶어, 이력 저장이 실패하면 원장 증감도 함께 롤백
+        // (InventoryLedgerRepository 의 트랜잭션은 이 트랜잭션에 참여)
+        List<ProductDetailHistory> saveProductDetailList = transactionTemplate.execute(status -> {
+            List<RfidScanHistory> saveRfidScanHistory = new ArrayList<>();
 
-                    saveRfidScanHistory.add(rfidScanHistoryRepository.save(createRfidScanHistory));
+            try (ScanPipelineMetrics.Stage ledgerStage = scanPipelineMetrics.stage("ledger", "회수", supplierCode)) {
+                //map2 {clientcodce: {}}
+                for (Map.Entry<String, List<ProductDetailHistory>> m2 : map2.entrySet()) {
 
-                } else {
-                    createRfidScanHistory = RfidScanHistory.builder()
-                            .deviceCode(deviceCode)
-                            .rfidChipCode("null")
-                            .productCode(m.getKey())
-                            .supplierCode(supplierCode)
-                            .clientCode("null")
-                            .status("회수")
-                            .statusCount(m.getValue().intValue())
-                            .flowRemainQuantity(totalRemainQuantity + m.getValue().intValue())
-                            .noReturnQuantity(m.getValue().intValue())
-                            .totalRemainQuantity(totalRemainQuantity)
-                            .latestReadingAt(LocalDateTime.now())
-                            .build();
+                    final Map<String, Long> map = ScanHistoryAssembler.countByProduct(m2.getValue());
 
-                    saveRfidScanHistory.add(rfidScanHistoryRepository.save(createRfidScanHistory));
+
+                    for (Map.Entry<String, Long> m : map.entrySet()) {
+
+                        log.info("스캔 제품 코드 : {}", m.getKey());
+                        log.info("공급사 코드 : {}", supplierCode);
+
+                        // 재고 원장의 미회수 수량을 회수 수량만큼 감소시키고 변경된 재고 수량으로 스캔 이력 저장
+                        InventoryLedgerRepository.Snapshot ledger = inventoryLedgerRepository.applyNoReturnDelta(supplierCode, m.getKey(), -m.getValue().intValue());
+
+                        RfidScanHistory createRfidScanHistory = RfidScanHistory.builder()
+                                .deviceCode(deviceCode)
+                                .rfidChipCode("null")
+                                .productCode(m.getKey())
+                                .supplierCode(supplierCode)
+                                .clientCode(m2.getKey())
+                                .status("회수")
+                                .statusCount(m.getValue().intValue())
+                                .flowRemainQuantity(ledger.getFlowRemainQuantity())
+                                .noReturnQuantity(ledger.getNoReturnQuantity())
+                                .totalRemainQuantity(ledger.getTotalRemainQuantity())
+                                .latestReadingAt(LocalDateTime.now())
+                                .build();
+
+                        saveRfidScanHistory.add(rfidScanHistoryRepository.save(createRfidScanHistory));
+                    }
                 }
+            }
 
+            List<ProductDetailHistory> linkedProductDetailList;
+            try (ScanPipelineMetrics.Stage historyLinkStage = scanPipelineMetrics.stage("history-link", "회수", supplierCode)) {
+                linkedProductDetailList = ScanHistoryAssembler.linkToScanHistories(saveRfidScanHistory, saveEachCategoryProductDetailHistories);
+            }
+
+            // 상품별 rfid저장
+            try (ScanPipelineMetrics.Stage historySaveStage = scanPipelineMetrics.stage("history-save", "회수", supplierCode)) {
+                productDetailHistoryRepository.saveAll(linkedProductDetailList);
             }
-        }
 
-        saveRfidScanHistory.forEach(eachRfidScanHistory -> {
-            List<ProductDetailHistory> realSaveProductDetailHistoryList = saveEachCategoryProductDetailHistories.stream()
-                    .filter(eachProductDetailHistoryData ->
-                            eachProductDetailHistoryData.getProductCode().equals(eachRfidScanHistory.getProductCode()) &&
-                                    eachProductDetailHistoryData.getClientCode().equals(eachRfidScanHistory.getClientCode()) &&
-                                    eachProductDetailHistoryData.getSupplierCode().equals(eachRfidScanHistory.getSupplierCode()))
-                    .map(eachProductDetailHistoryData ->
-                            ProductDetailHistory.builder()
-                                    .rfidChipCode(eachProductDetailHistoryData.getRfidChipCode())
-                                    .productSerialCode(eachProductDetailHistoryData.getProductSerialCode())
-                                    .productCode(eachProductDetailHistoryData.getProductCode())
-                                    .supplierCode(eachProductDetailHistoryData.getSupplierCode())
-                                    .clientCode(eachProductDetailHistoryData.getClientCode())
-                                    .status(eachProductDetailHistoryData.getStatus())
-                                    .cycle(eachProductDetailHistoryData.getCycle())
-                                    .latestReadingAt(eachProductDetailHistoryData.getLatestReadingAt())
-                                    .rfidScanHistory(eachRfidScanHistory)
-                                    .build()
-                    ).collect(Collectors.toList());
-
-            saveProductDetailList.addAll(realSaveProductDetailHistoryList);
+            return linkedProductDetailList;
         });
 
-        // 상품별 rfid저장
-        productDetailHistoryRepository.saveAll(saveProductDetailList);
         log.info("회수 처리 완료");
 
         log.info("- 처음 들어온 데이터 수 : {}", scanTurnBackDataList.size());
@@ -666,7 +669,7 @@ public class RfidScanDataService_v3 {
         log.info("- 정제된 ProductDetail 정보들을 기준으로 빌드된 ProductDetailHistory 수 : {}", saveEachCategoryProductDetailHistories.size());
         log.info("- RfidScanHistory와 ProductDetail 정보들을 기준으로 최종적으로 저장될 ProductDetailHistory  수 : {}", saveProductDetailList.size());
 
-        return new AsyncResult<>("스캔 제품들 회수 처리 완료").completable();
+        return ScanProcessResult.processed("스캔 제품들 회수 처리 완료", scanTurnBackDataList);
 
     }
 
@@ -1217,7 +1220,7 @@ public class RfidScanDataService_v3 {
 
         String deviceCode = sendCleanDatas.getMachineId();
         String supplierCode = sendCleanDatas.getSupplierCode();
-        List<SendProductCode> productCodes = sendCleanDatas.getProductCodes();
+        List<SendProductCode> productCodes = scanTagPrefilter.filter("세척", supplierCode, sendCleanDatas.getProductCodes()); // 중복 / 외부 태그를 걸러낸 스캔 데이터
         List<SendOrderCount> eachProductCount = sendCleanDatas.getEachProductCount();
 
         // 실제 RfidScanHistory 엔티티에 같이 매핑되어 저장될 ProductDetail 엔티티 리스트 객체 생성
@@ -1249,7 +1252,7 @@ public class RfidScanDataService_v3 {
 
         // 세척 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
         List<SendProductCode> scanCleanDatas = productCodes.stream()
-                .filter(scanCleanData -> scanCleanData.getFilteringCode().contains("CCA2310") && !unExpectedDiscardProduct.contains(scanCleanData.getProductCode() + ":" + scanCleanData.getProductSerialCode()))
+                .filter(scanCleanData -> !unExpectedDiscardProduct.contains(scanCleanData.getProductCode() + ":" + scanCleanData.getProductSerialCode()))
                 .collect(Collectors.toList());
 
         // 1. ProductDetail 처리
@@ -1295,7 +1298,7 @@ public class RfidScanDataService_v3 {
             // RfidScanHistory 처리 후 반환
             RfidScanHistory saveRfidScanHistory = scanCleanRfidScanHistory(orderProduct, eachProductDetail, unExpectedDiscardProductCountSet, deviceCode, rfidHistoryMappingProductDetailHistorties);
 
-            // 일괄 처리를 위해 리스트에 저장
+            // 일괄 처리를 위해 리스트에 저장 (세척은 미회수 수량이 바뀌지 않으므로 재고 원장 증감 없음)
             if (saveRfidScanHistory != null) {
                 rfidScanHistoryRepository.save(saveRfidScanHistory);
                 saveRfidScanHistoryList.add(saveRfidScanHistory);
@@ -1354,7 +1357,8 @@ public class RfidScanDataService_v3 {
                 .collect(Collectors.toList());
 
         if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
+            productDetailUpsertRepository.upsertScanStates(nullProductDetails, ProductDetailUpsertRepository.Transition.CLEAN);
+            finalProductDetails.addAll(nullProductDetails);
         }
 
         return finalProductDetails;
@@ -1512,30 +1516,88 @@ public class RfidScanDataService_v3 {
 
 
     // 스캔 데이터 폐기 service v2
-    @Transactional
-    public synchronized CompletableFuture<String> sendDiscardData(RfidScanDataDiscardRequestDto sendDiscardDatas) throws
+    public CompletableFuture<String> sendDiscardData(RfidScanDataDiscardRequestDto sendDiscardDatas) throws
+            InterruptedException {
+        return sendDiscardData(sendDiscardDatas, null);
+    }
+
+
+    // 스캔 데이터 폐기 service v2 (idempotencyKey 가 없으면 요청 본문 해시로 재전송 여부 확인)
+    // 트랜잭션은 재전송 확인 / 잠금 안쪽에서 시작하여, 커밋된 뒤에만 처리 결과를 저장하고 잠금을 해제
+    public CompletableFuture<String> sendDiscardData(RfidScanDataDiscardRequestDto sendDiscardDatas, String idempotencyKey) throws
             InterruptedException {
+        return new AsyncResult<>(submitDiscardData(sendDiscardDatas, idempotencyKey).getMessage()).completable();
+    }
+
+
+    // 스캔 데이터 폐기 처리 후 실제로 반영한 태그까지 반환 (ScanIngestWorker 의 태그별 처리 결과 기록용)
+    public ScanProcessResult submitDiscardData(RfidScanDataDiscardRequestDto sendDiscardDatas, String idempotencyKey) {
+
+        // 이미 처리한 전송(리더기 재시도)이면 DB 를 거치지 않고 저장된 결과 반환
+        try (ScanSubmissionGuard.Submission submission = scanSubmissionGuard.begin("폐기", sendDiscardDatas.getMachineId(), idempotencyKey, sendDiscardDatas)) {
+            if (submission.isReplay()) {
+                return ScanProcessResult.replay(submission.getStoredResult());
+            }
+
+            // 중복 읽기 / 외부 태그를 걸러낸 태그만 잠금 / 검증 / 조회 대상으로 사용
+            List<SendProductCode> scanDatas = scanTagPrefilter.filter("폐기", sendDiscardDatas.getSupplierCode(), sendDiscardDatas.getProductCodes());
+
+            // 동일 공급사의 재고 수량을 건드리는 스캔끼리만 직렬화
+            // 잠금 대기 시간은 ScanLockManager 에서 따로 기록하므로 total 단계는 잠금을 잡은 뒤부터 측정
+            try (ScanLockManager.ScanLock ignored = scanLockManager.lock("폐기", sendDiscardDatas.getSupplierCode(), scanProductCodes(scanDatas));
+                 ScanPipelineMetrics.Stage totalStage = scanPipelineMetrics.stage("total", "폐기", sendDiscardDatas.getSupplierCode())) {
+                ScanProcessResult result = transactionTemplate.execute(status -> processDiscardData(sendDiscardDatas, scanDatas));
+                submission.complete(result.getMessage());
+                return result;
+            }
+        }
+    }
+
+
+    // 스트리밍 폐기 요청의 청크 하나 처리 (ScanStreamIngestService)
+    // readTags : 같은 요청의 앞선 청크에서 처리한 태그 (청크 사이 중복 제거용), 반환 값은 사전 정리 후 처리한 태그 수
+    // 트랜잭션은 잠금 안쪽에서 시작하여 커밋된 뒤에 잠금을 해제
+    public int sendDiscardChunk(RfidScanDataDiscardRequestDto sendDiscardDatas, Set<String> readTags) {
+        List<SendProductCode> scanDatas = scanTagPrefilter.filter("폐기", sendDiscardDatas.getSupplierCode(), sendDiscardDatas.getProductCodes(), readTags);
+
+        if (scanDatas.isEmpty()) {
+            return 0;
+        }
+
+        try (ScanLockManager.ScanLock ignored = scanLockManager.lock("폐기", sendDiscardDatas.getSupplierCode(), scanProductCodes(scanDatas));
+             ScanPipelineMetrics.Stage totalStage = scanPipelineMetrics.stage("total", "폐기", sendDiscardDatas.getSupplierCode())) {
+            transactionTemplate.execute(status -> processDiscardData(sendDiscardDatas, scanDatas));
+            return scanDatas.size();
+        }
+    }
+
+
+    // 스캔 데이터 폐기 상세 처리
+    private ScanProcessResult processDiscardData(RfidScanDataDiscardRequestDto sendDiscardDatas, List<SendProductCode> scanDiscardDatas) {
         log.info("제품 폐기 처리 service v2");
 
         String clientCode = sendDiscardDatas.getSelectClientCode();
         String supplierCode = sendDiscardDatas.getSupplierCode();
         List<SendProductCode> productCodes = sendDiscardDatas.getProductCodes();
 
-        // 폐기 스캔한 데이터들을 필터링 코드와 폐기 여부 조건을 거쳐 재정립 하여 리스트화
-        List<SendProductCode> scanDiscardDatas = productCodes.stream()
-                .filter(scanDiscardData -> scanDiscardData.getFilteringCode().contains("CCA2310"))
-                .collect(Collectors.toList());
+        // 필터링 코드 확인은 사전 정리 단계(ScanTagPrefilter)에서 처리됨
+        scanPipelineMetrics.recordPayload("폐기", supplierCode, productCodes, scanDiscardDatas);
 
         // 1. ProductDetail 처리
         // ProductDetail 처리 함수로 보내 정제된 ProductDetail 리스트 반환
-        List<ProductDetail> productDetails = scanDiscardDetail(scanDiscardDatas, supplierCode, clientCode);
+        List<ProductDetail> productDetails;
+        try (ScanPipelineMetrics.Stage productDetailStage = scanPipelineMetrics.stage("product-detail", "폐기", supplierCode)) {
+            productDetails = scanDiscardDetail(scanDiscardDatas, supplierCode, clientCode);
+        }
 
         // 2. ProductDetailHistory 와 DiscardHistory 처리
-        scanInProductDetailHistory(productDetails);
+        try (ScanPipelineMetrics.Stage historyStage = scanPipelineMetrics.stage("history-save", "폐기", supplierCode)) {
+            scanInProductDetailHistory(productDetails);
+        }
 
         log.info("폐기 처리 완료");
 
-        return new AsyncResult<>("스캔 제품들 폐기 처리 완료").completable();
+        return ScanProcessResult.processed("스캔 제품들 폐기 처리 완료", scanDiscardDatas);
     }
 
 
@@ -1546,42 +1608,47 @@ public class RfidScanDataService_v3 {
             String supplierCode,
             String clientCode) {
 
-        List<ProductDetail> finalProductDetails = new ArrayList<>();
-
-        // 기존에 존재하는 Product 데이터들
-        List<ProductDetail> existPrevProductDetails = scanDiscardDatas.stream()
-                .filter(eachExistPrevData -> productDetailQueryDataV2.checkRemainProductDetail(
-                        eachExistPrevData.getProductSerialCode(),
-                        eachExistPrevData.getProductCode(), supplierCode, clientCode) != null)
-                .map(eachData -> productDetailQueryDataV2.checkRemainProductDetail(
-                        eachData.getProductSerialCode(),
-                        eachData.getProductCode(), supplierCode, clientCode))
-                .collect(Collectors.toList());
-
-        if (!existPrevProductDetails.isEmpty()) {
-            existPrevProductDetails.forEach(eachUpdateScanData ->
-                    finalProductDetails.add(productDetailQueryDataV2.scanDiscardUpdateStatusAndReadingAt(eachUpdateScanData)));
-        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // 제품 고유 코드들을 묶음 단위로 한 번에 조회
+        Map<String, ProductDetail> latestProductDetails = productDetailQueryDataV2.getLatestProductDetailsBySerialCodes(
+                scanDiscardDatas.stream()
+                        .map(SendProductCode::getProductSerialCode)
+                        .collect(Collectors.toList()));
+
+        // 기존에 존재하는 제품은 폐기 상태로 변경하고, 존재하지 않는 제품은 폐기 상태로 새로 저장
+        List<ProductDetail> finalProductDetails = scanDiscardDatas.stream()
+                .map(eachData -> {
+                    ProductDetail existProductDetail = latestProductDetails.get(eachData.getProductSerialCode());
+
+                    if (existProductDetail != null) {
+                        return ProductDetail.builder()
+                                .rfidChipCode(existProductDetail.getRfidChipCode())
+                                .productSerialCode(existProductDetail.getProductSerialCode())
+                                .productCode(existProductDetail.getProductCode())
+                                .supplierCode(existProductDetail.getSupplierCode())
+                                .clientCode(existProductDetail.getClientCode())
+                                .status("폐기")
+                                .cycle(existProductDetail.getCycle())
+                                .latestReadingAt(now)
+                                .build();
+                    }
 
-        List<ProductDetail> nullProductDetails = scanDiscardDatas.stream()
-                .filter(eachExistPrevData -> productDetailQueryDataV2.checkRemainProductDetail(
-                        eachExistPrevData.getProductSerialCode(),
-                        eachExistPrevData.getProductCode(), supplierCode, clientCode) == null)
-                .map(eachData -> ProductDetail.builder()
-                        .rfidChipCode(eachData.getRfidChipCode())
-                        .productSerialCode(eachData.getProductSerialCode())
-                        .productCode(eachData.getProductCode())
-                        .supplierCode(supplierCode)
-                        .clientCode(clientCode)
-                        .status("폐기")
-                        .cycle(0)
-                        .latestReadingAt(LocalDateTime.now())
-                        .build())
+                    return ProductDetail.builder()
+                            .rfidChipCode(eachData.getRfidChipCode())
+                            .productSerialCode(eachData.getProductSerialCode())
+                            .productCode(eachData.getProductCode())
+                            .supplierCode(supplierCode)
+                            .clientCode(clientCode)
+                            .status("폐기")
+                            .cycle(0)
+                            .latestReadingAt(now)
+                            .build();
+                })
                 .collect(Collectors.toList());
 
-        if (!nullProductDetails.isEmpty()) {
-            finalProductDetails.addAll(productDetailRepository.saveAll(nullProductDetails));
-        }
+        // 신규 저장과 상태 변경을 제품 고유 코드 기준 upsert 로 한 번에 반영
+        productDetailUpsertRepository.upsertScanStates(finalProductDetails, ProductDetailUpsertRepository.Transition.DISCARD);
 
         return finalProductDetails;
     }
@@ -1641,6 +1708,22 @@ public class RfidScanDataService_v3 {
         }
 
         discardHistoryRepository.saveAll(resultDiscardHistoryList);
+
+        // 새로 폐기 이력이 저장된 수량만큼 재고 원장의 폐기 수량 증가
+        resultDiscardHistoryList.stream()
+                .collect(Collectors.groupingBy(eachDiscardHistory -> eachDiscardHistory.getSupplierCode() + ":" + eachDiscardHistory.getProductCode(), counting()))
+                .forEach((supplierProductCode, discardCount) -> {
+                    String[] separateSupplierCodeAndProductCode = supplierProductCode.split(":");
+                    inventoryLedgerRepository.applyDiscardDelta(separateSupplierCodeAndProductCode[0], separateSupplierCodeAndProductCode[1], discardCount.intValue());
+                });
+    }
+
+
+    // 잠금 키로 사용할 스캔 데이터의 제품 분류 코드 목록
+    private static Set<String> scanProductCodes(List<SendProductCode> scanDatas) {
+        return scanDatas.stream()
+                .map(SendProductCode::getProductCode)
+                .collect(Collectors.toSet());
     }
 
 }
@@ -0,0 +1,182 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
+import com.rfid.circularlabs_rfid_backend.scan.domain.RfidScanHistory;
+import com.rfid.circularlabs_rfid_backend.scan.response.ProductDetailscanResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.counting;
+
+public final class ScanHistoryAssembler {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 이력 조립]
+    // 입고 / 회수 처리에서 DB 를 거치지 않는 메모리 연산 부분
+    // (배치 결과로 ProductDetailHistory 생성, 제품별 수량 집계, 저장된 RfidScanHistory 에 ProductDetailHistory 연결)
+    // RfidScanDataService_v3 와 JMH 벤치마크(src/jmh)가 같은 코드를 사용하도록 분리
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private ScanHistoryAssembler() {
+    }
+
+    // 입고 배치 결과로 ProductDetailHistory 생성 (신규 제품 : 사이클 0, 기존 제품 : 기존 사이클, 1 시간 이내 재스캔 제외)
+    public static List<ProductDetailHistory> inHistories(List<ProductDetailscanResponseDto> responseProductDetails, String supplierCode, String clientCode) {
+        List<ProductDetailHistory> histories = new ArrayList<>();
+
+        responseProductDetails.forEach(eachResponseProductDetail -> {
+            if (eachResponseProductDetail.getDataState() == 0) {
+                histories.add(
+                        ProductDetailHistory.builder()
+                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
+                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
+                                .productCode(eachResponseProductDetail.getProductCode())
+                                .supplierCode(supplierCode)
+                                .clientCode(clientCode)
+                                .status("입고")
+                                .cycle(0)
+                                .latestReadingAt(LocalDateTime.now())
+                                .build());
+
+            } else if (eachResponseProductDetail.getDataState() == 1) {
+
+                histories.add(
+                        ProductDetailHistory.builder()
+                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
+                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
+                                .productCode(eachResponseProductDetail.getProductCode())
+                                .supplierCode(supplierCode)
+                                .clientCode(clientCode)
+                                .status("입고")
+                                .cycle(eachResponseProductDetail.getCycle())
+                                .latestReadingAt(LocalDateTime.now())
+                                .build());
+            }
+        });
+
+        return histories;
+    }
+
+    // 회수 배치 결과로 ProductDetailHistory 생성 (신규 제품 : 고객사 없음 / 사이클 0, 기존 제품 : 사이클 + 1, 1 시간 이내 재스캔 제외)
+    public static List<ProductDetailHistory> returnHistories(List<ProductDetailscanResponseDto> responseProductDetails, String supplierCode) {
+        List<ProductDetailHistory> histories = new ArrayList<>();
+
+        responseProductDetails.forEach(eachResponseProductDetail -> {
+            if (eachResponseProductDetail.getDataState() == 0) {
+                histories.add(
+                        ProductDetailHistory.builder()
+                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
+                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
+                                .productCode(eachResponseProductDetail.getProductCode())
+                                .supplierCode(supplierCode)
+                                .clientCode("null")
+                                .status("회수")
+                                .cycle(0)
+                                .latestReadingAt(LocalDateTime.now())
+                                .build());
+
+            } else if (eachResponseProductDetail.getDataState() == 1) {
+
+                histories.add(
+                        ProductDetailHistory.builder()
+                                .rfidChipCode(eachResponseProductDetail.getRfidChipCode())
+                                .productSerialCode(eachResponseProductDetail.getProductSerialCode())
+                                .productCode(eachResponseProductDetail.getProductCode())
+                                .supplierCode(supplierCode)
+                                .clientCode(eachResponseProductDetail.getClientCode())
+                                .status("회수")
+                                .cycle(eachResponseProductDetail.getCycle() + 1)
+                                .latestReadingAt(LocalDateTime.now())
+                                .build());
+            }
+        });
+
+        return histories;
+    }
+
+    // 고객사별 그룹화
+    public static Map<String, List<ProductDetailHistory>> groupByClient(List<ProductDetailHistory> histories) {
+        return histories.stream().collect(Collectors.groupingBy(ProductDetailHistory::getClientCode));
+    }
+
+    // 상품별 갯수 그룹화
+    public static Map<String, Long> countByProduct(List<ProductDetailHistory> histories) {
+        return histories.stream()
+                .collect(Collectors.groupingBy(ProductDetailHistory::getProductCode, counting()));
+    }
+
+    // 저장된 RfidScanHistory 마다 같은 제품 / 고객사 / 공급사의 ProductDetailHistory 를 연결한 저장용 ProductDetailHistory 목록
+    // ProductDetailHistory 를 (제품, 고객사, 공급사) 키로 한 번만 묶어 두고 RfidScanHistory 마다 키로 찾아 연결하므로 O(태그 수 + 스캔 이력 수)
+    // 전달받은 ProductDetailHistory 를 새로 만들지 않고 그대로 연결해서 반환 (태그당 엔티티는 inHistories / returnHistories 에서 한 번만 생성)
+    public static List<ProductDetailHistory> linkToScanHistories(List<RfidScanHistory> savedRfidScanHistories, List<ProductDetailHistory> histories) {
+        Map<LinkKey, List<ProductDetailHistory>> historiesByKey = new HashMap<>();
+
+        for (ProductDetailHistory eachHistory : histories) {
+            historiesByKey.computeIfAbsent(
+                    new LinkKey(eachHistory.getProductCode(), eachHistory.getClientCode(), eachHistory.getSupplierCode()),
+                    key -> new ArrayList<>()).add(eachHistory);
+        }
+
+        List<ProductDetailHistory> linkedHistories = new ArrayList<>(histories.size());
+
+        for (RfidScanHistory eachRfidScanHistory : savedRfidScanHistories) {
+            // 같은 키의 스캔 이력이 여러 개여도 ProductDetailHistory 는 처음 찾은 스캔 이력 하나에만 연결
+            List<ProductDetailHistory> matchedHistories = historiesByKey.remove(
+                    new LinkKey(eachRfidScanHistory.getProductCode(), eachRfidScanHistory.getClientCode(), eachRfidScanHistory.getSupplierCode()));
+
+            if (matchedHistories == null) {
+                continue;
+            }
+
+            for (ProductDetailHistory eachMatchedHistory : matchedHistories) {
+                eachMatchedHistory.linkRfidScanHistory(eachRfidScanHistory);
+            }
+
+            linkedHistories.addAll(matchedHistories);
+        }
+
+        return linkedHistories;
+    }
+
+    // ProductDetailHistory 와 RfidScanHistory 를 연결하는 키 (제품 분류 코드, 고객사 코드, 공급사 코드)
+    private static final class LinkKey {
+        private final String productCode;
+        private final String clientCode;
+        private final String supplierCode;
+        private final int hash;
+
+        private LinkKey(String productCode, String clientCode, String supplierCode) {
+            this.productCode = productCode;
+            this.clientCode = clientCode;
+            this.supplierCode = supplierCode;
+            this.hash = 31 * (31 * Objects.hashCode(productCode) + Objects.hashCode(clientCode)) + Objects.hashCode(supplierCode);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof LinkKey)) {
+                return false;
+            }
+
+            LinkKey other = (LinkKey) o;
+            return Objects.equals(productCode, other.productCode)
+                    && Objects.equals(clientCode, other.clientCode)
+                    && Objects.equals(supplierCode, other.supplierCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+@Getter
+@Setter
+public class ScanIngestProperties {
+    private String nodeId; // 티켓을 접수 / 처리한 서버 구분 값 (비어 있으면 호스트 이름, 재시작 후에도 같은 값이어야 함)
+    private long leaseSeconds = 300; // 처리 임대 시간 (처리 중인 서버가 lease-renew-interval-ms 마다 연장)
+    private long acceptedGraceSeconds = 120; // 접수 후 이 시간이 지나도 처리가 시작되지 않은 티켓은 다른 서버도 가져가 처리
+    private int retentionDays = 7; // 처리가 끝난(완료 / 실패) 티켓 보관 기간
+
+    public String getNodeId() {
+        if (nodeId == null || nodeId.isEmpty()) {
+            try {
+                nodeId = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                nodeId = "unknown";
+            }
+        }
+
+        return nodeId;
+    }
+}
@@ -0,0 +1,185 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rfid.circularlabs_rfid_backend.query2.scaningest.ScanIngestTicketQueryData;
+import com.rfid.circularlabs_rfid_backend.scan.domain.ScanIngestTicket;
+import com.rfid.circularlabs_rfid_backend.scan.repository.ScanIngestTicketRepository;
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+import com.rfid.circularlabs_rfid_backend.scan.response.ScanIngestTicketResponseDto;
+import com.rfid.circularlabs_rfid_backend.scan.response.ScanTagOutcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ScanIngestService {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 데이터 비동기 접수]
+    // 리더기 요청은 기본 검증 후 티켓으로 저장(접수)하고 바로 티켓 번호를 응답하며,
+    // 실제 입고 / 회수 / 폐기 처리는 ScanIngestWorker 가 스레드 풀에서 수행. 리더기는 티켓 번호로 처리 상태를 조회
+    // 여러 서버가 같은 DB 를 사용하므로 티켓에 접수 / 처리 서버(ownerNode)와 처리 임대 만료 시간을 기록하고,
+    // 복구는 이 서버의 티켓과 임대가 만료된 티켓으로 한정 (처리 시작은 상태 조건 update 로 한 서버만 성공)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String OPERATION_IN = "입고";
+    public static final String OPERATION_RETURN = "회수";
+    public static final String OPERATION_DISCARD = "폐기";
+
+    public static final String STATUS_ACCEPTED = "접수";
+    public static final String STATUS_PROCESSING = "처리중";
+    public static final String STATUS_COMPLETED = "완료";
+    public static final String STATUS_FAILED = "실패";
+
+    private final ScanIngestTicketRepository scanIngestTicketRepository;
+    private final ScanIngestTicketQueryData scanIngestTicketQueryData;
+    private final ScanIngestWorker scanIngestWorker;
+    private final ScanIngestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // 스캔 데이터 접수
+    // 기본 검증에 실패하면 null 반환
+    public ScanIngestTicketResponseDto accept(String operation, String deviceCode, String supplierCode, List<SendProductCode> productCodes, Object requestDto) throws JsonProcessingException {
+
+        if (deviceCode == null || deviceCode.isEmpty() || supplierCode == null || supplierCode.isEmpty()
+                || productCodes == null || productCodes.isEmpty()
+                || productCodes.stream().anyMatch(eachProductCode -> eachProductCode == null || eachProductCode.getProductCode() == null || eachProductCode.getProductSerialCode() == null)) {
+            log.info("스캔 데이터 접수 거부 - 작업 : {}, 기기 : {}, 공급사 : {}", operation, deviceCode, supplierCode);
+            return null;
+        }
+
+        ScanIngestTicket ticket = scanIngestTicketRepository.save(
+                ScanIngestTicket.builder()
+                        .ticketId(UUID.randomUUID().toString())
+                        .operation(operation)
+                        .deviceCode(deviceCode)
+                        .supplierCode(supplierCode)
+                        .status(STATUS_ACCEPTED)
+                        .ownerNode(properties.getNodeId())
+                        .totalCount(productCodes.size())
+                        .payload(objectMapper.writeValueAsString(requestDto))
+                        .build()
+        );
+
+        // 저장이 끝난 뒤 작업자에게 전달하므로 서버가 내려가도 접수 데이터는 유실되지 않음
+        // 스레드 풀 대기열이 가득 차 전달하지 못해도 접수는 완료된 것으로 응답하고, 티켓은 접수 상태로 남아 정리 작업(recoverOrphanedTickets)이 처리
+        dispatch(ticket.getTicketId());
+
+        log.info("스캔 데이터 접수 - 티켓 : {}, 작업 : {}, 태그 수 : {}", ticket.getTicketId(), operation, productCodes.size());
+
+        return toResponse(ticket);
+    }
+
+    // 티켓 처리 상태 조회
+    // 존재하지 않는 티켓이면 null 반환
+    public ScanIngestTicketResponseDto getTicket(String ticketId) throws JsonProcessingException {
+        ScanIngestTicket ticket = scanIngestTicketRepository.findById(ticketId).orElse(null);
+
+        if (ticket == null) {
+            return null;
+        }
+
+        return toResponse(ticket);
+    }
+
+    // 서버 재시작 시 이 서버가 접수한 뒤 처리하지 못한 티켓은 다시 처리하고,
+    // 이 서버가 처리중이던 티켓은 일부가 이미 반영되었을 수 있어 중복 반영을 막기 위해 실패로 기록 (다른 서버의 티켓은 건드리지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverTickets() {
+        long interruptedCount = scanIngestTicketQueryData.failOwnedProcessing(properties.getNodeId(), "서버 재시작으로 처리가 중단되었습니다.");
+
+        List<String> acceptedTicketIds = scanIngestTicketQueryData.findOwnedAcceptedTicketIds(properties.getNodeId());
+        dispatchAll(acceptedTicketIds);
+
+        if (interruptedCount > 0 || !acceptedTicketIds.isEmpty()) {
+            log.info("스캔 티켓 복구 - 서버 : {}, 재처리 : {}, 중단 : {}", properties.getNodeId(), acceptedTicketIds.size(), interruptedCount);
+        }
+    }
+
+    // 다른 서버가 내려가 남은 티켓 정리
+    // 처리 임대가 만료된 처리중 티켓은 실패로 기록하고, 오래된 접수 티켓은 이 서버에서 처리 (이미 다른 서버가 가져갔으면 claim 에서 건너뜀)
+    @Scheduled(fixedDelayString = "${rfid.scan.ingest.recovery-interval-ms:60000}")
+    public void recoverOrphanedTickets() {
+        LocalDateTime now = LocalDateTime.now();
+
+        long expiredCount = scanIngestTicketQueryData.failExpiredProcessing(now, "처리 서버가 응답하지 않아 처리가 중단되었습니다.");
+
+        List<String> staleTicketIds = scanIngestTicketQueryData.findStaleAcceptedTicketIds(now.minusSeconds(properties.getAcceptedGraceSeconds()));
+        dispatchAll(staleTicketIds);
+
+        if (expiredCount > 0 || !staleTicketIds.isEmpty()) {
+            log.info("스캔 티켓 정리 - 재처리 : {}, 임대 만료 : {}", staleTicketIds.size(), expiredCount);
+        }
+    }
+
+    // 이 서버가 처리 중인 티켓의 처리 임대 연장
+    @Scheduled(fixedDelayString = "${rfid.scan.ingest.lease-renew-interval-ms:60000}")
+    public void renewLeases() {
+        scanIngestTicketQueryData.renewLeases(properties.getNodeId(), LocalDateTime.now().plusSeconds(properties.getLeaseSeconds()));
+    }
+
+    // 보관 기간이 지난 완료 / 실패 티켓 삭제
+    @Scheduled(fixedDelayString = "${rfid.scan.ingest.cleanup-interval-ms:3600000}")
+    public void cleanupTickets() {
+        long deletedCount = scanIngestTicketQueryData.deleteFinishedBefore(LocalDateTime.now().minusDays(properties.getRetentionDays()));
+
+        if (deletedCount > 0) {
+            log.info("보관 기간이 지난 스캔 티켓 삭제 : {}", deletedCount);
+        }
+    }
+
+    // 작업자에게 티켓 전달 (스레드 풀 대기열이 가득 차 거절되면 false 반환, 티켓은 접수 상태 그대로 유지)
+    private boolean dispatch(String ticketId) {
+        try {
+            scanIngestWorker.process(ticketId);
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("스레드 풀 대기열 초과로 스캔 티켓 처리 대기 - 티켓 : {}", ticketId);
+            return false;
+        }
+    }
+
+    // 여러 티켓 전달, 거절되면 남은 티켓은 다음 정리 작업에서 다시 전달
+    private void dispatchAll(List<String> ticketIds) {
+        for (String ticketId : ticketIds) {
+            if (!dispatch(ticketId)) {
+                return;
+            }
+        }
+    }
+
+    private ScanIngestTicketResponseDto toResponse(ScanIngestTicket ticket) throws JsonProcessingException {
+        List<ScanTagOutcome> tagOutcomes = ticket.getTagOutcomes() == null
+                ? Collections.emptyList()
+                : objectMapper.readValue(ticket.getTagOutcomes(), new TypeReference<List<ScanTagOutcome>>() {});
+
+        // 태그 수는 처리가 끝난 뒤 한 번에 기록되므로, 접수 / 처리중 상태에서는 응답하지 않음 (진행률로 오해하지 않도록)
+        boolean finished = STATUS_COMPLETED.equals(ticket.getStatus()) || STATUS_FAILED.equals(ticket.getStatus());
+
+        return ScanIngestTicketResponseDto.builder()
+                .ticketId(ticket.getTicketId())
+                .operation(ticket.getOperation())
+                .status(ticket.getStatus())
+                .totalCount(ticket.getTotalCount())
+                .processedCount(finished ? ticket.getProcessedCount() : null)
+                .rejectedCount(finished ? ticket.getRejectedCount() : null)
+                .errorMessage(ticket.getErrorMessage())
+                .acceptedAt(ticket.getCreatedAt() == null ? null : ticket.getCreatedAt().toString())
+                .modifiedAt(ticket.getModifiedAt() == null ? null : ticket.getModifiedAt().toString())
+                .tagOutcomes(tagOutcomes)
+                .build();
+    }
+}
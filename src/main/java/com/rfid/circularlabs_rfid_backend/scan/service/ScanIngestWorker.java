@@ -0,0 +1,172 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rfid.circularlabs_rfid_backend.query2.scaningest.ScanIngestTicketQueryData;
+import com.rfid.circularlabs_rfid_backend.scan.domain.ScanIngestTicket;
+import com.rfid.circularlabs_rfid_backend.scan.repository.ScanIngestTicketRepository;
+import com.rfid.circularlabs_rfid_backend.scan.request.RfidScanDataDiscardRequestDto;
+import com.rfid.circularlabs_rfid_backend.scan.request.RfidScanDataInRequestDto;
+import com.rfid.circularlabs_rfid_backend.scan.request.RfidScanDataReturnRequestDto;
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+import com.rfid.circularlabs_rfid_backend.scan.response.ScanTagOutcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ScanIngestWorker {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [접수된 스캔 데이터 처리 작업자]
+    // 접수 상태의 티켓을 threadPoolTaskExecutor 스레드에서 꺼내 기존 입고 / 회수 / 폐기 서비스로 처리하고
+    // 처리 상태와 태그별 처리 결과(처리 / 제외 / 재전송 / 실패)를 티켓에 기록
+    // 처리 시작은 상태 조건 update(claim)로 한 서버 / 스레드만 성공하며, 태그별 처리 결과는 서비스가 실제로 반영한 태그 기준
+    // 제외 사유는 사전 정리 단계(ScanTagPrefilter)와 같은 기준으로 판단하고, 이미 처리된 요청의 재전송은 처리로 세지 않음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String OUTCOME_PROCESSED = "처리";
+    public static final String OUTCOME_REJECTED = "제외";
+    public static final String OUTCOME_REPLAYED = "재전송";
+    public static final String OUTCOME_FAILED = "실패";
+
+    private static final String REASON_NOT_REGISTERED = "등록되지 않은 제품";
+    private static final String REASON_REPLAYED = "이미 처리된 요청";
+
+    private final ScanIngestTicketRepository scanIngestTicketRepository;
+    private final ScanIngestTicketQueryData scanIngestTicketQueryData;
+    private final RfidScanDataService_v3 scanDataServiceV3;
+    private final ScanTagPrefilter scanTagPrefilter;
+    private final ScanIngestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Async("threadPoolTaskExecutor")
+    public void process(String ticketId) {
+
+        // 이미 다른 서버 / 작업자가 가져갔거나 처리가 끝난 티켓은 건너뜀
+        if (!scanIngestTicketQueryData.claim(ticketId, properties.getNodeId(), LocalDateTime.now().plusSeconds(properties.getLeaseSeconds()))) {
+            return;
+        }
+
+        ScanIngestTicket ticket = scanIngestTicketRepository.findById(ticketId).orElse(null);
+
+        if (ticket == null) {
+            return;
+        }
+
+        List<SendProductCode> scanDatas = new ArrayList<>();
+        List<String> dropReasons = new ArrayList<>();
+
+        try {
+            ScanProcessResult result;
+
+            switch (ticket.getOperation()) {
+                case ScanIngestService.OPERATION_IN: {
+                    RfidScanDataInRequestDto sendInDatas = objectMapper.readValue(ticket.getPayload(), RfidScanDataInRequestDto.class);
+                    scanDatas = sendInDatas.getProductCodes();
+                    dropReasons = scanTagPrefilter.dropReasons(sendInDatas.getSupplierCode(), scanDatas, false);
+                    result = scanDataServiceV3.submitInData(sendInDatas, null);
+                    break;
+                }
+                case ScanIngestService.OPERATION_RETURN: {
+                    RfidScanDataReturnRequestDto sendReturnDatas = objectMapper.readValue(ticket.getPayload(), RfidScanDataReturnRequestDto.class);
+                    scanDatas = sendReturnDatas.getProductCodes();
+                    dropReasons = scanTagPrefilter.dropReasons(sendReturnDatas.getSupplierCode(), scanDatas, false);
+                    result = scanDataServiceV3.submitReturnData(sendReturnDatas, null);
+                    break;
+                }
+                case ScanIngestService.OPERATION_DISCARD: {
+                    RfidScanDataDiscardRequestDto sendDiscardDatas = objectMapper.readValue(ticket.getPayload(), RfidScanDataDiscardRequestDto.class);
+                    scanDatas = sendDiscardDatas.getProductCodes();
+                    dropReasons = scanTagPrefilter.dropReasons(sendDiscardDatas.getSupplierCode(), scanDatas, true);
+                    result = scanDataServiceV3.submitDiscardData(sendDiscardDatas, null);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("알 수 없는 작업 구분 : " + ticket.getOperation());
+            }
+
+            // 서비스가 실제로 반영한 태그는 처리, 사전 정리에서 걸러진 태그는 그 사유로 제외, 나머지는 등록 제품 검증에서 제외
+            // 재전송이면 이번 요청으로 반영한 태그가 없으므로 사전 정리를 통과한 태그를 재전송으로 기록
+            Set<SendProductCode> processedTags = Collections.newSetFromMap(new IdentityHashMap<>());
+            processedTags.addAll(result.getProcessedTags());
+
+            List<String> tagResults = new ArrayList<>();
+            List<String> tagReasons = new ArrayList<>();
+
+            for (int i = 0; i < scanDatas.size(); i++) {
+                SendProductCode eachScanData = scanDatas.get(i);
+
+                if (dropReasons.get(i) != null) {
+                    tagResults.add(OUTCOME_REJECTED);
+                    tagReasons.add(dropReasons.get(i));
+                } else if (result.isReplay()) {
+                    tagResults.add(OUTCOME_REPLAYED);
+                    tagReasons.add(REASON_REPLAYED);
+                } else if (processedTags.contains(eachScanData)) {
+                    tagResults.add(OUTCOME_PROCESSED);
+                    tagReasons.add(null);
+                } else {
+                    tagResults.add(OUTCOME_REJECTED);
+                    tagReasons.add(REASON_NOT_REGISTERED);
+                }
+            }
+
+            int processedCount = (int) tagResults.stream().filter(OUTCOME_PROCESSED::equals).count();
+            int rejectedCount = (int) tagResults.stream().filter(OUTCOME_REJECTED::equals).count();
+            ticket.complete(processedCount, rejectedCount, writeOutcomes(scanDatas, tagResults, tagReasons));
+
+            log.info("스캔 티켓 처리 완료 - 티켓 : {}, 처리 : {}, 제외 : {}, 재전송 : {}", ticketId, processedCount, rejectedCount, result.isReplay());
+        } catch (Exception e) {
+            log.error("스캔 티켓 처리 실패 - 티켓 : {}", ticketId, e);
+
+            // 사전 정리에서 걸러진 태그는 제외로 유지하고, 어느 태그까지 반영되었는지 알 수 없으므로 나머지는 모두 실패로 기록
+            List<String> failedResults = new ArrayList<>();
+            List<String> failedReasons = new ArrayList<>();
+
+            for (int i = 0; i < scanDatas.size(); i++) {
+                String dropReason = i < dropReasons.size() ? dropReasons.get(i) : null;
+                failedResults.add(dropReason != null ? OUTCOME_REJECTED : OUTCOME_FAILED);
+                failedReasons.add(dropReason);
+            }
+
+            String failedOutcomes = null;
+            try {
+                failedOutcomes = writeOutcomes(scanDatas, failedResults, failedReasons);
+            } catch (JsonProcessingException jsonProcessingException) {
+                log.error("태그별 처리 결과 기록 실패 - 티켓 : {}", ticketId, jsonProcessingException);
+            }
+
+            ticket.fail(e.getMessage(), (int) failedResults.stream().filter(OUTCOME_REJECTED::equals).count(), failedOutcomes);
+        }
+
+        scanIngestTicketRepository.save(ticket);
+    }
+
+    private String writeOutcomes(List<SendProductCode> scanDatas, List<String> tagResults, List<String> tagReasons) throws JsonProcessingException {
+        List<ScanTagOutcome> tagOutcomes = new ArrayList<>();
+
+        for (int i = 0; i < scanDatas.size(); i++) {
+            SendProductCode eachScanData = scanDatas.get(i);
+
+            tagOutcomes.add(new ScanTagOutcome(
+                    eachScanData.getRfidChipCode(),
+                    eachScanData.getProductSerialCode(),
+                    eachScanData.getProductCode(),
+                    tagResults.get(i),
+                    tagReasons.get(i)));
+        }
+
+        return objectMapper.writeValueAsString(tagOutcomes);
+    }
+}
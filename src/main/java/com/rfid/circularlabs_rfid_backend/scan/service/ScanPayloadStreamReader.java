@@ -0,0 +1,145 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScanPayloadStreamReader implements Closeable {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [대용량 스캔 요청 본문 스트리밍 읽기]
+    // 기존 스캔 요청과 같은 JSON 본문({"machineId", "supplierCode", ..., "productCodes": [...]})을 Jackson 스트리밍 API 로 읽어
+    // productCodes 배열 앞의 단일 값 필드는 먼저 읽어 두고, 태그는 chunkSize 개씩 잘라 반환하므로
+    // 요청 전체 태그를 DTO 리스트로 만들지 않고 청크 크기만큼만 메모리에 올림
+    // productCodes 배열 뒤의 필드와 eachProductCount 같은 다른 배열 / 객체 필드는 읽지 않고 건너뜀
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final String TAG_ARRAY_FIELD = "productCodes";
+
+    private final JsonParser parser;
+    private final ObjectReader tagReader;
+    private final int chunkSize;
+    private final Map<String, String> fields = new HashMap<>();
+    private boolean tagArrayOpened;
+    private boolean finished;
+
+    private ScanPayloadStreamReader(JsonParser parser, ObjectReader tagReader, int chunkSize) {
+        this.parser = parser;
+        this.tagReader = tagReader;
+        this.chunkSize = chunkSize;
+    }
+
+    // 본문을 열고 productCodes 배열 시작 위치까지 읽음
+    public static ScanPayloadStreamReader open(ObjectMapper objectMapper, InputStream body, int chunkSize) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(body);
+        ScanPayloadStreamReader reader = new ScanPayloadStreamReader(parser, objectMapper.readerFor(SendProductCode.class), Math.max(1, chunkSize));
+
+        try {
+            reader.readFields();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+
+        return reader;
+    }
+
+    // productCodes 배열 앞에 있던 단일 값 필드 (없으면 null)
+    public String getField(String name) {
+        return fields.get(name);
+    }
+
+    // 본문에 productCodes 배열이 있는지 여부
+    public boolean hasTags() {
+        return tagArrayOpened;
+    }
+
+    // 다음 태그 청크 (태그를 모두 읽었으면 null)
+    public List<SendProductCode> nextChunk() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        List<SendProductCode> chunk = new ArrayList<>(chunkSize);
+
+        while (chunk.size() < chunkSize) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                chunk.add(tagReader.readValue(parser));
+            } else if (token == JsonToken.END_ARRAY) {
+                skipRemainingFields();
+                break;
+            } else if (token == JsonToken.VALUE_NULL) {
+                continue;
+            } else {
+                throw new JsonParseException(parser, "productCodes 배열에 태그 객체가 아닌 값이 있습니다. : " + token);
+            }
+        }
+
+        return chunk.isEmpty() ? null : chunk;
+    }
+
+    // 최상위 객체의 필드를 productCodes 배열이 시작될 때까지 읽음
+    private void readFields() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "스캔 요청 본문은 JSON 객체여야 합니다.");
+        }
+
+        JsonToken token;
+
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (TAG_ARRAY_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                tagArrayOpened = true;
+                return;
+            }
+
+            if (valueToken.isScalarValue()) {
+                fields.put(fieldName, valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "스캔 요청 본문이 올바른 JSON 객체가 아닙니다.");
+        }
+
+        finished = true;
+    }
+
+    // productCodes 배열 뒤의 필드는 처리에 사용하지 않으므로 본문 끝까지 형식만 확인
+    private void skipRemainingFields() throws IOException {
+        JsonToken token;
+
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "스캔 요청 본문이 올바른 JSON 객체가 아닙니다.");
+        }
+
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,32 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScanProcessResult {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 데이터 처리 결과]
+    // 처리 결과 메시지와 함께 실제로 반영한 태그 목록을 돌려주어,
+    // 티켓 처리(ScanIngestWorker)가 태그별 처리 결과를 추정하지 않고 서비스가 실제로 처리한 기준으로 기록
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final String message; // 처리 결과 메시지
+    private final boolean replay; // 이미 처리한 전송의 재전송 여부 (저장된 결과만 반환하고 아무것도 반영하지 않음)
+    private final List<SendProductCode> processedTags; // 실제로 반영한 태그 (요청 태그와 같은 객체)
+
+    public static ScanProcessResult processed(String message, List<SendProductCode> processedTags) {
+        return new ScanProcessResult(message, false, processedTags);
+    }
+
+    public static ScanProcessResult replay(String storedResult) {
+        return new ScanProcessResult(storedResult, true, Collections.emptyList());
+    }
+}
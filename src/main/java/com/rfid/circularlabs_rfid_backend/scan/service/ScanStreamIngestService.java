@@ -0,0 +1,246 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rfid.circularlabs_rfid_backend.scan.request.RfidScanDataDiscardRequestDto;
+import com.rfid.circularlabs_rfid_backend.scan.request.RfidScanDataInRequestDto;
+import com.rfid.circularlabs_rfid_backend.scan.request.RfidScanDataReturnRequestDto;
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+import com.rfid.circularlabs_rfid_backend.scan.response.ScanStreamResultResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class ScanStreamIngestService {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [대용량 스캔 데이터 스트리밍 처리]
+    // 창고 전체 재고 조사처럼 태그가 수십만 개인 요청은 본문 전체를 DTO 로 바인딩하면 태그 수만큼 힙을 차지하므로
+    // ScanPayloadStreamReader 로 본문을 읽으면서 rfid.scan.stream.chunk-size 개씩 잘라 입고 / 회수 / 폐기 처리에 바로 넘김
+    // 1. 본문 형식은 기존 스캔 요청과 같고, machineId / supplierCode 등은 productCodes 배열보다 앞에 있어야 함
+    // 2. 청크마다 사전 정리 -> 잠금 -> 처리가 따로 이루어지며, 청크 사이의 중복 태그는 앞선 청크에서 처리한 태그 키로 제거
+    //    (요청 단위로 남는 상태는 처리한 태그 키 집합뿐이고 태그 DTO 는 청크 크기만큼만 유지)
+    //    태그 키 집합은 태그 하나당 약 100 byte 이므로 rfid.scan.stream.max-tags 개까지만 허용하고, 넘으면 그 청크부터 처리하지 않음
+    // 3. 중간에 본문 형식이 깨지거나 청크 처리에 실패하면 이미 처리한 청크는 그대로 두고 completed=false 와 처리한 청크 수를 응답
+    // 4. 스캔 이력(RfidScanHistory)은 청크마다 제품별로 저장되므로 한 요청에 (청크 수 x 제품 수) 건까지 생길 수 있음
+    //    (재고 수량은 원장에 증감으로 반영되므로 마지막 이력의 수량은 요청 전체를 한 번에 처리한 경우와 같음)
+    // 청크 단위로 처리되므로 Idempotency-Key / 재전송 감지(ScanSubmissionGuard)는 적용하지 않음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final RfidScanDataService_v3 scanDataServiceV3;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxTags;
+
+    public ScanStreamIngestService(
+            RfidScanDataService_v3 scanDataServiceV3,
+            ObjectMapper objectMapper,
+            @Value("${rfid.scan.stream.chunk-size:1000}") int chunkSize,
+            @Value("${rfid.scan.stream.max-tags:300000}") int maxTags) {
+        this.scanDataServiceV3 = scanDataServiceV3;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxTags = maxTags;
+    }
+
+    // 스트리밍 입고 (본문이 JSON 객체가 아니거나 machineId / supplierCode 가 productCodes 보다 앞에 없으면 null 반환)
+    public ScanStreamResultResponseDto streamInData(InputStream body) throws IOException {
+
+        try (ScanPayloadStreamReader reader = openReader(ScanIngestService.OPERATION_IN, body)) {
+            if (reader == null || !hasRequiredFields(ScanIngestService.OPERATION_IN, reader)) {
+                return null;
+            }
+
+            StreamProgress progress = new StreamProgress(ScanIngestService.OPERATION_IN, maxTags);
+            List<SendProductCode> chunk;
+
+            while ((chunk = progress.nextChunk(reader)) != null) {
+                RfidScanDataInRequestDto sendInDatas = RfidScanDataInRequestDto.builder()
+                        .machineId(reader.getField("machineId"))
+                        .tag(reader.getField("tag"))
+                        .selectClientCode(reader.getField("selectClientCode"))
+                        .supplierCode(reader.getField("supplierCode"))
+                        .productCodes(chunk)
+                        .build();
+
+                if (!progress.process(chunk.size(), readTags -> scanDataServiceV3.sendInChunk(sendInDatas, readTags))) {
+                    break;
+                }
+            }
+
+            return progress.toResponse();
+        }
+    }
+
+
+    // 스트리밍 회수 (본문이 JSON 객체가 아니거나 machineId / supplierCode 가 productCodes 보다 앞에 없으면 null 반환)
+    public ScanStreamResultResponseDto streamReturnData(InputStream body) throws IOException {
+
+        try (ScanPayloadStreamReader reader = openReader(ScanIngestService.OPERATION_RETURN, body)) {
+            if (reader == null || !hasRequiredFields(ScanIngestService.OPERATION_RETURN, reader)) {
+                return null;
+            }
+
+            StreamProgress progress = new StreamProgress(ScanIngestService.OPERATION_RETURN, maxTags);
+            List<SendProductCode> chunk;
+
+            while ((chunk = progress.nextChunk(reader)) != null) {
+                RfidScanDataReturnRequestDto sendTurnBackDatas = RfidScanDataReturnRequestDto.builder()
+                        .machineId(reader.getField("machineId"))
+                        .tag(reader.getField("tag"))
+                        .supplierCode(reader.getField("supplierCode"))
+                        .productCodes(chunk)
+                        .build();
+
+                if (!progress.process(chunk.size(), readTags -> scanDataServiceV3.sendReturnChunk(sendTurnBackDatas, readTags))) {
+                    break;
+                }
+            }
+
+            return progress.toResponse();
+        }
+    }
+
+
+    // 스트리밍 폐기 (본문이 JSON 객체가 아니거나 machineId / supplierCode 가 productCodes 보다 앞에 없으면 null 반환)
+    public ScanStreamResultResponseDto streamDiscardData(InputStream body) throws IOException {
+
+        try (ScanPayloadStreamReader reader = openReader(ScanIngestService.OPERATION_DISCARD, body)) {
+            if (reader == null || !hasRequiredFields(ScanIngestService.OPERATION_DISCARD, reader)) {
+                return null;
+            }
+
+            StreamProgress progress = new StreamProgress(ScanIngestService.OPERATION_DISCARD, maxTags);
+            List<SendProductCode> chunk;
+
+            while ((chunk = progress.nextChunk(reader)) != null) {
+                RfidScanDataDiscardRequestDto sendDiscardDatas = RfidScanDataDiscardRequestDto.builder()
+                        .machineId(reader.getField("machineId"))
+                        .tag(reader.getField("tag"))
+                        .selectClientCode(reader.getField("selectClientCode"))
+                        .supplierCode(reader.getField("supplierCode"))
+                        .productCodes(chunk)
+                        .build();
+
+                if (!progress.process(chunk.size(), readTags -> scanDataServiceV3.sendDiscardChunk(sendDiscardDatas, readTags))) {
+                    break;
+                }
+            }
+
+            return progress.toResponse();
+        }
+    }
+
+
+    // 본문을 열어 productCodes 배열 앞까지 읽음 (JSON 형식이 아니면 null)
+    private ScanPayloadStreamReader openReader(String operation, InputStream body) throws IOException {
+        try {
+            return ScanPayloadStreamReader.open(objectMapper, body, chunkSize);
+        } catch (JsonProcessingException e) {
+            log.info("스캔 데이터 스트리밍 처리 거부 - 작업 : {}, 사유 : {}", operation, e.getOriginalMessage());
+            return null;
+        }
+    }
+
+
+    private static boolean hasRequiredFields(String operation, ScanPayloadStreamReader reader) {
+        String deviceCode = reader.getField("machineId");
+        String supplierCode = reader.getField("supplierCode");
+
+        if (deviceCode == null || deviceCode.isEmpty() || supplierCode == null || supplierCode.isEmpty() || !reader.hasTags()) {
+            log.info("스캔 데이터 스트리밍 처리 거부 - 작업 : {}, 기기 : {}, 공급사 : {} (productCodes 보다 앞에 machineId / supplierCode 필요)",
+                    operation, deviceCode, supplierCode);
+            return false;
+        }
+
+        return true;
+    }
+
+    // 청크 하나 처리 (앞선 청크에서 처리한 태그 키를 받아 처리한 태그 수 반환)
+    @FunctionalInterface
+    private interface ChunkProcessor {
+        int process(Set<String> readTags) throws Exception;
+    }
+
+    // 요청 하나의 진행 상황
+    private static class StreamProgress {
+        private final String operation;
+        private final int maxTags;
+        private final Set<String> readTags = new HashSet<>();
+        private final long startedAt = System.currentTimeMillis();
+        private int chunkCount;
+        private int receivedCount;
+        private int processedCount;
+        private Integer failedChunk;
+        private boolean tagLimitExceeded;
+        private String errorMessage;
+
+        private StreamProgress(String operation, int maxTags) {
+            this.operation = operation;
+            this.maxTags = maxTags;
+        }
+
+        // 다음 청크 (본문 형식이 깨졌으면 중단 사유를 남기고 null)
+        private List<SendProductCode> nextChunk(ScanPayloadStreamReader reader) throws IOException {
+            try {
+                List<SendProductCode> chunk = reader.nextChunk();
+
+                if (chunk != null) {
+                    receivedCount += chunk.size();
+                }
+
+                return chunk;
+            } catch (JsonProcessingException e) {
+                errorMessage = e.getOriginalMessage();
+                log.info("스캔 데이터 스트리밍 처리 중단 - 작업 : {}, 처리한 청크 : {}, 사유 : {}", operation, chunkCount, errorMessage);
+                return null;
+            }
+        }
+
+        // 청크 처리 (태그 수 상한을 넘거나 처리에 실패하면 중단 사유를 남기고 false)
+        // 실패한 청크의 예외는 여기서 멈추고, 앞선 청크까지의 진행 상황을 응답으로 돌려줌
+        private boolean process(int chunkTagCount, ChunkProcessor chunkProcessor) {
+            if (readTags.size() + chunkTagCount > maxTags) {
+                tagLimitExceeded = true;
+                errorMessage = "한 요청에서 처리할 수 있는 태그 수(" + maxTags + ")를 넘었습니다.";
+                log.info("스캔 데이터 스트리밍 처리 중단 - 작업 : {}, 처리한 청크 : {}, 사유 : {}", operation, chunkCount, errorMessage);
+                return false;
+            }
+
+            try {
+                processedCount += chunkProcessor.process(readTags);
+                chunkCount++;
+                return true;
+            } catch (Exception e) {
+                failedChunk = chunkCount + 1;
+                errorMessage = e.getMessage();
+                log.error("스캔 데이터 스트리밍 청크 처리 실패 - 작업 : {}, 청크 : {}, 처리한 청크 : {}", operation, failedChunk, chunkCount, e);
+                return false;
+            }
+        }
+
+        private ScanStreamResultResponseDto toResponse() {
+            log.info("스캔 데이터 스트리밍 처리 종료 - 작업 : {}, 청크 : {}, 읽은 태그 : {}, 처리한 태그 : {}, 소요 시간 : {} ms",
+                    operation, chunkCount, receivedCount, processedCount, System.currentTimeMillis() - startedAt);
+
+            return ScanStreamResultResponseDto.builder()
+                    .operation(operation)
+                    .completed(errorMessage == null)
+                    .chunkCount(chunkCount)
+                    .receivedCount(receivedCount)
+                    .processedCount(processedCount)
+                    .failedChunk(failedChunk)
+                    .tagLimitExceeded(tagLimitExceeded)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rfid.circularlabs_rfid_backend.share.StatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class ScanSubmissionGuard {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 데이터 중복 전송(재시도) 감지]
+    // 리더기는 네트워크 타임아웃 후 같은 스캔 데이터를 다시 전송하므로, 이미 처리한 전송이면 DB 를 거치지 않고 저장된 처리 결과를 그대로 반환
+    // 1. Idempotency-Key 헤더가 있으면 (기기, 키) 단위로 key-ttl-seconds 동안 결과 보관 (같은 키로 다른 데이터를 보내면 충돌)
+    // 2. 헤더가 없으면 (작업, 기기, 요청 본문) 해시를 기기별 "마지막 전송" 으로 content-ttl-seconds 동안 보관하고
+    //    같은 기기의 바로 다음 전송이 동일한 경우만 재시도로 판단 (사이에 다른 전송이 있었다면 같은 카트의 새로운 스캔으로 처리)
+    // 3. 처리 중인 전송과 같은 전송이 들어오면 먼저 들어온 처리가 끝날 때까지 기다렸다가 그 결과를 반환
+    // 4. 처리에 실패한 전송은 보관하지 않으므로 재시도하면 다시 처리됨
+    // 서버가 여러 대이면 rfid.scan.idempotency.redis-enabled=true 로 Redis 에도 보관하여 다른 서버로 재시도해도 감지
+    // (Redis 에 연결할 수 없으면 서버 메모리만으로 동작)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "scan:idempotency:key:";
+    private static final String LAST_PREFIX = "scan:idempotency:last:";
+    private static final long REDIS_POLL_MILLIS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final long keyTtlMillis;
+    private final long contentTtlMillis;
+    private final long inFlightWaitMillis;
+    private final Map<String, Entry> entries;
+
+    public ScanSubmissionGuard(
+            ObjectMapper objectMapper,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${rfid.scan.idempotency.enabled:true}") boolean enabled,
+            @Value("${rfid.scan.idempotency.redis-enabled:false}") boolean redisEnabled,
+            @Value("${rfid.scan.idempotency.key-ttl-seconds:600}") long keyTtlSeconds,
+            @Value("${rfid.scan.idempotency.content-ttl-seconds:120}") long contentTtlSeconds,
+            @Value("${rfid.scan.idempotency.in-flight-wait-ms:30000}") long inFlightWaitMillis,
+            @Value("${rfid.scan.idempotency.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.keyTtlMillis = Duration.ofSeconds(keyTtlSeconds).toMillis();
+        this.contentTtlMillis = Duration.ofSeconds(contentTtlSeconds).toMillis();
+        this.inFlightWaitMillis = inFlightWaitMillis;
+
+        // 접근 순서 LinkedHashMap 으로 최대 개수를 넘으면 가장 오래 사용하지 않은 전송부터 제거
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        meterRegistry.gaugeMapSize("rfid.scan.idempotency.size", Collections.emptyList(), entries);
+    }
+
+    // 서버 메모리에 보관하는 전송 한 건 (result 가 완료되지 않았으면 처리 중)
+    private static class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final long expireAt;
+
+        private Entry(String fingerprint, long expireAt) {
+            this.fingerprint = fingerprint;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired() {
+            return expireAt <= System.currentTimeMillis();
+        }
+
+        private boolean isFailed() {
+            return result.isCompletedExceptionally();
+        }
+    }
+
+    // Redis 에 보관하는 전송 상태
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class StoredSubmission {
+        private String fingerprint;
+        private String result; // null 이면 처리 중
+    }
+
+    // 같은 전송이 처리 중이라 기다리지 못했거나, 같은 Idempotency-Key 로 다른 스캔 데이터를 보낸 경우
+    @Getter
+    public static class ConflictException extends IllegalStateException {
+        private final StatusCode statusCode;
+
+        private ConflictException(StatusCode statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+    }
+
+    // 전송 처리 시작 (try-with-resources 로 사용하며, complete 없이 닫히면 처리 실패로 보고 보관하지 않음)
+    // 이미 처리된 전송이면 isReplay() 가 true 이고 getStoredResult() 로 저장된 결과 반환
+    public Submission begin(String operation, String machineId, String idempotencyKey, Object payload) {
+        if (!enabled || machineId == null) {
+            return new Submission(operation, null, null, null, null);
+        }
+
+        boolean explicitKey = idempotencyKey != null && !idempotencyKey.isEmpty();
+        String storeKey = explicitKey ? KEY_PREFIX + machineId + ":" + idempotencyKey : LAST_PREFIX + machineId;
+        long ttlMillis = explicitKey ? keyTtlMillis : contentTtlMillis;
+        String fingerprint = fingerprint(operation, machineId, payload);
+
+        Entry entry = new Entry(fingerprint, System.currentTimeMillis() + ttlMillis);
+        Entry existEntry;
+
+        synchronized (entries) {
+            existEntry = entries.get(storeKey);
+
+            // 보관 기간이 지났거나 실패한 전송, 또는 기기의 마지막 전송과 다른 전송이면 새 전송으로 처리
+            if (existEntry == null || existEntry.isExpired() || existEntry.isFailed()
+                    || (!explicitKey && !existEntry.fingerprint.equals(fingerprint))) {
+                entries.put(storeKey, entry);
+                existEntry = null;
+            }
+        }
+
+        if (existEntry != null) {
+            if (!existEntry.fingerprint.equals(fingerprint)) {
+                count(operation, "conflict");
+                throw new ConflictException(StatusCode.NOT_MATCH_IDEMPOTENCY_KEY,
+                        "같은 Idempotency-Key 로 다른 스캔 데이터가 전송되었습니다. - 기기 : " + machineId + ", 키 : " + idempotencyKey);
+            }
+
+            String storedResult = awaitLocal(operation, machineId, existEntry);
+            count(operation, "replayed");
+            log.info("재전송 스캔 데이터 감지 - 작업 : {}, 기기 : {} (저장된 결과 반환)", operation, machineId);
+            return new Submission(operation, null, null, null, storedResult);
+        }
+
+        String storedResult;
+
+        try {
+            storedResult = claimRedis(operation, machineId, storeKey, fingerprint, explicitKey, ttlMillis);
+        } catch (ConflictException e) {
+            entry.result.completeExceptionally(e);
+            entries.remove(storeKey, entry);
+            throw e;
+        }
+
+        if (storedResult != null) {
+            entry.result.complete(storedResult);
+            count(operation, "replayed");
+            log.info("재전송 스캔 데이터 감지 (Redis) - 작업 : {}, 기기 : {} (저장된 결과 반환)", operation, machineId);
+            return new Submission(operation, null, null, null, storedResult);
+        }
+
+        return new Submission(operation, storeKey, entry, ttlMillis, null);
+    }
+
+    // 처리 중인 같은 전송의 결과 대기
+    private String awaitLocal(String operation, String machineId, Entry existEntry) {
+        try {
+            return existEntry.result.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inFlightConflict(operation, machineId);
+        } catch (ExecutionException | TimeoutException e) {
+            throw inFlightConflict(operation, machineId);
+        }
+    }
+
+    private ConflictException inFlightConflict(String operation, String machineId) {
+        count(operation, "conflict");
+        return new ConflictException(StatusCode.DUPLICATE_SCAN_IN_PROGRESS,
+                "같은 스캔 데이터의 이전 전송이 아직 처리 중이거나 실패했습니다. - 작업 : " + operation + ", 기기 : " + machineId);
+    }
+
+    // Redis 에 처리 중 상태를 선점하고, 다른 서버가 이미 처리했으면 그 결과 반환 (선점했으면 null)
+    private String claimRedis(String operation, String machineId, String storeKey, String fingerprint, boolean explicitKey, long ttlMillis) {
+        if (!redisEnabled) {
+            return null;
+        }
+
+        try {
+            String pending = objectMapper.writeValueAsString(new StoredSubmission(fingerprint, null));
+            long waitUntil = System.currentTimeMillis() + inFlightWaitMillis;
+
+            while (true) {
+                Boolean claimed = redisTemplate.opsForValue().setIfAbsent(storeKey, pending, Duration.ofMillis(ttlMillis));
+
+                if (Boolean.TRUE.equals(claimed)) {
+                    return null;
+                }
+
+                String storedJson = redisTemplate.opsForValue().get(storeKey);
+
+                if (storedJson == null) {
+                    continue;
+                }
+
+                StoredSubmission stored = objectMapper.readValue(storedJson, StoredSubmission.class);
+
+                if (!fingerprint.equals(stored.getFingerprint())) {
+                    if (explicitKey) {
+                        count(operation, "conflict");
+                        throw new ConflictException(StatusCode.NOT_MATCH_IDEMPOTENCY_KEY,
+                                "같은 Idempotency-Key 로 다른 스캔 데이터가 전송되었습니다. - 기기 : " + machineId);
+                    }
+
+                    // 기기의 마지막 전송과 다른 전송 : 새 전송으로 덮어씀
+                    redisTemplate.opsForValue().set(storeKey, pending, Duration.ofMillis(ttlMillis));
+                    return null;
+                }
+
+                if (stored.getResult() != null) {
+                    return stored.getResult();
+                }
+
+                // 다른 서버에서 처리 중
+                if (System.currentTimeMillis() >= waitUntil) {
+                    throw inFlightConflict(operation, machineId);
+                }
+
+                Thread.sleep(REDIS_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inFlightConflict(operation, machineId);
+        } catch (ConflictException e) {
+            throw e;
+        } catch (Exception e) {
+            log.info("스캔 중복 전송 Redis 조회 실패 - 서버 메모리로만 확인 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // (작업, 기기, 요청 본문) SHA-256 해시
+    private String fingerprint(String operation, String machineId, Object payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((operation + "|" + machineId + "|").getBytes(StandardCharsets.UTF_8));
+            byte[] hash = digest.digest(objectMapper.writeValueAsBytes(payload));
+
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte eachByte : hash) {
+                hex.append(String.format("%02x", eachByte));
+            }
+
+            return hex.toString();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("스캔 데이터 해시 생성 실패", e);
+        }
+    }
+
+    private void count(String operation, String outcome) {
+        Counter.builder("rfid.scan.idempotency")
+                .description("스캔 데이터 중복 전송 감지 결과")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 처리 중인 전송 한 건
+    public class Submission implements AutoCloseable {
+        private final String operation;
+        private final String storeKey;
+        private final Entry entry;
+        private final Long ttlMillis;
+        private final String storedResult;
+        private boolean completed;
+
+        private Submission(String operation, String storeKey, Entry entry, Long ttlMillis, String storedResult) {
+            this.operation = operation;
+            this.storeKey = storeKey;
+            this.entry = entry;
+            this.ttlMillis = ttlMillis;
+            this.storedResult = storedResult;
+        }
+
+        public boolean isReplay() {
+            return storedResult != null;
+        }
+
+        public String getStoredResult() {
+            return storedResult;
+        }
+
+        // 처리 결과 보관 (같은 전송이 다시 들어오면 이 결과를 반환)
+        public void complete(String result) {
+            completed = true;
+
+            if (entry == null) {
+                return;
+            }
+
+            entry.result.complete(result);
+            count(operation, "processed");
+
+            if (redisEnabled) {
+                try {
+                    redisTemplate.opsForValue().set(storeKey,
+                            objectMapper.writeValueAsString(new StoredSubmission(entry.fingerprint, result)), Duration.ofMillis(ttlMillis));
+                } catch (Exception e) {
+                    log.info("스캔 처리 결과 Redis 저장 실패 : {}", e.getMessage());
+                }
+            }
+        }
+
+        // complete 없이 닫히면 처리 실패 : 기다리던 같은 전송에 실패를 알리고 보관하지 않음
+        @Override
+        public void close() {
+            if (completed || entry == null) {
+                return;
+            }
+
+            entry.result.completeExceptionally(new IllegalStateException("스캔 데이터 처리 실패"));
+            entries.remove(storeKey, entry);
+
+            if (redisEnabled) {
+                try {
+                    redisTemplate.delete(storeKey);
+                } catch (Exception e) {
+                    log.info("스캔 처리 상태 Redis 삭제 실패 : {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
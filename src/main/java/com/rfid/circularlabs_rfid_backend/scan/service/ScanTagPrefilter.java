@@ -0,0 +1,169 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import com.rfid.circularlabs_rfid_backend.scan.request.SendProductCode;
+import com.rfid.circularlabs_rfid_backend.share.ScanPipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ScanTagPrefilter {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 태그 사전 정리 단계]
+    // 리더기는 한 번 스캔하는 동안 같은 태그를 여러 번 읽어 보내고, 주변의 다른 회사 태그도 함께 읽어 보내므로
+    // 스캔 처리(검증 / 제품 상세 조회 / 이력 저장) 전에 한 번만 태그 목록을 정리하여 이후 단계는 중복 없는 자사 태그만 처리
+    // 1. 필터링 코드가 공급사별 자사 필터링 코드와 맞지 않는 태그 제거 (rfid.scan.prefilter.suppliers / filtering-codes)
+    // 2. 같은 요청 안에서 같은 제품 분류 코드 + 고유 코드(없으면 RFID 칩 코드)로 다시 읽힌 태그 제거 (처음 읽힌 순서 유지)
+    // 걸러낸 태그 수는 rfid.scan.tags.dropped (reason : foreign / duplicate) 로 기록
+    // 외부 태그 제거(1)는 기존에 필터링 코드를 검사하던 작업(폐기 / 세척 / v2 · 이전 버전 api)에만 적용하고,
+    // 필터링 코드를 검사하지 않던 입고 / 회수 api 는 deduplicate 로 중복 태그(2)만 제거
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String DROP_FOREIGN = "외부 태그";
+    public static final String DROP_DUPLICATE = "중복 태그";
+
+    private final ScanTagPrefilterProperties properties;
+    private final ScanPipelineMetrics scanPipelineMetrics;
+
+    // 요청 태그 중 중복 없는 자사 태그만 반환
+    public List<SendProductCode> filter(String operation, String supplierCode, List<SendProductCode> scanDatas) {
+        return filter(operation, supplierCode, scanDatas, new HashSet<>());
+    }
+
+
+    // readTags 에 이미 있는 태그도 중복으로 제거하고, 통과한 태그를 readTags 에 추가
+    // (스트리밍 요청처럼 한 요청을 여러 청크로 나눠 처리할 때 청크 사이의 중복 제거용)
+    public List<SendProductCode> filter(String operation, String supplierCode, List<SendProductCode> scanDatas, Set<String> readTags) {
+        return prefilter(operation, supplierCode, scanDatas, readTags, true);
+    }
+
+    // 요청 태그 중 중복 태그만 제거하여 반환 (필터링 코드는 검사하지 않음)
+    public List<SendProductCode> deduplicate(String operation, String supplierCode, List<SendProductCode> scanDatas) {
+        return deduplicate(operation, supplierCode, scanDatas, new HashSet<>());
+    }
+
+    public List<SendProductCode> deduplicate(String operation, String supplierCode, List<SendProductCode> scanDatas, Set<String> readTags) {
+        return prefilter(operation, supplierCode, scanDatas, readTags, false);
+    }
+
+    private List<SendProductCode> prefilter(String operation, String supplierCode, List<SendProductCode> scanDatas, Set<String> readTags,
+                                            boolean dropForeign) {
+        if (scanDatas == null || scanDatas.isEmpty()) {
+            return scanDatas == null ? Collections.emptyList() : scanDatas;
+        }
+
+        if (!properties.isEnabled()) {
+            return scanDatas;
+        }
+
+        try (ScanPipelineMetrics.Stage prefilterStage = scanPipelineMetrics.stage("prefilter", operation, supplierCode)) {
+            List<String> filteringCodes = filteringCodes(supplierCode, dropForeign);
+            List<SendProductCode> filteredScanDatas = new ArrayList<>(scanDatas.size());
+            int foreignCount = 0;
+            int duplicateCount = 0;
+
+            for (SendProductCode eachScanData : scanDatas) {
+                String dropReason = dropReason(eachScanData, filteringCodes, readTags);
+
+                if (DROP_FOREIGN.equals(dropReason)) {
+                    foreignCount++;
+                } else if (DROP_DUPLICATE.equals(dropReason)) {
+                    duplicateCount++;
+                } else {
+                    filteredScanDatas.add(eachScanData);
+                }
+            }
+
+            scanPipelineMetrics.recordDropped(operation, supplierCode, foreignCount, duplicateCount);
+
+            if (foreignCount > 0 || duplicateCount > 0) {
+                log.info("{} 스캔 태그 사전 정리 - 공급사 : {}, 요청 태그 : {}, 외부 태그 : {}, 중복 태그 : {}, 처리 태그 : {}",
+                        operation, supplierCode, scanDatas.size(), foreignCount, duplicateCount, filteredScanDatas.size());
+            }
+
+            return filteredScanDatas;
+        }
+    }
+
+    // 요청 태그별 제거 사유 (제거되지 않는 태그는 null)
+    // filter (dropForeign 이 false 이면 deduplicate) 와 같은 기준으로 판단하지만 메트릭은 기록하지 않음 (티켓의 태그별 처리 결과 기록용)
+    public List<String> dropReasons(String supplierCode, List<SendProductCode> scanDatas, boolean dropForeign) {
+        List<String> dropReasons = new ArrayList<>();
+
+        if (scanDatas == null) {
+            return dropReasons;
+        }
+
+        List<String> filteringCodes = filteringCodes(supplierCode, dropForeign);
+        Set<String> readTags = new HashSet<>();
+
+        for (SendProductCode eachScanData : scanDatas) {
+            dropReasons.add(properties.isEnabled() ? dropReason(eachScanData, filteringCodes, readTags) : null);
+        }
+
+        return dropReasons;
+    }
+
+    // 외부 태그를 검사하지 않으면 빈 목록 (모든 태그를 자사 태그로 판단)
+    private List<String> filteringCodes(String supplierCode, boolean dropForeign) {
+        return dropForeign ? properties.filteringCodes(supplierCode) : Collections.emptyList();
+    }
+
+    private String dropReason(SendProductCode scanData, List<String> filteringCodes, Set<String> readTags) {
+        if (!isOwnTag(scanData.getFilteringCode(), filteringCodes)) {
+            return DROP_FOREIGN;
+        }
+
+        String tagKey = tagKey(scanData);
+
+        if (properties.isDeduplicate() && tagKey != null && !readTags.add(tagKey)) {
+            return DROP_DUPLICATE;
+        }
+
+        return null;
+    }
+
+    private boolean isOwnTag(String filteringCode, List<String> filteringCodes) {
+        if (filteringCodes.isEmpty()) {
+            return true;
+        }
+
+        if (filteringCode == null) {
+            return false;
+        }
+
+        for (String eachFilteringCode : filteringCodes) {
+            boolean matched = properties.getMatchMode() == ScanTagPrefilterProperties.MatchMode.PREFIX
+                    ? filteringCode.startsWith(eachFilteringCode)
+                    : filteringCode.contains(eachFilteringCode);
+
+            if (matched) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // 같은 태그 판단 기준 (고유 코드와 RFID 칩 코드가 모두 없으면 중복 제거 대상에서 제외)
+    private static String tagKey(SendProductCode scanData) {
+        if (scanData.getProductSerialCode() != null) {
+            return scanData.getProductCode() + ":" + scanData.getProductSerialCode();
+        }
+
+        if (scanData.getRfidChipCode() != null) {
+            return "rfid:" + scanData.getRfidChipCode();
+        }
+
+        return null;
+    }
+}
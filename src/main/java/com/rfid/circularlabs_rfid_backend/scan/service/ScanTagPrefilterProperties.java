@@ -0,0 +1,33 @@
+package com.rfid.circularlabs_rfid_backend.scan.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+public class ScanTagPrefilterProperties {
+    private boolean enabled = true; // 스캔 태그 사전 정리 사용 여부 (false 이면 요청 태그를 그대로 처리)
+    private boolean deduplicate = true; // 같은 요청 안에서 여러 번 읽힌 태그(같은 제품 분류 코드 + 고유 코드) 제거 여부
+    private MatchMode matchMode = MatchMode.CONTAINS; // 필터링 코드 비교 방식
+    private List<String> filteringCodes = new ArrayList<>(Collections.singletonList("CCA2310")); // 자사 태그로 인정할 필터링 코드 (비어 있으면 검사하지 않음)
+    private Map<String, List<String>> suppliers = new LinkedHashMap<>(); // 공급사 코드별 필터링 코드 (없는 공급사는 filteringCodes 사용)
+
+    public List<String> filteringCodes(String supplierCode) {
+        if (supplierCode == null) {
+            return filteringCodes;
+        }
+
+        return suppliers.getOrDefault(supplierCode, filteringCodes);
+    }
+
+    public enum MatchMode {
+        CONTAINS, // 태그의 필터링 코드에 포함되면 자사 태그 (기존 getFilteringCode().contains("CCA2310") 와 동일)
+        PREFIX // 태그의 필터링 코드가 이 값으로 시작하면 자사 태그
+    }
+}
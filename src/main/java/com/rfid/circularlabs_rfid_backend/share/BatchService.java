@@ -1,12 +1,14 @@
 package com.rfid.circularlabs_rfid_backend.share;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.configuration.ScanBatchFactory;
 import com.rfid.circularlabs_rfid_backend.device.domain.Device;
 import com.rfid.circularlabs_rfid_backend.member.domain.Member;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
 import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetailHistory;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailHistoryRepository;
 import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailRepository;
+import com.rfid.circularlabs_rfid_backend.product.repository.ProductDetailUpsertRepository;
 import com.rfid.circularlabs_rfid_backend.query2.productdetail.ProductDetailQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.query2.productdetailhistory.ProductDetailHistoryQueryDataV2;
 import com.rfid.circularlabs_rfid_backend.query2.scandata.ScanDataQueryDataV3;
@@ -17,17 +19,11 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
-import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
-import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
-import org.springframework.batch.core.job.builder.FlowBuilder;
-import org.springframework.batch.core.job.flow.Flow;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.EntityManager;
@@ -50,122 +46,71 @@ import static com.rfid.circularlabs_rfid_backend.product.domain.QProductDetail.p
 public class BatchService {
     private static final Logger log = LoggerFactory.getLogger(BatchService.class);
 
-    private final JobBuilderFactory jobBuilderFactory;
-    private final StepBuilderFactory stepBuilderFactory;
-    private final JobLauncher jobLauncher;
+    private final ScanBatchFactory scanBatchFactory;
     private final JPAQueryFactory jpaQueryFactory;
     private final ProductDetailRepository productDetailRepository;
+    private final ProductDetailUpsertRepository productDetailUpsertRepository;
+    private final ProductDetailQueryDataV2 productDetailQueryDataV2;
+    private final ScanPartitionManager scanPartitionManager;
+    private final ScanPipelineMetrics scanPipelineMetrics;
     private final EntityManager entityManager;
     private final SecureRandom secureRandom = new SecureRandom();
-    private List<ProductDetailscanResponseDto> totalResponseProductDetails = new ArrayList<>();
-    private List<Long> needUpdateProductDetailIds = new ArrayList<>();
 
     // [ProductDetail] 배치 실행 (출고 / 입고)
     public HashMap<String, Object> launchProductDetail(String status, List<SendProductCode> scanDatas, String supplierCode, String clientCode) throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         Map<String, JobParameter> parameters = new HashMap<>();
         parameters.put("random", new JobParameter(this.secureRandom.nextLong()));
 
-        this.totalResponseProductDetails = new ArrayList<>();
-        this.needUpdateProductDetailIds = new ArrayList<>();
+        // Job 실행마다 결과 수집 객체를 새로 생성하여 동시에 실행되는 다른 스캔 Job 과 결과가 섞이지 않도록 함
+        ScanJobResult jobResult = new ScanJobResult();
 
         HashMap<String, Object> responseProductDetailInfo = new HashMap<>();
 
         if (status.equals("출고")) {
-            //jobLauncher.run(parallelOutJob(scanDatas, supplierCode, clientCode), new JobParameters(parameters));
+            //scanBatchFactory.jobLauncher().run(parallelOutJob(scanDatas, supplierCode, clientCode), new JobParameters(parameters));
         } else if (status.equals("입고")) {
-            jobLauncher.run(parallelInJob(scanDatas, supplierCode, clientCode), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelInJob(scanDatas, supplierCode, clientCode, jobResult), new JobParameters(parameters));
         }
 
-        if(!this.needUpdateProductDetailIds.isEmpty()){
-            responseProductDetailInfo.put("updateProductDetailIds", this.needUpdateProductDetailIds);
-        }
-
-        responseProductDetailInfo.put("totalResponseProductDetails", this.totalResponseProductDetails);
+        responseProductDetailInfo.put("totalResponseProductDetails", jobResult.getResponseProductDetails());
 
         return responseProductDetailInfo;
     }
 
     // [ProductDetail] 입고 저장 Job
-    public Job parallelInJob(List<SendProductCode> scanInDatas, String supplierCode, String clientCode) {
-
-        if (scanInDatas.size() < 50) {
-            Flow flow1 = new FlowBuilder<Flow>("inFlow")
-                    .start(parallelInStep(scanInDatas, supplierCode, clientCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepInFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelInJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        } else if (scanInDatas.size() >= 50) {
-            int scanInDatas_separate_section = scanInDatas.size() / 5; // 100개로 가정 했을 때 20개
-            List<SendProductCode> inDatas1 = scanInDatas.subList(0, scanInDatas_separate_section);
-            List<SendProductCode> inDatas2 = scanInDatas.subList(scanInDatas_separate_section, scanInDatas_separate_section * 2);
-            List<SendProductCode> inDatas3 = scanInDatas.subList(scanInDatas_separate_section * 2, (scanInDatas_separate_section * 2) + scanInDatas_separate_section);
-            List<SendProductCode> inDatas4 = scanInDatas.subList((scanInDatas_separate_section * 2) + scanInDatas_separate_section, (scanInDatas_separate_section * 2) + (scanInDatas_separate_section * 2));
-            List<SendProductCode> inDatas5 = scanInDatas.subList((scanInDatas_separate_section * 2) + (scanInDatas_separate_section * 2), scanInDatas.size());
-
-            Flow flow1 = new FlowBuilder<Flow>("inFlow1")
-                    .start(parallelInStep(inDatas1, supplierCode, clientCode))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("inFlow2")
-                    .start(parallelInStep(inDatas2, supplierCode, clientCode))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("inFlow3")
-                    .start(parallelInStep(inDatas3, supplierCode, clientCode))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("inFlow4")
-                    .start(parallelInStep(inDatas4, supplierCode, clientCode))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("inFlow5")
-                    .start(parallelInStep(inDatas5, supplierCode, clientCode))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepInFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelInJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-        }
+    public Job parallelInJob(List<SendProductCode> scanInDatas, String supplierCode, String clientCode, ScanJobResult jobResult) {
 
-        return null;
+        return scanBatchFactory.jobBuilders().get("parallelInJob")
+                .start(scanPartitionManager.parallelFlow("입고", supplierCode, "parallelStepInFlow", "inFlow", scanInDatas,
+                        (inDatas, flowName) -> parallelInStep(inDatas, supplierCode, clientCode, jobResult)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetail] 입고 저장 Step
-    public Step parallelInStep(List<SendProductCode> scanInDatas, String supplierCode, String clientCode) {
-        return stepBuilderFactory.get("parallelInStep")
+    public Step parallelInStep(List<SendProductCode> scanInDatas, String supplierCode, String clientCode, ScanJobResult jobResult) {
+        return scanBatchFactory.stepBuilders().get("parallelInStep")
                 .tasklet((contribution, chunkContext) -> {
 
                     // 0 -- 초기 1 -- 업데이트 3 -- 재등록
                     LocalDateTime now = LocalDateTime.now();
 
-                    List<ProductDetail> needToSaveProductDetail = new ArrayList<>();
-                    List<Long> updateProductDetailIds = new ArrayList<>();
+                    // 새로 저장하거나 상태를 변경할 ProductDetail (upsert 대상)
+                    List<ProductDetail> upsertProductDetails = new ArrayList<>();
+
+                    // 태그 하나당 조회하지 않고 flow 에 속한 제품 고유 코드들을 묶음 단위로 한 번에 조회
+                    Map<String, ProductDetail> latestProductDetails;
+                    try (ScanPipelineMetrics.Stage lookupStage = scanPipelineMetrics.stage("partition-lookup", "입고", supplierCode)) {
+                        latestProductDetails = productDetailQueryDataV2.getLatestProductDetailsBySerialCodes(
+                                scanInDatas.stream()
+                                        .map(SendProductCode::getProductSerialCode)
+                                        .collect(Collectors.toList()));
+                    }
 
                     List<ProductDetailscanResponseDto> responseProductDetails = scanInDatas.stream()
                             .map(eachScanData -> {
-                                ProductDetail result = jpaQueryFactory
-                                        .select(productDetail)
-                                        .from(productDetail)
-                                        .where(productDetail.productSerialCode.eq(eachScanData.getProductSerialCode()))
-                                        .orderBy(productDetail.latestReadingAt.desc())
-                                        .limit(1)
-                                        .fetchOne();
+                                ProductDetail result = latestProductDetails.get(eachScanData.getProductSerialCode());
 
                                 if (result == null) {
 
@@ -180,7 +125,7 @@ public class BatchService {
                                             .latestReadingAt(LocalDateTime.now())
                                             .build();
 
-                                    needToSaveProductDetail.add(createProductDetail);
+                                    upsertProductDetails.add(createProductDetail);
 
                                     return ProductDetailscanResponseDto.builder()
                                             .rfidChipCode(eachScanData.getRfidChipCode())
@@ -211,7 +156,7 @@ public class BatchService {
 
                                     } else if (!result.getProductSerialCode().isEmpty()) {
 
-                                        updateProductDetailIds.add(result.getProductDetailId());
+                                        upsertProductDetails.add(scanState(result, "입고", now));
 
                                         return ProductDetailscanResponseDto.builder()
                                                 .rfidChipCode(result.getRfidChipCode())
@@ -232,15 +177,12 @@ public class BatchService {
                             .collect(Collectors.toList());
 
 
-                    if (!updateProductDetailIds.isEmpty()) {
-                        this.needUpdateProductDetailIds.addAll(updateProductDetailIds);
+                    // 신규 저장과 상태 변경을 제품 고유 코드 기준 upsert 로 한 번에 반영
+                    try (ScanPipelineMetrics.Stage upsertStage = scanPipelineMetrics.stage("partition-upsert", "입고", supplierCode)) {
+                        productDetailUpsertRepository.upsertScanStates(upsertProductDetails, ProductDetailUpsertRepository.Transition.IN);
                     }
 
-                    if (!needToSaveProductDetail.isEmpty()) {
-                        productDetailRepository.saveAll(needToSaveProductDetail);
-                    }
-
-                    this.totalResponseProductDetails.addAll(responseProductDetails);
+                    jobResult.addResponseProductDetails(responseProductDetails);
 
                     return RepeatStatus.FINISHED;
                 })
@@ -258,113 +200,59 @@ public class BatchService {
         Map<String, JobParameter> parameters = new HashMap<>();
         parameters.put("random", new JobParameter(this.secureRandom.nextLong()));
 
-        this.totalResponseProductDetails = new ArrayList<>();
-        this.needUpdateProductDetailIds = new ArrayList<>();
+        // Job 실행마다 결과 수집 객체를 새로 생성하여 동시에 실행되는 다른 스캔 Job 과 결과가 섞이지 않도록 함
+        ScanJobResult jobResult = new ScanJobResult();
 
         HashMap<String, Object> responseProductDetailInfo = new HashMap<>();
 
         if (status.equals("회수")) {
             log.info("배치 돌릴 스캔 데이터 수 : {}", scanDatas.size());
-            jobLauncher.run(parallelTurnBackJob(scanDatas, supplierCode), new JobParameters(parameters));
+            scanBatchFactory.jobLauncher().run(parallelTurnBackJob(scanDatas, supplierCode, jobResult), new JobParameters(parameters));
         } else if (status.equals("세척")) {
-            //jobLauncher.run(parallelCleanJob(), new JobParameters());
-        }
-
-        if(!this.needUpdateProductDetailIds.isEmpty()){
-            responseProductDetailInfo.put("updateProductDetailIds", this.needUpdateProductDetailIds);
+            //scanBatchFactory.jobLauncher().run(parallelCleanJob(), new JobParameters());
         }
 
-        responseProductDetailInfo.put("totalResponseProductDetails", this.totalResponseProductDetails);
+        responseProductDetailInfo.put("totalResponseProductDetails", jobResult.getResponseProductDetails());
 
         return responseProductDetailInfo;
     }
 
 
     // [ProductDetail] 회수 저장 Job
-    public Job parallelTurnBackJob(List<SendProductCode> scanTurnBackDatas, String supplierCode) {
-        if (scanTurnBackDatas.size() < 50) {
-            Flow flow1 = new FlowBuilder<Flow>("turnBackflow")
-                    .start(parallelTurnBackStep(scanTurnBackDatas, supplierCode, "turnBackflow"))
-                    .build();
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepTurnBackFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1)
-                    .build();
-
-            return jobBuilderFactory.get("parallelTurnBackJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        } else if (scanTurnBackDatas.size() >= 50) {
-            int scanTurnBackDatas_separate_section = scanTurnBackDatas.size() / 5; // 100개로 가정 했을 때 20개
-            List<SendProductCode> turnBackDatas1 = scanTurnBackDatas.subList(0, scanTurnBackDatas_separate_section);
-            List<SendProductCode> turnBackDatas2 = scanTurnBackDatas.subList(scanTurnBackDatas_separate_section, scanTurnBackDatas_separate_section * 2);
-            List<SendProductCode> turnBackDatas3 = scanTurnBackDatas.subList(scanTurnBackDatas_separate_section * 2, scanTurnBackDatas_separate_section * 3);
-            List<SendProductCode> turnBackDatas4 = scanTurnBackDatas.subList(scanTurnBackDatas_separate_section * 3, scanTurnBackDatas_separate_section * 4);
-            List<SendProductCode> turnBackDatas5 = scanTurnBackDatas.subList(scanTurnBackDatas_separate_section * 4, scanTurnBackDatas.size());
-
-
-            Flow flow1 = new FlowBuilder<Flow>("turnBackflow1")
-                    .start(parallelTurnBackStep(turnBackDatas1, supplierCode, "turnBackflow1"))
-                    .build();
-
-            Flow flow2 = new FlowBuilder<Flow>("turnBackflow2")
-                    .start(parallelTurnBackStep(turnBackDatas2, supplierCode, "turnBackflow2"))
-                    .build();
-
-            Flow flow3 = new FlowBuilder<Flow>("turnBackflow3")
-                    .start(parallelTurnBackStep(turnBackDatas3, supplierCode, "turnBackflow3"))
-                    .build();
-
-            Flow flow4 = new FlowBuilder<Flow>("turnBackflow4")
-                    .start(parallelTurnBackStep(turnBackDatas4, supplierCode, "turnBackflow4"))
-                    .build();
-
-            Flow flow5 = new FlowBuilder<Flow>("turnBackflow5")
-                    .start(parallelTurnBackStep(turnBackDatas5, supplierCode, "turnBackflow5"))
-                    .build();
-
-
-            Flow parallelStepFlow = new FlowBuilder<Flow>("parallelStepTurnBackFlow")
-                    .split(new SimpleAsyncTaskExecutor())
-                    .add(flow1, flow2, flow3, flow4, flow5)
-                    .build();
-
-            return jobBuilderFactory.get("parallelTurnBackJob")
-                    .start(parallelStepFlow)
-                    .build()
-                    .build();
-
-        }
-
-        return null;
+    public Job parallelTurnBackJob(List<SendProductCode> scanTurnBackDatas, String supplierCode, ScanJobResult jobResult) {
+        return scanBatchFactory.jobBuilders().get("parallelTurnBackJob")
+                .start(scanPartitionManager.parallelFlow("회수", supplierCode, "parallelStepTurnBackFlow", "turnBackflow", scanTurnBackDatas,
+                        (turnBackDatas, flowName) -> parallelTurnBackStep(turnBackDatas, supplierCode, flowName, jobResult)))
+                .build()
+                .build();
     }
 
 
     // [ProductDetail] 회수 저장 Step
-    public Step parallelTurnBackStep(List<SendProductCode> scanTurnBackDatas, String supplierCode, String workClassification) {
+    public Step parallelTurnBackStep(List<SendProductCode> scanTurnBackDatas, String supplierCode, String workClassification, ScanJobResult jobResult) {
 
-        return stepBuilderFactory.get(workClassification)
+        return scanBatchFactory.stepBuilders().get(workClassification)
                 .tasklet((contribution, chunkContext) -> {
 
                     // 0 -- 초기 1 -- 업데이트 3 -- 재등록
                     LocalDateTime now = LocalDateTime.now();
 
-                    List<ProductDetail> needToSaveProductDetail = new ArrayList<>();
-                    List<Long> updateProductDetailIds = new ArrayList<>();
+                    // 새로 저장하거나 상태를 변경할 ProductDetail (upsert 대상)
+                    List<ProductDetail> upsertProductDetails = new ArrayList<>();
+
+                    // 태그 하나당 조회하지 않고 flow 에 속한 제품 고유 코드들을 묶음 단위로 한 번에 조회
+                    Map<String, ProductDetail> latestProductDetails;
+                    try (ScanPipelineMetrics.Stage lookupStage = scanPipelineMetrics.stage("partition-lookup", "회수", supplierCode)) {
+                        latestProductDetails = productDetailQueryDataV2.getLatestProductDetailsBySerialCodes(
+                                scanTurnBackDatas.stream()
+                                        .map(SendProductCode::getProductSerialCode)
+                                        .collect(Collectors.toList()));
+                    }
 
                     List<ProductDetailscanResponseDto> responseProductDetails = scanTurnBackDatas.stream()
                             .map(eachScanData -> {
 
-                                ProductDetail result = jpaQueryFactory
-                                        .select(productDetail)
-                                        .from(productDetail)
-                                        .where(productDetail.productSerialCode.eq(eachScanData.getProductSerialCode()))
-                                        .orderBy(productDetail.latestReadingAt.desc())
-                                        .limit(1)
-                                        .fetchOne();
+                                ProductDetail result = latestProductDetails.get(eachScanData.getProductSerialCode());
 
                                 if (result == null) {
 
@@ -379,7 +267,7 @@ public class BatchService {
                                             .latestReadingAt(LocalDateTime.now())
                                             .build();
 
-                                    needToSaveProductDetail.add(createProductDetail);
+                                    upsertProductDetails.add(createProductDetail);
 
                                     return ProductDetailscanResponseDto.builder()
                                             .rfidChipCode(eachScanData.getRfidChipCode())
@@ -410,7 +298,7 @@ public class BatchService {
 
                                     } else {
 
-                                        updateProductDetailIds.add(result.getProductDetailId());
+                                        upsertProductDetails.add(scanState(result, "회수", now));
 
                                         return ProductDetailscanResponseDto.builder()
                                                 .rfidChipCode(result.getRfidChipCode())
@@ -431,20 +319,32 @@ public class BatchService {
                             .collect(Collectors.toList());
 
 
-                    if (!updateProductDetailIds.isEmpty()) {
-                        this.needUpdateProductDetailIds.addAll(updateProductDetailIds);
-                    }
-
-
-                    if (!needToSaveProductDetail.isEmpty()) {
-                        productDetailRepository.saveAll(needToSaveProductDetail);
+                    // 신규 저장과 상태 변경(사이클 증가 포함)을 제품 고유 코드 기준 upsert 로 한 번에 반영
+                    try (ScanPipelineMetrics.Stage upsertStage = scanPipelineMetrics.stage("partition-upsert", "회수", supplierCode)) {
+                        productDetailUpsertRepository.upsertScanStates(upsertProductDetails, ProductDetailUpsertRepository.Transition.TURN_BACK);
                     }
 
-                    this.totalResponseProductDetails.addAll(responseProductDetails);
+                    jobResult.addResponseProductDetails(responseProductDetails);
 
                     return RepeatStatus.FINISHED;
                 })
                 .build();
     }
 
+
+
+    // 이미 존재하는 ProductDetail 의 변경될 상태 (upsert 도중 row 가 사라졌다면 이 값 그대로 insert)
+    private static ProductDetail scanState(ProductDetail existProductDetail, String status, LocalDateTime readingAt) {
+        return ProductDetail.builder()
+                .rfidChipCode(existProductDetail.getRfidChipCode())
+                .productSerialCode(existProductDetail.getProductSerialCode())
+                .productCode(existProductDetail.getProductCode())
+                .supplierCode(existProductDetail.getSupplierCode())
+                .clientCode(existProductDetail.getClientCode())
+                .status(status)
+                .cycle(existProductDetail.getCycle())
+                .latestReadingAt(readingAt)
+                .build();
+    }
+
 }
@@ -0,0 +1,30 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class EntityListenerSupport {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [JPA 엔티티 리스너 공용 처리]
+    // 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로, EntityManager 를 거치는 빈은 ObjectProvider 로 받아 사용할 때 조회 (생성자 주입 시 순환 참조)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private EntityListenerSupport() {
+    }
+
+    // 트랜잭션 안이면 커밋 이후에, 트랜잭션 밖이면 바로 실행 (롤백된 변경으로 캐시 / 색인이 바뀌지 않도록)
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ScanDataPartitioner implements Partitioner {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 데이터 파티셔너]
+    // 스캔 데이터 목록을 gridSize 개의 연속 구간(fromIndex ~ toIndex)으로 나누기 위한 용도
+    // 구간 길이는 데이터 수 / gridSize 의 올림이며, 비어 있는 구간은 만들지 않음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String FROM_INDEX = "fromIndex";
+    public static final String TO_INDEX = "toIndex";
+
+    private final int itemCount;
+
+    public ScanDataPartitioner(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        // 스캔 데이터가 없어도 기존과 동일하게 빈 구간 하나로 Job 을 실행
+        if (itemCount == 0) {
+            partitions.put("partition0", partitionContext(0, 0));
+            return partitions;
+        }
+
+        int partitionSize = (itemCount + Math.max(1, gridSize) - 1) / Math.max(1, gridSize);
+        int partitionNumber = 0;
+
+        for (int fromIndex = 0; fromIndex < itemCount; fromIndex += partitionSize) {
+            partitions.put("partition" + partitionNumber++, partitionContext(fromIndex, Math.min(fromIndex + partitionSize, itemCount)));
+        }
+
+        return partitions;
+    }
+
+    private static ExecutionContext partitionContext(int fromIndex, int toIndex) {
+        ExecutionContext context = new ExecutionContext();
+        context.putInt(FROM_INDEX, fromIndex);
+        context.putInt(TO_INDEX, toIndex);
+        return context;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import com.rfid.circularlabs_rfid_backend.product.domain.ProductDetail;
+import com.rfid.circularlabs_rfid_backend.scan.response.ProductDetailscanResponseDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ScanJobResult {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 배치 Job 결과]
+    // Job 실행 한 번마다 새로 생성하여 각 Step 에 넘겨주는 결과 수집 객체
+    // 배치 서비스(싱글톤)의 인스턴스 필드에 결과를 모으지 않으므로 여러 스캔 Job 이 동시에 실행되어도 서로 섞이지 않으며,
+    // 병렬 flow 들이 동시에 결과를 합치므로 내부 리스트는 동기화 리스트를 사용
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final List<ProductDetailscanResponseDto> responseProductDetails = Collections.synchronizedList(new ArrayList<>());
+    private final List<ProductDetail> scanProductDetails = Collections.synchronizedList(new ArrayList<>());
+
+    public void addResponseProductDetails(List<ProductDetailscanResponseDto> stepResponseProductDetails) {
+        responseProductDetails.addAll(stepResponseProductDetails);
+    }
+
+    public void addScanProductDetails(List<ProductDetail> stepScanProductDetails) {
+        scanProductDetails.addAll(stepScanProductDetails);
+    }
+
+    // Job 이 끝난 뒤 조회하는 결과들은 복사본으로 반환
+    public List<ProductDetailscanResponseDto> getResponseProductDetails() {
+        synchronized (responseProductDetails) {
+            return new ArrayList<>(responseProductDetails);
+        }
+    }
+
+    public List<ProductDetail> getScanProductDetails() {
+        synchronized (scanProductDetails) {
+            return new ArrayList<>(scanProductDetails);
+        }
+    }
+}
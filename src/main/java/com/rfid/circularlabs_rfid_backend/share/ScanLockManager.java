@@ -0,0 +1,114 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class ScanLockManager {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 작업 잠금 관리]
+    // 스캔 api 전체를 synchronized 로 직렬화하지 않고 같은 재고 수량(공급사 / 제품)을 건드리는 스캔끼리만 직렬화하기 위한 용도
+    // 키(공급사 코드 또는 공급사:제품 코드)를 고정 개수의 잠금(stripe)에 해시로 분배하며,
+    // 여러 stripe 을 잡아야 하는 경우 항상 인덱스 오름차순으로 잠가 교착 상태를 방지
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ReentrantLock[] stripes;
+    private final boolean productGranularity;
+    private final MeterRegistry meterRegistry;
+
+    public ScanLockManager(
+            MeterRegistry meterRegistry,
+            @Value("${rfid.scan.lock.stripes:64}") int stripeCount,
+            @Value("${rfid.scan.lock.granularity:supplier}") String granularity) {
+        this.meterRegistry = meterRegistry;
+        this.productGranularity = granularity.equalsIgnoreCase("product");
+        this.stripes = new ReentrantLock[Math.max(1, stripeCount)];
+
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock(true);
+        }
+    }
+
+    // 공급사 단위 잠금
+    public ScanLock lock(String operation, String supplierCode) {
+        return acquire(operation, supplierCode, Collections.singletonList(supplierCode));
+    }
+
+    // 공급사 단위 잠금 (granularity=product 설정 시 스캔에 포함된 공급사:제품 코드 단위로 잠금)
+    public ScanLock lock(String operation, String supplierCode, Collection<String> productCodes) {
+        if (!productGranularity || productCodes == null || productCodes.isEmpty()) {
+            return lock(operation, supplierCode);
+        }
+
+        List<String> keys = new ArrayList<>();
+        productCodes.forEach(eachProductCode -> keys.add(supplierCode + ":" + eachProductCode));
+
+        return acquire(operation, supplierCode, keys);
+    }
+
+    private ScanLock acquire(String operation, String supplierCode, Collection<String> keys) {
+
+        // 중복 stripe 은 한 번만, 항상 오름차순으로 잠금
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        keys.forEach(eachKey -> stripeIndexes.add(stripeIndex(eachKey)));
+
+        List<ReentrantLock> acquiredLocks = new ArrayList<>();
+        long waitStart = System.nanoTime();
+
+        try {
+            for (Integer eachStripeIndex : stripeIndexes) {
+                ReentrantLock stripe = stripes[eachStripeIndex];
+                stripe.lockInterruptibly();
+                acquiredLocks.add(stripe);
+            }
+        } catch (InterruptedException e) {
+            releaseAll(acquiredLocks);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스캔 작업 잠금 대기 중 인터럽트 발생 - 공급사 : " + supplierCode, e);
+        }
+
+        long waitNanos = System.nanoTime() - waitStart;
+
+        Timer.builder("rfid.scan.lock.wait")
+                .description("공급사 단위 스캔 작업 잠금 대기 시간")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (TimeUnit.NANOSECONDS.toMillis(waitNanos) > 1000) {
+            log.info("스캔 작업 잠금 대기 시간 : {}ms - 작업 : {}, 공급사 : {}", TimeUnit.NANOSECONDS.toMillis(waitNanos), operation, supplierCode);
+        }
+
+        return () -> releaseAll(acquiredLocks);
+    }
+
+    private int stripeIndex(String key) {
+        return Math.floorMod(key.hashCode(), stripes.length);
+    }
+
+    private static void releaseAll(List<ReentrantLock> acquiredLocks) {
+        for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
+            acquiredLocks.get(i).unlock();
+        }
+    }
+
+    // try-with-resources 로 잠금을 해제하기 위한 핸들
+    @FunctionalInterface
+    public interface ScanLock extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
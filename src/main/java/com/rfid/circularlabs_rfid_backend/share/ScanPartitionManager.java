@@ -0,0 +1,122 @@
+package com.rfid.circularlabs_rfid_backend.share;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Component
+public class ScanPartitionManager {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [스캔 배치 파티션 관리]
+    // 스캔 데이터 수, 사용 가능한 CPU 코어 수, DB 커넥션 풀 여유분을 기준으로 파티션 수(gridSize)를 정하고
+    // ScanDataPartitioner 가 나눈 구간마다 flow 를 만들어 병렬로 실행하는 split flow 를 구성하기 위한 용도
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final DataSource dataSource;
+    private final TaskExecutor batchTaskExecutor;
+    private final ScanPipelineMetrics scanPipelineMetrics;
+    private final int minPartitionSize;
+    private final int maxPartitionCount;
+    private final int reservedConnections;
+
+    public ScanPartitionManager(
+            DataSource dataSource,
+            @Qualifier("batchTaskExecutor") TaskExecutor batchTaskExecutor,
+            ScanPipelineMetrics scanPipelineMetrics,
+            @Value("${rfid.batch.partition.min-size:50}") int minPartitionSize,
+            @Value("${rfid.batch.partition.max-count:0}") int maxPartitionCount,
+            @Value("${rfid.batch.partition.reserved-connections:2}") int reservedConnections) {
+        this.dataSource = dataSource;
+        this.batchTaskExecutor = batchTaskExecutor;
+        this.scanPipelineMetrics = scanPipelineMetrics;
+        this.minPartitionSize = Math.max(1, minPartitionSize);
+        this.maxPartitionCount = maxPartitionCount;
+        this.reservedConnections = Math.max(0, reservedConnections);
+    }
+
+    // 스캔 데이터 수에 맞는 파티션 수
+    // 1. 파티션 하나는 최소 min-size 개 이상의 데이터를 처리 (적은 데이터를 여러 스레드로 쪼개지 않음)
+    // 2. 파티션 수는 max-count (미설정 시 CPU 코어 수) 를 넘지 않음
+    // 3. 파티션 수는 커넥션 풀의 여유 커넥션 수 - reserved-connections 를 넘지 않음
+    public int gridSize(int itemCount) {
+        if (itemCount <= minPartitionSize) {
+            return 1;
+        }
+
+        int byPayload = (itemCount + minPartitionSize - 1) / minPartitionSize;
+        int byCores = maxPartitionCount > 0 ? maxPartitionCount : Runtime.getRuntime().availableProcessors();
+        int byConnections = connectionHeadroom();
+
+        return Math.max(1, Math.min(byPayload, Math.min(byCores, byConnections)));
+    }
+
+    // 스캔 데이터를 파티션으로 나누고 각 파티션을 처리하는 Step 으로 flow 를 만들어 병렬 실행하는 flow 구성
+    // stepFactory 에는 (파티션 데이터, flow 이름) 이 전달되며, 구성된 파티션 수는 작업(operation) / 공급사 별 rfid.scan.partitions 지표로 기록
+    public <T> Flow parallelFlow(String operation, String supplierCode, String parallelFlowName, String flowNamePrefix,
+                                 List<T> items, BiFunction<List<T>, String, Step> stepFactory) {
+        int gridSize = gridSize(items.size());
+        Map<String, ExecutionContext> partitions = new ScanDataPartitioner(items.size()).partition(gridSize);
+
+        List<Flow> flows = new ArrayList<>();
+        int flowNumber = 1;
+
+        for (ExecutionContext eachPartition : partitions.values()) {
+            List<T> partitionItems = items.subList(
+                    eachPartition.getInt(ScanDataPartitioner.FROM_INDEX),
+                    eachPartition.getInt(ScanDataPartitioner.TO_INDEX));
+
+            String flowName = flowNamePrefix + flowNumber++;
+
+            flows.add(new FlowBuilder<Flow>(flowName)
+                    .start(stepFactory.apply(partitionItems, flowName))
+                    .build());
+        }
+
+        log.info("배치 파티션 구성 - 데이터 수 : {}, 파티션 수 : {}", items.size(), flows.size());
+        scanPipelineMetrics.recordPartitions(operation, supplierCode, flows.size());
+
+        return new FlowBuilder<Flow>(parallelFlowName)
+                .split(batchTaskExecutor)
+                .add(flows.toArray(new Flow[0]))
+                .build();
+    }
+
+    // 배치 split flow 를 실행하는 공용 스레드 풀 (AsyncConfig.batchTaskExecutor)
+    public TaskExecutor getBatchTaskExecutor() {
+        return batchTaskExecutor;
+    }
+
+    // 커넥션 풀에서 추가로 사용할 수 있는 커넥션 수 (Hikari 가 아니면 제한 없음)
+    private int connectionHeadroom() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+                HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+                int activeConnections = pool == null ? 0 : pool.getActiveConnections();
+
+                return hikariDataSource.getMaximumPoolSize() - activeConnections - reservedConnections;
+            }
+        } catch (SQLException e) {
+            log.info("커넥션 풀 정보 조회 실패 : {}", e.getMessage());
+        }
+
+        return Integer.MAX_VALUE;
+    }
+}
@@ -9,11 +9,20 @@ public enum StatusCode {
 
     // success response
     OK("정상 수행", "C-200"),
+    ACCEPTED("스캔 데이터가 접수되었습니다. 티켓 번호로 처리 상태를 조회할 수 있습니다.", "C-202"),
 
     // bad response
     NOT_EXIST_SCAN_OUT_DATA("출고 데이터가 존재하지 않습니다.", "C-401"),
     NOT_MATCH_SCAN_ORDER("요청한 주문 수량과 스캔 수량이 일치하지 않아 요청 주문 완료 처리를 진행할 수 없습니다.", "C-402"),
-    NOT_RIGHT_REGISTER_INFO("입력한 회원가입 정보가 옳바르지 않습니다.", "C-499");
+    NOT_RIGHT_SCAN_DATA("스캔 데이터 형식이 옳바르지 않습니다.", "C-403"),
+    NOT_EXIST_SCAN_TICKET("존재하지 않는 스캔 티켓입니다.", "C-404"),
+    TOO_MANY_STREAM_TAGS("한 요청에서 처리할 수 있는 태그 수를 넘었습니다. 요청을 나누어 전송해주세요.", "C-413"),
+    DUPLICATE_SCAN_IN_PROGRESS("같은 스캔 데이터의 이전 전송이 아직 처리 중입니다. 잠시 후 다시 전송해주세요.", "C-409"),
+    NOT_MATCH_IDEMPOTENCY_KEY("같은 Idempotency-Key 로 다른 스캔 데이터가 전송되었습니다.", "C-422"),
+    NOT_RIGHT_REGISTER_INFO("입력한 회원가입 정보가 옳바르지 않습니다.", "C-499"),
+
+    // error response
+    STREAM_CHUNK_FAILED("스캔 데이터 처리 중 오류가 발생하여 앞선 청크까지만 반영되었습니다.", "C-500");
 
     private final String message;
     private final String code;
@@ -0,0 +1,48 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RequiredArgsConstructor
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [HTTP 요청 당 SQL 실행 수 집계]
+    // 요청 처리 동안 SqlStatementScope 를 열어 두고, 끝나면 요청 경로 패턴(/rfid/in 등) 기준으로 지표 기록 / 한도 검사
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+    private final SqlBudgetMonitor sqlBudgetMonitor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!sqlBudgetProperties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlStatementScope scope = SqlStatementScope.open(request.getMethod() + " " + request.getRequestURI(), sqlBudgetProperties.isCountRows());
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementScope.close(scope);
+
+            // 경로 변수가 있는 요청도 하나의 지표로 모이도록 매핑된 경로 패턴 사용
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = pattern == null ? "UNMAPPED" : pattern.toString();
+
+            sqlBudgetMonitor.record(SqlBudgetMonitor.SCOPE_HTTP, endpoint, scope, sqlBudgetProperties.requestBudget(endpoint));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@RequiredArgsConstructor
+@RestControllerAdvice
+public class SqlBudgetHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [SQL 실행 수 디버그 헤더]
+    // rfid.sql-budget.debug-header=true 이면 응답 본문을 쓰기 직전까지 실행된 SQL 문 수 / 조회 row 수를 응답 헤더로 전달
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlBudgetProperties.isEnabled() && sqlBudgetProperties.isDebugHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementScope scope = SqlStatementScope.current();
+
+        if (scope != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(scope.getStatementCount()));
+
+            if (scope.isCountRows()) {
+                response.getHeaders().set(ROWS_HEADER, String.valueOf(scope.getRowCount()));
+            }
+        }
+
+        return body;
+    }
+}
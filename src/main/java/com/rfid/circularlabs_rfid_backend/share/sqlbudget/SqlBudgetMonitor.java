@@ -0,0 +1,58 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class SqlBudgetMonitor {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [SQL 실행 수 지표 / 한도 초과 경고]
+    // rfid.sql.statements / rfid.sql.rows (scope=http|step, name=요청 경로 패턴 또는 Step 이름) 분포 지표로 기록하고
+    // 한도를 넘으면 경고 로그와 rfid.sql.budget.exceeded 지표를 남김 (N+1 처럼 데이터 수에 비례해 쿼리가 늘어나는 경로를 찾기 위한 용도)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final String SCOPE_HTTP = "http";
+    public static final String SCOPE_STEP = "step";
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String scopeType, String name, SqlStatementScope scope, int budget) {
+        long statementCount = scope.getStatementCount();
+
+        DistributionSummary.builder("rfid.sql.statements")
+                .description("요청 / 배치 Step 당 실행된 SQL 문 수")
+                .tag("scope", scopeType)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(statementCount);
+
+        if (scope.isCountRows()) {
+            DistributionSummary.builder("rfid.sql.rows")
+                    .description("요청 / 배치 Step 당 조회된 row 수")
+                    .tag("scope", scopeType)
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .record(scope.getRowCount());
+        }
+
+        if (budget > 0 && statementCount > budget) {
+            Counter.builder("rfid.sql.budget.exceeded")
+                    .description("SQL 실행 수 한도를 넘은 요청 / 배치 Step 수")
+                    .tag("scope", scopeType)
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .increment();
+
+            log.warn("SQL 실행 수 한도 초과 - {} : {}, 실행 수 : {}, 한도 : {}", scopeType, name, statementCount, budget);
+        }
+    }
+}
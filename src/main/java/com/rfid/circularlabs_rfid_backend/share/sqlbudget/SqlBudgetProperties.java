@@ -0,0 +1,27 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+public class SqlBudgetProperties {
+    private boolean enabled = true; // 요청 / 배치 Step 별 SQL 실행 수 집계 여부
+    private boolean countRows = false; // 조회 row 수 집계 여부
+    private boolean debugHeader = false; // 응답 헤더(X-Sql-Statements / X-Sql-Rows)로 집계 값 전달 여부
+    private int defaultRequestBudget = 0; // 요청 당 SQL 실행 수 기본 한도 (0 이면 검사하지 않음)
+    private int defaultStepBudget = 0; // 배치 Step 당 SQL 실행 수 기본 한도 (0 이면 검사하지 않음)
+    private Map<String, Integer> endpoints = new LinkedHashMap<>(); // 요청 경로 패턴별 한도 (예 : /rfid/in)
+    private Map<String, Integer> steps = new LinkedHashMap<>(); // Step 이름별 한도
+
+    public int requestBudget(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultRequestBudget);
+    }
+
+    public int stepBudget(String stepName) {
+        return steps.getOrDefault(stepName, defaultStepBudget);
+    }
+}
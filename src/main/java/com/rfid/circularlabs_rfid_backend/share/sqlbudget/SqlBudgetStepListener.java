@@ -0,0 +1,43 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class SqlBudgetStepListener implements StepExecutionListener {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [배치 Step 당 SQL 실행 수 집계]
+    // Step 을 실행하는 스레드에서 SqlStatementScope 를 열고 닫음
+    // 요청 스레드의 범위가 배치 스레드로 전달되어 있으면 Step 의 실행 수는 요청의 실행 수에도 함께 집계됨
+    // (ScanBatchFactory 의 StepBuilderFactory 가 모든 스캔 배치 Step 에 등록)
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+    private final SqlBudgetMonitor sqlBudgetMonitor;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        if (sqlBudgetProperties.isEnabled()) {
+            SqlStatementScope.open(stepExecution.getStepName(), sqlBudgetProperties.isCountRows());
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        SqlStatementScope scope = SqlStatementScope.current();
+
+        if (sqlBudgetProperties.isEnabled() && scope != null && scope.getName().equals(stepExecution.getStepName())) {
+            SqlStatementScope.close(scope);
+
+            String stepName = stepExecution.getStepName();
+            sqlBudgetMonitor.record(SqlBudgetMonitor.SCOPE_STEP, stepName, scope, sqlBudgetProperties.stepBudget(stepName));
+        }
+
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,139 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [SQL 실행 수 집계 DataSource]
+    // 커넥션 / Statement 를 감싸 execute* / executeBatch 호출 한 번을 SQL 문 1 회로 (배치는 DB 왕복 1 회로) 현재 SqlStatementScope 에 집계
+    // 범위에서 row 집계를 켜면 ResultSet.next() 가 true 인 횟수를 조회 row 수로 집계
+    // JPA / QueryDSL / JdbcTemplate / Spring Batch 가 모두 같은 DataSource 를 사용하므로 실행 경로와 관계없이 집계됨
+    // 현재 스레드에 범위가 없으면 아무것도 하지 않음
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    // 종료 시 감싼 커넥션 풀(HikariDataSource)도 함께 종료
+    public void close() throws Exception {
+        DataSource targetDataSource = getTargetDataSource();
+
+        if (targetDataSource instanceof AutoCloseable) {
+            ((AutoCloseable) targetDataSource).close();
+        }
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlCountingDataSource.invoke(connection, method, args);
+
+            if (result instanceof Statement) {
+                Class<?> statementType = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+
+                return Proxy.newProxyInstance(
+                        SqlCountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{statementType},
+                        new StatementHandler((Statement) result));
+            }
+
+            return result;
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+
+        private StatementHandler(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SqlStatementScope scope = SqlStatementScope.current();
+
+            if (scope != null && method.getName().startsWith("execute")) {
+                scope.recordStatement();
+            }
+
+            Object result = SqlCountingDataSource.invoke(statement, method, args);
+
+            if (scope != null && scope.isCountRows() && result instanceof ResultSet) {
+                return Proxy.newProxyInstance(
+                        SqlCountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class},
+                        new ResultSetHandler((ResultSet) result, scope));
+            }
+
+            return result;
+        }
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final SqlStatementScope scope;
+
+        private ResultSetHandler(ResultSet resultSet, SqlStatementScope scope) {
+            this.resultSet = resultSet;
+            this.scope = scope;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlCountingDataSource.invoke(resultSet, method, args);
+
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                scope.recordRow();
+            }
+
+            return result;
+        }
+    }
+}
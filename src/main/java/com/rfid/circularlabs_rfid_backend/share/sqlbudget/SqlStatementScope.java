@@ -0,0 +1,104 @@
+package com.rfid.circularlabs_rfid_backend.share.sqlbudget;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class SqlStatementScope {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [SQL 실행 수 집계 범위]
+    // HTTP 요청 / 배치 Step 단위로 실행된 SQL 문 수와 (선택) 조회 row 수를 집계
+    // 현재 스레드의 범위는 ThreadLocal 로 보관하며, 범위 안에서 다시 범위를 열면 바깥 범위에도 함께 집계됨
+    // (요청 -> 배치 Step, 요청 -> 비동기 작업) 스레드 풀로 넘어가는 작업은 propagate(TaskDecorator)로 범위를 전달
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final boolean countRows;
+    private final SqlStatementScope parent;
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+
+    private SqlStatementScope(String name, boolean countRows, SqlStatementScope parent) {
+        this.name = name;
+        this.countRows = countRows;
+        this.parent = parent;
+    }
+
+    // 현재 스레드에서 새 범위 시작 (기존 범위가 있으면 그 하위 범위)
+    public static SqlStatementScope open(String name, boolean countRows) {
+        SqlStatementScope scope = new SqlStatementScope(name, countRows, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // 범위 종료 후 바깥 범위로 복원
+    public static void close(SqlStatementScope scope) {
+        if (scope.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope.parent);
+        }
+    }
+
+    // 현재 스레드의 범위 (없으면 null)
+    public static SqlStatementScope current() {
+        return CURRENT.get();
+    }
+
+    // 작업을 제출한 스레드의 범위를 작업을 실행하는 스레드로 전달
+    public static TaskDecorator propagate() {
+        return runnable -> {
+            SqlStatementScope submitterScope = CURRENT.get();
+
+            if (submitterScope == null) {
+                return runnable;
+            }
+
+            return () -> {
+                SqlStatementScope previousScope = CURRENT.get();
+                CURRENT.set(submitterScope);
+
+                try {
+                    runnable.run();
+                } finally {
+                    if (previousScope == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(previousScope);
+                    }
+                }
+            };
+        };
+    }
+
+    void recordStatement() {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            scope.statementCount.increment();
+        }
+    }
+
+    void recordRow() {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            scope.rowCount.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCountRows() {
+        return countRows;
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+}
@@ -0,0 +1,19 @@
+-- ProductDetail / ProductDetailHistory / RfidScanHistory 식별자 발급 테이블 초기화
+-- 기존 IDENTITY(AUTO_INCREMENT) 로 발급된 최대 식별자 + 할당 크기(100) 이후부터 발급되도록 맞추며,
+-- 이미 더 큰 값으로 발급 중이면 그대로 두므로 이미 적용된 DB 에서 다시 실행되어도 안전함
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'product_detail', COALESCE(MAX(product_detail_id), 0) + 101 FROM product_detail
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(id_generator.next_val, 0), VALUES(next_val));
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'product_detail_history', COALESCE(MAX(product_detail_history_id), 0) + 101 FROM product_detail_history
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(id_generator.next_val, 0), VALUES(next_val));
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'rfid_scan_history', COALESCE(MAX(rfid_scanhistory_id), 0) + 101 FROM rfid_scan_history
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(id_generator.next_val, 0), VALUES(next_val));
@@ -0,0 +1,55 @@
+-- ProductDetail 제품 고유 코드(product_serial_code) 유니크 키 적용
+-- 기존에 같은 제품 고유 코드로 여러 row 가 쌓여 있으면 가장 최근에 리딩된 row 하나만 남기고 정리한 뒤 유니크 키를 추가
+-- (조회 로직은 항상 가장 최근에 리딩된 row 를 사용하고 있었으므로 남는 데이터는 동일), 이미 적용되어 있으면 아무것도 하지 않음
+-- 정리되는 row 는 삭제 전에 product_detail_serial_duplicate_backup 테이블로 옮겨 보관
+
+-- 고유 코드별 최신 row 를 찾는 GROUP BY / JOIN 이 전체 테이블을 반복해서 읽지 않도록 정리하는 동안만 사용하는 임시 인덱스
+CREATE INDEX tmp_product_detail_serial_dedupe ON product_detail (product_serial_code, latest_reading_at);
+
+-- 중복된 고유 코드별로 남길 row (가장 최근 리딩 시간, 같으면 가장 큰 식별자)
+CREATE TEMPORARY TABLE product_detail_serial_keep (
+    product_serial_code VARCHAR(255) NOT NULL PRIMARY KEY,
+    product_detail_id BIGINT NOT NULL
+);
+
+INSERT INTO product_detail_serial_keep (product_serial_code, product_detail_id)
+SELECT pd.product_serial_code, MAX(pd.product_detail_id)
+FROM product_detail pd
+    JOIN (SELECT product_serial_code, MAX(latest_reading_at) AS latest_reading_at
+          FROM product_detail
+          GROUP BY product_serial_code
+          HAVING COUNT(*) > 1) latest
+        ON latest.product_serial_code = pd.product_serial_code
+       AND latest.latest_reading_at <=> pd.latest_reading_at
+GROUP BY pd.product_serial_code;
+
+CREATE TABLE IF NOT EXISTS product_detail_serial_duplicate_backup LIKE product_detail;
+
+INSERT INTO product_detail_serial_duplicate_backup
+SELECT pd.* FROM product_detail pd
+    JOIN product_detail_serial_keep keep
+        ON keep.product_serial_code = pd.product_serial_code
+       AND keep.product_detail_id <> pd.product_detail_id;
+
+DELETE pd FROM product_detail pd
+    JOIN product_detail_serial_keep keep
+        ON keep.product_serial_code = pd.product_serial_code
+       AND keep.product_detail_id <> pd.product_detail_id;
+
+DROP TEMPORARY TABLE product_detail_serial_keep;
+
+SET @uk_product_detail_serial_exists = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product_detail' AND index_name = 'uk_product_detail_serial'
+);
+
+SET @uk_product_detail_serial_ddl = IF(@uk_product_detail_serial_exists = 0,
+    'ALTER TABLE product_detail ADD CONSTRAINT uk_product_detail_serial UNIQUE (product_serial_code)',
+    'SELECT 1');
+
+PREPARE uk_product_detail_serial_stmt FROM @uk_product_detail_serial_ddl;
+EXECUTE uk_product_detail_serial_stmt;
+DEALLOCATE PREPARE uk_product_detail_serial_stmt;
+
+-- 유니크 키가 고유 코드 조회를 대신하므로 임시 인덱스 제거
+DROP INDEX tmp_product_detail_serial_dedupe ON product_detail;
@@ -0,0 +1,50 @@
+-- 공급사 / 제품별 재고 원장 (InventoryLedgerRepository)
+CREATE TABLE IF NOT EXISTS inventory_ledger (
+    supplier_code VARCHAR(255) NOT NULL,
+    product_code VARCHAR(255) NOT NULL,
+    total_quantity INT NOT NULL DEFAULT 0,
+    no_return_quantity INT NOT NULL DEFAULT 0,
+    discard_quantity INT NOT NULL DEFAULT 0,
+    modified_at DATETIME(6),
+    PRIMARY KEY (supplier_code, product_code)
+);
+
+-- 기존 데이터 적재 : 원장 row 가 없는 공급사 / 제품만 주문 수량 합과 가장 최근 스캔 이력의 미회수 수량으로 채움
+-- (이미 있는 row 는 건드리지 않으므로 이미 적용된 DB 에서 다시 실행되어도 안전함)
+INSERT IGNORE INTO inventory_ledger (supplier_code, product_code, total_quantity, no_return_quantity, discard_quantity, modified_at)
+SELECT keys_.supplier_code,
+       keys_.product_code,
+       COALESCE((SELECT SUM(so.order_mount) FROM supplier_order so
+                 WHERE so.classification_code = keys_.supplier_code AND so.product_code = keys_.product_code), 0),
+       COALESCE((SELECT rsh.no_return_quantity FROM rfid_scan_history rsh
+                 WHERE rsh.supplier_code = keys_.supplier_code AND rsh.product_code = keys_.product_code
+                 ORDER BY rsh.created_at DESC LIMIT 1), 0),
+       COALESCE((SELECT COUNT(*) FROM discard_history dh
+                 WHERE dh.supplier_code = keys_.supplier_code AND dh.product_code = keys_.product_code), 0),
+       NOW()
+FROM (SELECT classification_code AS supplier_code, product_code FROM supplier_order
+      UNION
+      SELECT supplier_code, product_code FROM rfid_scan_history) keys_;
+
+-- 공급사 주문 변경은 다른 시스템에서도 일어나므로 트리거로 총 재고 수량을 증감
+DROP TRIGGER IF EXISTS trg_supplier_order_ledger_insert;
+CREATE TRIGGER trg_supplier_order_ledger_insert AFTER INSERT ON supplier_order FOR EACH ROW
+    INSERT INTO inventory_ledger (supplier_code, product_code, total_quantity, no_return_quantity, discard_quantity, modified_at)
+    VALUES (NEW.classification_code, NEW.product_code, NEW.order_mount, 0, 0, NOW())
+    ON DUPLICATE KEY UPDATE total_quantity = total_quantity + NEW.order_mount, modified_at = NOW();
+
+DROP TRIGGER IF EXISTS trg_supplier_order_ledger_update;
+CREATE TRIGGER trg_supplier_order_ledger_update AFTER UPDATE ON supplier_order FOR EACH ROW
+    UPDATE inventory_ledger
+    SET total_quantity = total_quantity
+            - IF(supplier_code = OLD.classification_code AND product_code = OLD.product_code, OLD.order_mount, 0)
+            + IF(supplier_code = NEW.classification_code AND product_code = NEW.product_code, NEW.order_mount, 0),
+        modified_at = NOW()
+    WHERE (supplier_code = OLD.classification_code AND product_code = OLD.product_code)
+       OR (supplier_code = NEW.classification_code AND product_code = NEW.product_code);
+
+DROP TRIGGER IF EXISTS trg_supplier_order_ledger_delete;
+CREATE TRIGGER trg_supplier_order_ledger_delete AFTER DELETE ON supplier_order FOR EACH ROW
+    UPDATE inventory_ledger
+    SET total_quantity = total_quantity - OLD.order_mount, modified_at = NOW()
+    WHERE supplier_code = OLD.classification_code AND product_code = OLD.product_code;
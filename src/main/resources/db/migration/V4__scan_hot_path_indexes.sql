@@ -0,0 +1,43 @@
+-- 스캔 처리 중 반복 실행되는 조회(hot path)들의 조건 / 정렬 순서에 맞춘 복합 인덱스
+-- ProductDetailQueryDataV2.checkRemainProductDetail 은 제품 고유 코드 유니크 키(V2, uk_product_detail_serial)로 한 건만 조회되므로 추가 인덱스 없음
+-- 엔티티의 @Table(indexes) 로 hibernate ddl 이 먼저 만들었을 수 있으므로 없는 인덱스만 추가
+
+-- ScanDataQueryDataV3.getLatestRfidScanHistory : 공급사 / 제품 조건 + createdAt 역순 최신 1 건 (정렬 없이 인덱스 끝에서 바로 조회)
+SET @idx_rfid_scan_history_latest_exists = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'rfid_scan_history' AND index_name = 'idx_rfid_scan_history_latest'
+);
+SET @idx_rfid_scan_history_latest_ddl = IF(@idx_rfid_scan_history_latest_exists = 0, 'CREATE INDEX idx_rfid_scan_history_latest ON rfid_scan_history (supplier_code, product_code, created_at)', 'SELECT 1');
+PREPARE idx_rfid_scan_history_latest_stmt FROM @idx_rfid_scan_history_latest_ddl;
+EXECUTE idx_rfid_scan_history_latest_stmt;
+DEALLOCATE PREPARE idx_rfid_scan_history_latest_stmt;
+
+-- checkSameCycleScanHistory : 제품 / 고객사 / 공급사 / 사이클 조건 (status 까지 넣으면 인덱스 키 길이 3072 byte 를 넘으므로 제외)
+SET @idx_product_detail_history_cycle_exists = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product_detail_history' AND index_name = 'idx_product_detail_history_cycle'
+);
+SET @idx_product_detail_history_cycle_ddl = IF(@idx_product_detail_history_cycle_exists = 0, 'CREATE INDEX idx_product_detail_history_cycle ON product_detail_history (supplier_code, product_code, client_code, cycle)', 'SELECT 1');
+PREPARE idx_product_detail_history_cycle_stmt FROM @idx_product_detail_history_cycle_ddl;
+EXECUTE idx_product_detail_history_cycle_stmt;
+DEALLOCATE PREPARE idx_product_detail_history_cycle_stmt;
+
+-- ProductDetailHistoryQueryDataV2.checkPreviewHistory : 제품 고유 코드 / 사이클 조건
+SET @idx_product_detail_history_serial_exists = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product_detail_history' AND index_name = 'idx_product_detail_history_serial'
+);
+SET @idx_product_detail_history_serial_ddl = IF(@idx_product_detail_history_serial_exists = 0, 'CREATE INDEX idx_product_detail_history_serial ON product_detail_history (product_serial_code, cycle)', 'SELECT 1');
+PREPARE idx_product_detail_history_serial_stmt FROM @idx_product_detail_history_serial_ddl;
+EXECUTE idx_product_detail_history_serial_stmt;
+DEALLOCATE PREPARE idx_product_detail_history_serial_stmt;
+
+-- DiscardHistoryQueryDataV2.checkProductDiscard : 제품 고유 코드 / 제품 분류 코드 조건
+SET @idx_discard_history_serial_exists = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'discard_history' AND index_name = 'idx_discard_history_serial'
+);
+SET @idx_discard_history_serial_ddl = IF(@idx_discard_history_serial_exists = 0, 'CREATE INDEX idx_discard_history_serial ON discard_history (product_serial_code, product_code)', 'SELECT 1');
+PREPARE idx_discard_history_serial_stmt FROM @idx_discard_history_serial_ddl;
+EXECUTE idx_discard_history_serial_stmt;
+DEALLOCATE PREPARE idx_discard_history_serial_stmt;
@@ -0,0 +1,14 @@
+-- 공급사 주문 변경 트리거 수정 (V3__inventory_ledger.sql)
+-- 기존 트리거는 UPDATE 만 하므로 공급사 / 제품 코드가 원장 row 가 없는 조합으로 바뀌면 새 조합의 주문 수량이 원장에 반영되지 않았음
+-- 이전 조합에서는 이전 주문 수량을 빼고, 새 조합에는 등록 트리거와 같이 upsert 로 새 주문 수량을 더함 (같은 조합이면 차이만큼 증감)
+DROP TRIGGER IF EXISTS trg_supplier_order_ledger_update;
+CREATE TRIGGER trg_supplier_order_ledger_update AFTER UPDATE ON supplier_order FOR EACH ROW
+BEGIN
+    UPDATE inventory_ledger
+    SET total_quantity = total_quantity - OLD.order_mount, modified_at = NOW()
+    WHERE supplier_code = OLD.classification_code AND product_code = OLD.product_code;
+
+    INSERT INTO inventory_ledger (supplier_code, product_code, total_quantity, no_return_quantity, discard_quantity, modified_at)
+    VALUES (NEW.classification_code, NEW.product_code, NEW.order_mount, 0, 0, NOW())
+    ON DUPLICATE KEY UPDATE total_quantity = total_quantity + NEW.order_mount, modified_at = NOW();
+END;
@@ -0,0 +1,56 @@
+package com.rfid.circularlabs_rfid_backend.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import redis.embedded.RedisServer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.ServerSocket;
+
+@Configuration
+public class EmbeddedRedisConfig {
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedRedisConfig.class);
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // [테스트용 내장 Redis]
+    // 테스트 실행 시 spring.redis.port 로 내장 Redis 서버를 띄워 별도의 Redis 설치 없이 캐시 / 세션을 사용
+    // 이미 해당 포트에 Redis 가 떠 있으면 그대로 사용
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final int redisPort;
+    private RedisServer redisServer;
+
+    public EmbeddedRedisConfig(@Value("${spring.redis.port}") int redisPort) {
+        this.redisPort = redisPort;
+    }
+
+    @PostConstruct
+    public void startRedis() {
+        if (isPortInUse(redisPort)) {
+            log.info("{} 포트에 실행 중인 Redis 사용", redisPort);
+            return;
+        }
+
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @PreDestroy
+    public void stopRedis() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    private static boolean isPortInUse(int port) {
+        try (ServerSocket ignored = new ServerSocket(port)) {
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.rfid.circularlabs_rfid_backend.device;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rfid.circularlabs_rfid_backend.configuration.EmbeddedRedisConfig;
+import com.rfid.circularlabs_rfid_backend.device.response.DeviceResponseDto;
+import com.rfid.circularlabs_rfid_backend.device.service.DeviceConfirmCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// DB 없이 캐시와 내장 Redis 만 띄워 검사 (DB 는 loader 로 대신하고, 주기적인 테이블 변경 확인에만 쓰이는 JPAQueryFactory 는 mock)
+@SpringBootTest(classes = {
+        DeviceConfirmCache.class,
+        EmbeddedRedisConfig.class,
+        RedisAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        DeviceConfirmCacheTest.MeterConfig.class
+})
+class DeviceConfirmCacheTest {
+
+    @TestConfiguration
+    static class MeterConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static final String DEVICE_CODE = "TEST-DEVICE-CACHE";
+    private static final String SUPPLIER_CODE = "TEST-SUPPLIER-CACHE";
+
+    @Autowired
+    private DeviceConfirmCache deviceConfirmCache;
+
+    @MockBean
+    private JPAQueryFactory jpaQueryFactory;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final Supplier<DeviceResponseDto> loader = () -> {
+        loadCount.incrementAndGet();
+        return DeviceResponseDto.builder()
+                .supplierId(1L)
+                .supplierCode(SUPPLIER_CODE)
+                .supplierName("테스트 공급사")
+                .clients(new ArrayList<>())
+                .productsInfo(new ArrayList<>())
+                .build();
+    };
+
+    @AfterEach
+    void clear() {
+        deviceConfirmCache.evictDevice(DEVICE_CODE);
+    }
+
+    @Test
+    void servesRepeatedRequestsFromCache() {
+        deviceConfirmCache.get(DEVICE_CODE, loader);
+        deviceConfirmCache.get(DEVICE_CODE, loader);
+
+        assertEquals(1, loadCount.get());
+
+        // 다른 서버에서 L1 만 비워진 상황 : Redis(L2) 에서 조회되므로 DB 조회 없음
+        deviceConfirmCache.onMessage(new DefaultMessage(
+                "confirm:device:invalidate".getBytes(StandardCharsets.UTF_8), "*".getBytes(StandardCharsets.UTF_8)), null);
+        DeviceResponseDto fromRedis = deviceConfirmCache.get(DEVICE_CODE, loader);
+
+        assertEquals(1, loadCount.get());
+        assertEquals(SUPPLIER_CODE, fromRedis.getSupplierCode());
+    }
+
+    @Test
+    void reloadsAfterSupplierInvalidation() {
+        deviceConfirmCache.get(DEVICE_CODE, loader);
+        deviceConfirmCache.evictSupplier(SUPPLIER_CODE);
+        deviceConfirmCache.get(DEVICE_CODE, loader);
+
+        assertEquals(2, loadCount.get());
+    }
+}